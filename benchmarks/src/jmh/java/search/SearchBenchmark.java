@@ -0,0 +1,92 @@
+package search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Benchmarks the searches of sorted arrays of ints with {@link BinarySearch},
+ * {@link ExponentialSearch}, {@link InterpolationSearch} and a {@link StaticBPlusTree} against
+ * {@link Arrays#binarySearch(int[], int)}. Every invocation looks up the same {@code QUERIES}
+ * random keys, half of them present in the array, in an array of uniformly distributed values.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    /**
+     * Number of keys looked up by each invocation.
+     */
+    private static final int QUERIES = 1 << 12;
+
+    /**
+     * Seed of the random numbers, fixed so that every run searches the same arrays.
+     */
+    private static final long SEED = 42;
+
+    @Param({"1000", "1000000", "100000000"})
+    public int size;
+
+    private int[] array;
+
+    private int[] keys;
+
+    private StaticBPlusTree tree;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        array = random.ints(size).sorted().toArray();
+        keys = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++)
+            keys[i] = random.nextBoolean() ? array[random.nextInt(size)] : random.nextInt();
+        tree = new StaticBPlusTree(array);
+    }
+
+    @Benchmark
+    public long lowerBound() {
+        long sum = 0;
+        for (int key : keys)
+            sum += BinarySearch.lowerBound(array, key);
+        return sum;
+    }
+
+    @Benchmark
+    public long exponentialSearch() {
+        long sum = 0;
+        for (int key : keys)
+            sum += ExponentialSearch.search(array, key);
+        return sum;
+    }
+
+    @Benchmark
+    public long interpolationSearch() {
+        long sum = 0;
+        for (int key : keys)
+            sum += InterpolationSearch.search(array, key);
+        return sum;
+    }
+
+    @Benchmark
+    public long staticBPlusTree() {
+        long sum = 0;
+        for (int key : keys)
+            sum += tree.lowerBound(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long arraysBinarySearch() {
+        long sum = 0;
+        for (int key : keys)
+            sum += Arrays.binarySearch(array, key);
+        return sum;
+    }
+}
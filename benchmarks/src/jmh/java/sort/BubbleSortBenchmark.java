@@ -0,0 +1,55 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link BubbleSort}.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class BubbleSortBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    @Param
+    public ElementType type;
+
+    private Object source;
+
+    @Setup
+    public void setUp() {
+        source = Inputs.generate(type, distribution, size);
+    }
+
+    @Benchmark
+    public Object sort() {
+        Object array = type.copy(source);
+        switch (type) {
+            case INT:
+                BubbleSort.sort((int[]) array);
+                break;
+            case LONG:
+                BubbleSort.sort((long[]) array);
+                break;
+            case DOUBLE:
+                BubbleSort.sort((double[]) array);
+                break;
+            case BOXED:
+                BubbleSort.sort((Integer[]) array);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported element type: " + type);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,36 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the copy of the input array that every sort benchmark makes before sorting, so that it
+ * can be subtracted from their results.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class CopyBenchmark {
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param
+    public ElementType type;
+
+    private Object source;
+
+    @Setup
+    public void setUp() {
+        source = Inputs.generate(type, Distribution.RANDOM, size);
+    }
+
+    @Benchmark
+    public Object copy() {
+        return type.copy(source);
+    }
+}
@@ -0,0 +1,130 @@
+package sort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Shapes of the input arrays used by the benchmarks.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public enum Distribution {
+
+    /**
+     * Uniformly distributed values.
+     */
+    RANDOM {
+        @Override
+        long value(int index, int size, Random random, double[] zipf) {
+            return random.nextLong();
+        }
+    },
+
+    /**
+     * Values in ascending order.
+     */
+    SORTED {
+        @Override
+        long value(int index, int size, Random random, double[] zipf) {
+            return index;
+        }
+    },
+
+    /**
+     * Values in ascending order, except for about one in a hundred that is replaced by a random
+     * value, as in log segments that arrive slightly out of order.
+     */
+    NEARLY_SORTED {
+        @Override
+        long value(int index, int size, Random random, double[] zipf) {
+            return random.nextInt(100) == 0 ? random.nextInt(size) : index;
+        }
+    },
+
+    /**
+     * Values in descending order.
+     */
+    REVERSE {
+        @Override
+        long value(int index, int size, Random random, double[] zipf) {
+            return size - index;
+        }
+    },
+
+    /**
+     * Random values taken from a set of sixteen.
+     */
+    FEW_UNIQUE {
+        @Override
+        long value(int index, int size, Random random, double[] zipf) {
+            return random.nextInt(16);
+        }
+    },
+
+    /**
+     * Values that ascend up to the middle of the array and then descend.
+     */
+    ORGAN_PIPE {
+        @Override
+        long value(int index, int size, Random random, double[] zipf) {
+            return index < size / 2 ? index : size - index;
+        }
+    },
+
+    /**
+     * Random values whose frequency is inversely proportional to their rank, as in word counts.
+     */
+    ZIPF {
+        @Override
+        long value(int index, int size, Random random, double[] zipf) {
+            int rank = Arrays.binarySearch(zipf, random.nextDouble());
+            return rank < 0 ? -rank - 1 : rank;
+        }
+    };
+
+    /**
+     * Number of distinct values of the Zipf distribution.
+     */
+    private static final int ZIPF_RANKS = 1 << 16;
+
+    /**
+     * Returns the value at an index of an array with this distribution.
+     *
+     * @param index  the index of the value.
+     * @param size   the length of the array.
+     * @param random the source of random numbers.
+     * @param zipf   the cumulative probabilities of the Zipf ranks.
+     */
+    abstract long value(int index, int size, Random random, double[] zipf);
+
+    /**
+     * Returns an array of longs with this distribution. The same seed always gives the same array.
+     *
+     * @param size the length of the array.
+     * @param seed the seed of the random numbers.
+     */
+    public long[] longs(int size, long seed) {
+        Random random = new Random(seed);
+        double[] zipf = this == ZIPF ? zipf(Math.min(size, ZIPF_RANKS)) : null;
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++)
+            values[i] = value(i, size, random, zipf);
+        return values;
+    }
+
+    /**
+     * Returns the cumulative probabilities of a Zipf distribution with exponent one.
+     *
+     * @param ranks the number of distinct values.
+     */
+    private static double[] zipf(int ranks) {
+        double[] cumulative = new double[Math.max(ranks, 1)];
+        double sum = 0;
+        for (int rank = 0; rank < cumulative.length; rank++)
+            cumulative[rank] = sum += 1.0 / (rank + 1);
+        for (int rank = 0; rank < cumulative.length; rank++)
+            cumulative[rank] /= sum;
+        return cumulative;
+    }
+}
@@ -0,0 +1,93 @@
+package sort;
+
+/**
+ * Types of the elements of the input arrays used by the benchmarks.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public enum ElementType {
+
+    /**
+     * Primitive ints, the values of the distribution truncated to 32 bits.
+     */
+    INT {
+        @Override
+        Object array(long[] values) {
+            int[] array = new int[values.length];
+            for (int i = 0; i < values.length; i++)
+                array[i] = (int) values[i];
+            return array;
+        }
+
+        @Override
+        Object copy(Object array) {
+            return ((int[]) array).clone();
+        }
+    },
+
+    /**
+     * Primitive longs.
+     */
+    LONG {
+        @Override
+        Object array(long[] values) {
+            return values;
+        }
+
+        @Override
+        Object copy(Object array) {
+            return ((long[]) array).clone();
+        }
+    },
+
+    /**
+     * Primitive doubles.
+     */
+    DOUBLE {
+        @Override
+        Object array(long[] values) {
+            double[] array = new double[values.length];
+            for (int i = 0; i < values.length; i++)
+                array[i] = values[i];
+            return array;
+        }
+
+        @Override
+        Object copy(Object array) {
+            return ((double[]) array).clone();
+        }
+    },
+
+    /**
+     * Boxed Integers, the values of the distribution truncated to 32 bits.
+     */
+    BOXED {
+        @Override
+        Object array(long[] values) {
+            Integer[] array = new Integer[values.length];
+            for (int i = 0; i < values.length; i++)
+                array[i] = (int) values[i];
+            return array;
+        }
+
+        @Override
+        Object copy(Object array) {
+            return ((Integer[]) array).clone();
+        }
+    };
+
+    /**
+     * Returns an array of this type with the given values.
+     *
+     * @param values the values of the array.
+     */
+    abstract Object array(long[] values);
+
+    /**
+     * Returns a shallow copy of an array of this type.
+     *
+     * @param array the array to be copied.
+     */
+    abstract Object copy(Object array);
+}
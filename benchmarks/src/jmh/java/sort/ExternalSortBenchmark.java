@@ -0,0 +1,49 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Benchmarks {@link ExternalSort} on boxed longs, with a memory budget small enough to spill most
+ * inputs to the default temporary directory.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class ExternalSortBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    @Param({"4194304"})
+    public long memoryBudget;
+
+    private Long[] source;
+
+    private long checksum;
+
+    @Setup
+    public void setUp() {
+        long[] values = (long[]) Inputs.generate(ElementType.LONG, distribution, size);
+        source = Arrays.stream(values).boxed().toArray(Long[]::new);
+    }
+
+    @Benchmark
+    public long sort() throws IOException {
+        checksum = 0;
+        ExternalSort.sort(Arrays.asList(source).iterator(), value -> checksum += value,
+                Comparator.naturalOrder(), ExternalSort.LONGS, memoryBudget);
+        return checksum;
+    }
+}
@@ -0,0 +1,55 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link HeapSort}.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class HeapSortBenchmark {
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    @Param
+    public ElementType type;
+
+    private Object source;
+
+    @Setup
+    public void setUp() {
+        source = Inputs.generate(type, distribution, size);
+    }
+
+    @Benchmark
+    public Object sort() {
+        Object array = type.copy(source);
+        switch (type) {
+            case INT:
+                HeapSort.sort((int[]) array);
+                break;
+            case LONG:
+                HeapSort.sort((long[]) array);
+                break;
+            case DOUBLE:
+                HeapSort.sort((double[]) array);
+                break;
+            case BOXED:
+                HeapSort.sort((Integer[]) array);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported element type: " + type);
+        }
+        return array;
+    }
+}
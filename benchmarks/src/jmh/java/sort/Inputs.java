@@ -0,0 +1,31 @@
+package sort;
+
+/**
+ * Builds the input arrays of the benchmarks. Every benchmark sorts a fresh copy of the same array,
+ * so the time of a benchmark includes one copy of the array; {@link CopyBenchmark} measures that
+ * copy on its own.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+final class Inputs {
+
+    /**
+     * Seed of the random numbers, fixed so that every run sorts the same arrays.
+     */
+    private static final long SEED = 42;
+
+    private Inputs() {
+    }
+
+    /**
+     * Returns an array of the given type, distribution and length.
+     *
+     * @param type         the type of the elements.
+     * @param distribution the shape of the values.
+     * @param size         the length of the array.
+     */
+    static Object generate(ElementType type, Distribution distribution, int size) {
+        return type.array(distribution.longs(size, SEED));
+    }
+}
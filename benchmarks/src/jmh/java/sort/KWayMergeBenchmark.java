@@ -0,0 +1,75 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * Benchmarks {@link KWayMerge} on an array split into sorted shards, draining the merged iterator.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class KWayMergeBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"2", "16", "256"})
+    public int ways;
+
+    @Param({"RANDOM"})
+    public Distribution distribution;
+
+    @Param({"INT", "BOXED"})
+    public ElementType type;
+
+    private int[][] ints;
+
+    private Integer[][] boxed;
+
+    @Setup
+    public void setUp() {
+        int[] values = (int[]) Inputs.generate(ElementType.INT, distribution, size);
+        ints = new int[ways][];
+        boxed = new Integer[ways][];
+        for (int way = 0; way < ways; way++) {
+            ints[way] = Arrays.copyOfRange(values, (int) ((long) size * way / ways),
+                    (int) ((long) size * (way + 1) / ways));
+            Arrays.sort(ints[way]);
+            boxed[way] = Arrays.stream(ints[way]).boxed().toArray(Integer[]::new);
+        }
+    }
+
+    @Benchmark
+    public long merge() {
+        long checksum = 0;
+        switch (type) {
+            case INT:
+                for (PrimitiveIterator.OfInt merged = KWayMerge.merge(ints); merged.hasNext(); )
+                    checksum += merged.nextInt();
+                break;
+            case BOXED:
+                List<Iterator<Integer>> inputs = new ArrayList<>(ways);
+                for (Integer[] shard : boxed)
+                    inputs.add(Arrays.asList(shard).iterator());
+                for (Iterator<Integer> merged = KWayMerge.merge(inputs, Comparator.naturalOrder());
+                     merged.hasNext(); )
+                    checksum += merged.next();
+                break;
+            default:
+                throw new IllegalStateException("Unsupported element type: " + type);
+        }
+        return checksum;
+    }
+}
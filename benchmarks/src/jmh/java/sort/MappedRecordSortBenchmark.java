@@ -0,0 +1,49 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Benchmarks {@link MappedRecordSort} on a direct buffer of 16 byte records, each made of an 8
+ * byte key followed by an 8 byte value.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class MappedRecordSortBenchmark {
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private ByteBuffer source;
+
+    private ByteBuffer records;
+
+    @Setup
+    public void setUp() {
+        long[] keys = (long[]) Inputs.generate(ElementType.LONG, distribution, size);
+        source = ByteBuffer.allocateDirect(16 * size);
+        for (int i = 0; i < size; i++)
+            source.putLong(keys[i] ^ Long.MIN_VALUE).putLong(i);
+        source.flip();
+        records = ByteBuffer.allocateDirect(16 * size);
+    }
+
+    @Benchmark
+    public Object sort() {
+        records.clear();
+        records.put(source.duplicate());
+        records.flip();
+        MappedRecordSort.sort(records, 16, 0, 8);
+        return records;
+    }
+}
@@ -0,0 +1,58 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link PartialSort#partialSort}, which sorts only the {@code k} smallest elements.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class PartialSortBenchmark {
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    @Param
+    public ElementType type;
+
+    @Param({"100"})
+    public int k;
+
+    private Object source;
+
+    @Setup
+    public void setUp() {
+        source = Inputs.generate(type, distribution, size);
+    }
+
+    @Benchmark
+    public Object sort() {
+        Object array = type.copy(source);
+        switch (type) {
+            case INT:
+                PartialSort.partialSort((int[]) array, Math.min(k, size));
+                break;
+            case LONG:
+                PartialSort.partialSort((long[]) array, Math.min(k, size));
+                break;
+            case DOUBLE:
+                PartialSort.partialSort((double[]) array, Math.min(k, size));
+                break;
+            case BOXED:
+                PartialSort.partialSort((Integer[]) array, Math.min(k, size));
+                break;
+            default:
+                throw new IllegalStateException("Unsupported element type: " + type);
+        }
+        return array;
+    }
+}
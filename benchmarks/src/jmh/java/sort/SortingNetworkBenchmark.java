@@ -0,0 +1,91 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Comparator;
+
+/**
+ * Benchmarks {@link SortingNetwork} against {@link InsertionSort} on many small arrays: an array of
+ * {@code BLOCKS * size} elements is sorted one block of {@code size} elements at a time.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class SortingNetworkBenchmark {
+
+    /**
+     * Number of small arrays sorted by each invocation.
+     */
+    private static final int BLOCKS = 1 << 12;
+
+    @Param({"4", "8", "12", "16"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    @Param
+    public ElementType type;
+
+    private Object source;
+
+    @Setup
+    public void setUp() {
+        source = Inputs.generate(type, distribution, BLOCKS * size);
+    }
+
+    @Benchmark
+    public Object sort() {
+        Object array = type.copy(source);
+        for (int from = 0; from < BLOCKS * size; from += size) {
+            switch (type) {
+                case INT:
+                    SortingNetwork.sort((int[]) array, from, from + size);
+                    break;
+                case LONG:
+                    SortingNetwork.sort((long[]) array, from, from + size);
+                    break;
+                case DOUBLE:
+                    SortingNetwork.sort((double[]) array, from, from + size);
+                    break;
+                case BOXED:
+                    SortingNetwork.sort((Integer[]) array, from, from + size,
+                            Comparator.naturalOrder());
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported element type: " + type);
+            }
+        }
+        return array;
+    }
+
+    @Benchmark
+    public Object insertionSort() {
+        Object array = type.copy(source);
+        for (int from = 0; from < BLOCKS * size; from += size) {
+            switch (type) {
+                case INT:
+                    InsertionSort.sort((int[]) array, from, from + size);
+                    break;
+                case LONG:
+                    InsertionSort.sort((long[]) array, from, from + size);
+                    break;
+                case DOUBLE:
+                    InsertionSort.sort((double[]) array, from, from + size);
+                    break;
+                case BOXED:
+                    InsertionSort.sort((Integer[]) array, from, from + size,
+                            Comparator.naturalOrder());
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported element type: " + type);
+            }
+        }
+        return array;
+    }
+}
@@ -0,0 +1,59 @@
+package sort;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link VectorizedSort}. The sort has no doubles, so the {@code DOUBLE} inputs are
+ * narrowed to floats.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+@State(Scope.Benchmark)
+public class VectorizedSortBenchmark {
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    @Param({"INT", "DOUBLE"})
+    public ElementType type;
+
+    private Object source;
+
+    @Setup
+    public void setUp() {
+        source = Inputs.generate(type, distribution, size);
+        if (type == ElementType.DOUBLE) {
+            double[] doubles = (double[]) source;
+            float[] floats = new float[doubles.length];
+            for (int i = 0; i < doubles.length; i++)
+                floats[i] = (float) doubles[i];
+            source = floats;
+        }
+    }
+
+    @Benchmark
+    public Object sort() {
+        switch (type) {
+            case INT: {
+                int[] array = ((int[]) source).clone();
+                VectorizedSort.sort(array);
+                return array;
+            }
+            case DOUBLE: {
+                float[] array = ((float[]) source).clone();
+                VectorizedSort.sort(array);
+                return array;
+            }
+            default:
+                throw new IllegalStateException("Unsupported element type: " + type);
+        }
+    }
+}
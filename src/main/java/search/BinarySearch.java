@@ -1,14 +1,27 @@
 package search;
 
+import java.util.Comparator;
+
 /**
  * Binary search is a search algorithm that finds the position of a target value within a sorted
  * array. Binary search compares the target value to the middle element of the array; if they are
  * unequal, the half in which the target cannot lie is eliminated and the search continues on the
  * remaining half until it is successful.
+ * <p>
+ * The bound searches return an insertion index rather than a match: the lower bound is the index
+ * of the first element not less than the key and the upper bound the index of the first element
+ * greater than it, so the copies of the key lie between them. They are iterative and make a
+ * single comparison per level, and the loop only decides whether the base of the remaining range
+ * moves forward, which the JIT compiles to a conditional move instead of a branch that the
+ * processor mispredicts half the time on random keys. The length of the range halves at every
+ * step whatever the outcome, so the number of iterations depends only on the length of the array.
+ * Doubles are ordered as by {@link Double#compare(double, double)}: -0.0 comes before 0.0 and NaN
+ * comes after positive infinity.
  *
- * Average case = O(log n) Worst case = O(log n) Best case = O(1)
+ * Average case = O(log n) Worst case = O(log n) Best case = O(log n)
  *
- * Reference: https://en.wikipedia.org/wiki/Binary_search_algorithm
+ * Reference: https://en.wikipedia.org/wiki/Binary_search_algorithm, Array Layouts for
+ * Comparison-Based Searching by Khuong and Morin
  *
  * @author Samuel Yanez <samuelyanez94@gmail.com>
  */
@@ -23,33 +36,247 @@ public class BinarySearch {
      * @param list   the array of Comparable objects to be searched
      */
     public static <T extends Comparable<T>> boolean search(T target, T... list) {
-        return search(target, 0, list.length - 1, list);
+        int index = lowerBound(list, 0, list.length, target, Comparator.naturalOrder());
+        return index < list.length && list[index].compareTo(target) == 0;
     }
 
     /**
-     * Iterates through an array of Comparable objects and returns true if the value being searched
-     * for is in the array.
+     * Returns the index of the first element of a sorted array of objects that is not less than a
+     * key, according to the order induced by a comparator.
      *
-     * @param target the value being searched
-     * @param min    the lower index of the sub-array being searched.
-     * @param max    the upper index of the sub-array being searched.
-     * @param list   the array of Comparable objects to be searched
-     * @return true if the value is found. False otherwise.
+     * @param array      the array, sorted by the comparator.
+     * @param key        the key being searched.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static <T> int lowerBound(T[] array, T key, Comparator<? super T> comparator) {
+        return lowerBound(array, 0, array.length, key, comparator);
+    }
+
+    /**
+     * Returns the index of the first element of a sorted array of objects that is greater than a
+     * key, according to the order induced by a comparator.
+     *
+     * @param array      the array, sorted by the comparator.
+     * @param key        the key being searched.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return the index at which the key would be inserted after its copies, between 0 and
+     * {@code array.length}.
      */
-    private static <T extends Comparable<T>> boolean search(T target, int min, int max, T... list) {
-        if (min > max)
-            return false;
+    public static <T> int upperBound(T[] array, T key, Comparator<? super T> comparator) {
+        int length = array.length;
+        if (length == 0)
+            return 0;
 
-        int middle = (min + max) / 2;
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = comparator.compare(array[base + half], key) <= 0 ? base + half : base;
+            length -= half;
+        }
+        return comparator.compare(array[base], key) <= 0 ? base + 1 : base;
+    }
 
-        if (list[middle].compareTo(target) == 0)
-            return true;
+    /**
+     * Returns the index of the first value of a sorted array of ints that is not less than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int lowerBound(int[] array, int key) {
+        return lowerBound(array, 0, array.length, key);
+    }
 
-        else if (list[middle].compareTo(target) < 0)
-            return search(target, middle + 1, max, list);
+    /**
+     * Returns the index of the first value of a sorted array of ints that is greater than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted after its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int upperBound(int[] array, int key) {
+        int length = array.length;
+        if (length == 0)
+            return 0;
 
-        else
-            return search(target, min, middle - 1, list);
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = array[base + half] <= key ? base + half : base;
+            length -= half;
+        }
+        return array[base] <= key ? base + 1 : base;
     }
 
+    /**
+     * Returns the index of the first value of a sorted array of longs that is not less than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int lowerBound(long[] array, long key) {
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of longs that is greater than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted after its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int upperBound(long[] array, long key) {
+        int length = array.length;
+        if (length == 0)
+            return 0;
+
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = array[base + half] <= key ? base + half : base;
+            length -= half;
+        }
+        return array[base] <= key ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of doubles that is not less than a
+     * key, as by {@link Double#compare}.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int lowerBound(double[] array, double key) {
+        return lowerBound(array, 0, array.length, key);
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of doubles that is greater than a
+     * key, as by {@link Double#compare}.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted after its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int upperBound(double[] array, double key) {
+        int length = array.length;
+        if (length == 0)
+            return 0;
+
+        int base = 0;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = Double.compare(array[base + half], key) <= 0 ? base + half : base;
+            length -= half;
+        }
+        return Double.compare(array[base], key) <= 0 ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first element of a sorted range of an array of objects that is not
+     * less than a key. The range is not checked.
+     *
+     * @param array      the array.
+     * @param from       the index of the first element of the range, inclusive.
+     * @param to         the index of the last element of the range, exclusive.
+     * @param key        the key being searched.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return an index between {@code from} and {@code to}.
+     */
+    static <T> int lowerBound(T[] array, int from, int to, T key,
+                              Comparator<? super T> comparator) {
+        int length = to - from;
+        if (length == 0)
+            return from;
+
+        int base = from;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = comparator.compare(array[base + half], key) < 0 ? base + half : base;
+            length -= half;
+        }
+        return comparator.compare(array[base], key) < 0 ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range of an array of ints that is not less
+     * than a key. The range is not checked.
+     *
+     * @param array the array.
+     * @param from  the index of the first value of the range, inclusive.
+     * @param to    the index of the last value of the range, exclusive.
+     * @param key   the key being searched.
+     * @return an index between {@code from} and {@code to}.
+     */
+    static int lowerBound(int[] array, int from, int to, int key) {
+        int length = to - from;
+        if (length == 0)
+            return from;
+
+        int base = from;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = array[base + half] < key ? base + half : base;
+            length -= half;
+        }
+        return array[base] < key ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range of an array of longs that is not less
+     * than a key. The range is not checked.
+     *
+     * @param array the array.
+     * @param from  the index of the first value of the range, inclusive.
+     * @param to    the index of the last value of the range, exclusive.
+     * @param key   the key being searched.
+     * @return an index between {@code from} and {@code to}.
+     */
+    static int lowerBound(long[] array, int from, int to, long key) {
+        int length = to - from;
+        if (length == 0)
+            return from;
+
+        int base = from;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = array[base + half] < key ? base + half : base;
+            length -= half;
+        }
+        return array[base] < key ? base + 1 : base;
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range of an array of doubles that is not
+     * less than a key, as by {@link Double#compare}. The range is not checked.
+     *
+     * @param array the array.
+     * @param from  the index of the first value of the range, inclusive.
+     * @param to    the index of the last value of the range, exclusive.
+     * @param key   the key being searched.
+     * @return an index between {@code from} and {@code to}.
+     */
+    static int lowerBound(double[] array, int from, int to, double key) {
+        int length = to - from;
+        if (length == 0)
+            return from;
+
+        int base = from;
+        while (length > 1) {
+            int half = length >>> 1;
+            base = Double.compare(array[base + half], key) < 0 ? base + half : base;
+            length -= half;
+        }
+        return Double.compare(array[base], key) < 0 ? base + 1 : base;
+    }
 }
\ No newline at end of file
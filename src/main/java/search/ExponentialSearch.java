@@ -0,0 +1,98 @@
+package search;
+
+import java.util.Comparator;
+
+/**
+ * Exponential search, also known as galloping search, finds the lower bound of a key in a sorted
+ * array by probing the elements at indices 0, 2, 6, 14 and so on, doubling the step each time,
+ * until it passes an element that is not less than the key. The key then lies in the last step,
+ * which is searched with {@link BinarySearch}. The search takes time logarithmic in the index of
+ * the answer rather than in the length of the array, so it beats a binary search when the key is
+ * near the front, as when merging sorted runs or searching an unbounded sequence.
+ * <p>
+ * Like the bound searches of {@link BinarySearch}, it returns the index of the first element not
+ * less than the key, between 0 and the length of the array. Doubles are ordered as by
+ * {@link Double#compare(double, double)}: -0.0 comes before 0.0 and NaN comes after positive
+ * infinity.
+ *
+ * Average case = O(log i) Worst case = O(log i) Best case = O(1)
+ *
+ * NOTE: i is the index returned by the search
+ *
+ * Reference: An Almost Optimal Algorithm for Unbounded Searching by Bentley and Yao
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class ExponentialSearch {
+
+    /**
+     * Returns the index of the first element of a sorted array of objects that is not less than a
+     * key, according to the order induced by a comparator.
+     *
+     * @param array      the array, sorted by the comparator.
+     * @param key        the key being searched.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static <T> int search(T[] array, T key, Comparator<? super T> comparator) {
+        // The bound is always one less than a power of two, so it reaches the largest int
+        // without overflowing, and the previous bound is half of it
+        int length = array.length;
+        int bound = 1;
+        while (bound <= length && comparator.compare(array[bound - 1], key) < 0)
+            bound = 2 * bound + 1;
+        return BinarySearch.lowerBound(array, bound >>> 1, Math.min(bound - 1, length), key,
+                comparator);
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of ints that is not less than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int search(int[] array, int key) {
+        int length = array.length;
+        int bound = 1;
+        while (bound <= length && array[bound - 1] < key)
+            bound = 2 * bound + 1;
+        return BinarySearch.lowerBound(array, bound >>> 1, Math.min(bound - 1, length), key);
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of longs that is not less than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int search(long[] array, long key) {
+        int length = array.length;
+        int bound = 1;
+        while (bound <= length && array[bound - 1] < key)
+            bound = 2 * bound + 1;
+        return BinarySearch.lowerBound(array, bound >>> 1, Math.min(bound - 1, length), key);
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of doubles that is not less than a
+     * key, as by {@link Double#compare}.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int search(double[] array, double key) {
+        int length = array.length;
+        int bound = 1;
+        while (bound <= length && Double.compare(array[bound - 1], key) < 0)
+            bound = 2 * bound + 1;
+        return BinarySearch.lowerBound(array, bound >>> 1, Math.min(bound - 1, length), key);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package search;
+
+/**
+ * Interpolation search finds the lower bound of a numeric key in a sorted array by guessing where
+ * the key should be from the values at both ends of the range, the way one looks up a name in a
+ * phone book, instead of always probing the middle. On keys drawn uniformly at random the guesses
+ * close in on the answer in O(log log n) probes, each of them a cache miss on a large array,
+ * against the log n probes of a {@link BinarySearch}.
+ * <p>
+ * On skewed keys the guesses can be far off and an unguarded interpolation search degrades to a
+ * linear scan, so every probe that fails to halve the range is followed by a bisection step, which
+ * keeps the worst case logarithmic. Small ranges are finished by binary search. The search returns
+ * the index of the first value not less than the key, between 0 and the length of the array.
+ * Doubles are ordered as by {@link Double#compare(double, double)}: -0.0 comes before 0.0 and NaN
+ * comes after positive infinity.
+ *
+ * Average case = O(log log n) Worst case = O(log n) Best case = O(1)
+ *
+ * NOTE: the average case holds for uniformly distributed keys
+ *
+ * Reference: Interpolation Search - A Log Log N Search by Perl, Itai and Avni
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class InterpolationSearch {
+
+    /**
+     * Ranges shorter than this are searched with a binary search.
+     */
+    static final int BINARY_SEARCH_THRESHOLD = 16;
+
+    /**
+     * Returns the index of the first value of a sorted array of ints that is not less than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int search(int[] array, int key) {
+        int from = 0;
+        int to = array.length;
+        while (to - from >= BINARY_SEARCH_THRESHOLD) {
+            int low = array[from];
+            int high = array[to - 1];
+            if (key <= low)
+                return from;
+            if (key > high)
+                return to;
+
+            int length = to - from;
+            int probe = probe(from, to, (double) ((long) key - low) / ((long) high - low));
+            if (array[probe] < key)
+                from = probe + 1;
+            else
+                to = probe;
+
+            if (to - from > length >>> 1) {
+                int middle = (from + to) >>> 1;
+                if (array[middle] < key)
+                    from = middle + 1;
+                else
+                    to = middle;
+            }
+        }
+        return BinarySearch.lowerBound(array, from, to, key);
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of longs that is not less than a key.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int search(long[] array, long key) {
+        int from = 0;
+        int to = array.length;
+        while (to - from >= BINARY_SEARCH_THRESHOLD) {
+            long low = array[from];
+            long high = array[to - 1];
+            if (key <= low)
+                return from;
+            if (key > high)
+                return to;
+
+            // The differences are taken in doubles, since they may not fit in a long
+            int length = to - from;
+            int probe = probe(from, to, ((double) key - low) / ((double) high - low));
+            if (array[probe] < key)
+                from = probe + 1;
+            else
+                to = probe;
+
+            if (to - from > length >>> 1) {
+                int middle = (from + to) >>> 1;
+                if (array[middle] < key)
+                    from = middle + 1;
+                else
+                    to = middle;
+            }
+        }
+        return BinarySearch.lowerBound(array, from, to, key);
+    }
+
+    /**
+     * Returns the index of the first value of a sorted array of doubles that is not less than a
+     * key, as by {@link Double#compare}.
+     *
+     * @param array the array, in ascending order.
+     * @param key   the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@code array.length}.
+     */
+    public static int search(double[] array, double key) {
+        int from = 0;
+        int to = array.length;
+        while (to - from >= BINARY_SEARCH_THRESHOLD) {
+            double low = array[from];
+            double high = array[to - 1];
+            if (Double.compare(key, low) <= 0)
+                return from;
+            if (Double.compare(key, high) > 0)
+                return to;
+
+            // Infinities and NaNs make the guess NaN, which probes the front of the range
+            int length = to - from;
+            int probe = probe(from, to, (key - low) / (high - low));
+            if (Double.compare(array[probe], key) < 0)
+                from = probe + 1;
+            else
+                to = probe;
+
+            if (to - from > length >>> 1) {
+                int middle = (from + to) >>> 1;
+                if (Double.compare(array[middle], key) < 0)
+                    from = middle + 1;
+                else
+                    to = middle;
+            }
+        }
+        return BinarySearch.lowerBound(array, from, to, key);
+    }
+
+    /**
+     * Returns the index of a range at a given fraction of its length, clamped to the range.
+     *
+     * @param from     the index of the first value of the range, inclusive.
+     * @param to       the index of the last value of the range, exclusive.
+     * @param fraction the position of the key between the first and the last value of the range.
+     */
+    private static int probe(int from, int to, double fraction) {
+        if (!(fraction > 0))
+            return from;
+        if (fraction >= 1)
+            return to - 1;
+        return from + (int) (fraction * (to - 1 - from));
+    }
+}
\ No newline at end of file
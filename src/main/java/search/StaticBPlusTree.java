@@ -0,0 +1,146 @@
+package search;
+
+/**
+ * A static B+ tree is a read-only search index over a sorted array of ints that answers the same
+ * lower bound queries as {@link BinarySearch} with far fewer cache misses. A binary search of a
+ * large array touches a new cache line, and often a new page, at almost every one of its log n
+ * levels. The tree instead packs its keys into nodes of {@code B} keys that each fill one cache
+ * line and branch {@code B + 1} ways, so a lookup reads only the log(n) / log(B + 1) nodes on one
+ * path from the root to a leaf: 7 nodes instead of 27 probes for a hundred million keys.
+ * <p>
+ * The tree is implicit: nodes hold no pointers, and the children of node {@code k} are the nodes
+ * {@code k * (B + 1)} to {@code k * (B + 1) + B} of the layer below. The leaves are a copy of the
+ * sorted array padded to a whole number of nodes, so the lower bound of a key is the position of
+ * its leaf node plus the number of leaf keys less than it. Key {@code i} of an internal node is
+ * the smallest key of its child {@code i + 1}, and the search descends into the child given by
+ * the number of keys less than the key being searched. That count is taken over all the keys of
+ * the node without branching on them, which keeps the processor from mispredicting a branch at
+ * every level and lets it overlap the work of each node with the load of the next. The index
+ * takes about 1 + 1 / B times the memory of the array.
+ *
+ * Average case = O(log n) Worst case = O(log n) Best case = O(log n)
+ *
+ * NOTE: building the index takes O(n) time
+ *
+ * Reference: Array Layouts for Comparison-Based Searching by Khuong and Morin,
+ * https://en.algorithmica.org/hpc/data-structures/s-tree/
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public final class StaticBPlusTree {
+
+    /**
+     * Number of keys of a node: sixteen ints fill one 64-byte cache line.
+     */
+    static final int B = 16;
+
+    /**
+     * Layers of the tree, from the leaves up to the root, each one made of whole nodes.
+     */
+    private final int[][] layers;
+
+    /**
+     * Number of keys of the index.
+     */
+    private final int size;
+
+    /**
+     * Creates an index over a sorted array of ints. The array is copied, so later changes to it
+     * are not seen by the index.
+     *
+     * @param array the array, in ascending order.
+     * @throws IllegalArgumentException if the array is not in ascending order.
+     */
+    public StaticBPlusTree(int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i])
+                throw new IllegalArgumentException("The array is not sorted at index " + i);
+        }
+        size = array.length;
+
+        int height = 1;
+        for (int nodes = nodes(size); nodes > 1; nodes = (nodes + B) / (B + 1))
+            height++;
+        layers = new int[height][];
+
+        // Padding the leaves with the largest int keeps the count of keys less than any key
+        // within the keys of the array
+        int[] leaves = new int[Math.max(nodes(size), 1) * B];
+        System.arraycopy(array, 0, leaves, 0, size);
+        for (int i = size; i < leaves.length; i++)
+            leaves[i] = Integer.MAX_VALUE;
+        layers[0] = leaves;
+
+        // The keys of layer h are the first keys of subtrees spanning (B + 1)^(h - 1) leaves
+        long span = B;
+        for (int h = 1; h < height; h++) {
+            int children = layers[h - 1].length / B;
+            int[] layer = new int[(children + B) / (B + 1) * B];
+            for (int node = 0; node < layer.length / B; node++) {
+                for (int i = 0; i < B; i++) {
+                    long first = (node * (B + 1L) + i + 1) * span;
+                    layer[node * B + i] = first < size ? leaves[(int) first] : Integer.MAX_VALUE;
+                }
+            }
+            layers[h] = layer;
+            span *= B + 1;
+        }
+    }
+
+    /**
+     * Returns the number of keys of the index.
+     *
+     * @return the length of the array the index was built from.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the first key that is not less than a given one, in the sorted array
+     * the index was built from.
+     *
+     * @param key the key being searched.
+     * @return the index at which the key would be inserted before its copies, between 0 and
+     * {@link #size()}.
+     */
+    public int lowerBound(int key) {
+        int node = 0;
+        for (int h = layers.length - 1; h > 0; h--)
+            node = node * (B + 1) + count(layers[h], node * B, key);
+        return Math.min(node * B + count(layers[0], node * B, key), size);
+    }
+
+    /**
+     * Returns whether the index holds a given key.
+     *
+     * @param key the key being searched.
+     * @return true if the key is in the index. False otherwise.
+     */
+    public boolean contains(int key) {
+        int index = lowerBound(key);
+        return index < size && layers[0][index] == key;
+    }
+
+    /**
+     * Returns the number of keys of a node that are less than a given key.
+     *
+     * @param layer the layer of the node.
+     * @param from  the index of the first key of the node in its layer.
+     * @param key   the key being compared.
+     */
+    private static int count(int[] layer, int from, int key) {
+        int count = 0;
+        for (int i = from; i < from + B; i++)
+            count += layer[i] < key ? 1 : 0;
+        return count;
+    }
+
+    /**
+     * Returns the number of nodes needed to hold a number of keys.
+     */
+    private static int nodes(int keys) {
+        return (keys + B - 1) / B;
+    }
+}
@@ -0,0 +1,566 @@
+package sort;
+
+import java.util.Comparator;
+
+/**
+ * Dual-pivot Quick sort partitions an array into three sub-arrays around two pivots p <= q: the
+ * elements less than p, the elements between p and q, and the elements greater than q. The three
+ * sub-arrays are then sorted independently. Compared with a single pivot, each partitioning pass
+ * moves the elements fewer times and makes better use of the cache, which is why this is the
+ * algorithm behind the JDK's sort for primitive arrays.
+ * <p>
+ * The pivots are the second and fourth of five evenly spaced elements. Small ranges are sorted by
+ * Insertion sort and ranges still unsorted after 2 log n levels are handed to {@link QuickSort},
+ * whose worst case is O(nlogn). The sort is not stable.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
+ *
+ * Reference: Dual-Pivot Quicksort by Vladimir Yaroslavskiy
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class DualPivotQuickSort {
+
+    /**
+     * Ranges with fewer elements than this are sorted by Insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 27;
+
+    /**
+     * Sorts an array of objects that implement Comparable using the Dual-pivot Quick sort
+     * algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Dual-pivot Quick sort algorithm. Elements outside of the range are left untouched.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, QuickSort.depthLimit(to - from), SortStats.counting(comparator),
+                unsorted);
+    }
+
+    /**
+     * Sorts an array of ints using the Dual-pivot Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of ints using the Dual-pivot Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(int[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, QuickSort.depthLimit(to - from), unsorted);
+    }
+
+    /**
+     * Sorts an array of longs using the Dual-pivot Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of longs using the Dual-pivot Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(long[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, QuickSort.depthLimit(to - from), unsorted);
+    }
+
+    /**
+     * Sorts an array of doubles using the Dual-pivot Quick sort algorithm. Values are
+     * ordered as by {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive
+     * infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of doubles using the Dual-pivot Quick sort algorithm. Values are
+     * ordered as by {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive
+     * infinity.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(double[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, QuickSort.depthLimit(to - from), unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of objects by using the Dual-pivot Quick sort algorithm.
+     *
+     * @param min        the lower index of the array to be sorted.
+     * @param max        the upper index of the array to be sorted.
+     * @param depth      the number of partitioning levels left before falling back to Quick sort.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param unsorted   the array to be sorted.
+     */
+    static <T> void sort(int min, int max, int depth, Comparator<? super T> comparator,
+                         T[] unsorted) {
+        if (max - min < INSERTION_SORT_THRESHOLD) {
+            if (min < max)
+                InsertionSort.binarySort(min, max + 1, min + 1, comparator, unsorted);
+            return;
+        }
+        if (depth == 0) {
+            QuickSort.sort(unsorted, min, max + 1, comparator);
+            return;
+        }
+
+        long bounds = partition(min, max, comparator, unsorted);
+        int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(min, lt - 1, depth - 1, comparator, unsorted);
+        if (comparator.compare(unsorted[lt], unsorted[gt]) < 0)
+            sort(lt + 1, gt - 1, depth - 1, comparator, unsorted);
+        sort(gt + 1, max, depth - 1, comparator, unsorted);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+    }
+
+    /**
+     * Partitions a range of an array of objects around two pivots p <= q, chosen as the second and
+     * fourth of five evenly spaced elements. Afterwards the elements of [min, lt) are less than p,
+     * the ones of (lt, gt) are between p and q, the ones of (gt, max] are greater than q, and p and
+     * q are at lt and gt.
+     *
+     * @param min        the lower index of the range.
+     * @param max        the upper index of the range.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array that contains the range.
+     * @return lt in the upper 32 bits and gt in the lower 32 bits.
+     */
+    static <T> long partition(int min, int max, Comparator<? super T> comparator, T[] array) {
+        int seventh = (max - min + 1) / 7;
+        int e3 = (min + max) >>> 1;
+        int e2 = e3 - seventh, e1 = e2 - seventh;
+        int e4 = e3 + seventh, e5 = e4 + seventh;
+        sortSample(e1, e2, e3, e4, e5, comparator, array);
+
+        swap(min, e2, array);
+        swap(max, e4, array);
+        compareExchange(min, max, comparator, array);
+        T p = array[min], q = array[max];
+
+        int lt = min + 1, gt = max - 1;
+        for (int i = lt; i <= gt; ) {
+            if (comparator.compare(array[i], p) < 0)
+                swap(lt++, i++, array);
+            else if (comparator.compare(q, array[i]) < 0)
+                swap(i, gt--, array);
+            else
+                i++;
+        }
+
+        swap(min, --lt, array);
+        swap(max, ++gt, array);
+        return (long) lt << 32 | gt;
+    }
+
+    /**
+     * Sorts the five sample elements used to choose the pivots with a sorting network.
+     */
+    private static <T> void sortSample(int e1, int e2, int e3, int e4, int e5,
+                                       Comparator<? super T> comparator, T[] array) {
+        compareExchange(e1, e2, comparator, array);
+        compareExchange(e4, e5, comparator, array);
+        compareExchange(e3, e5, comparator, array);
+        compareExchange(e3, e4, comparator, array);
+        compareExchange(e2, e5, comparator, array);
+        compareExchange(e1, e4, comparator, array);
+        compareExchange(e1, e3, comparator, array);
+        compareExchange(e2, e4, comparator, array);
+        compareExchange(e2, e3, comparator, array);
+    }
+
+    /**
+     * Swaps two elements of an array if they are out of order.
+     */
+    private static <T> void compareExchange(int index1, int index2,
+                                            Comparator<? super T> comparator, T[] array) {
+        if (comparator.compare(array[index2], array[index1]) < 0)
+            swap(index1, index2, array);
+    }
+
+    /**
+     * Sorts a range of an array of ints by using the Dual-pivot Quick sort algorithm.
+     *
+     * @param min      the lower index of the array to be sorted.
+     * @param max      the upper index of the array to be sorted.
+     * @param depth    the number of partitioning levels left before falling back to Quick sort.
+     * @param unsorted the array to be sorted.
+     */
+    static void sort(int min, int max, int depth, int[] unsorted) {
+        if (max - min < INSERTION_SORT_THRESHOLD) {
+            if (min < max)
+                InsertionSort.pairSort(min, max + 1, unsorted);
+            return;
+        }
+        if (depth == 0) {
+            QuickSort.sort(unsorted, min, max + 1);
+            return;
+        }
+
+        long bounds = partition(min, max, unsorted);
+        int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(min, lt - 1, depth - 1, unsorted);
+        if (unsorted[lt] < unsorted[gt])
+            sort(lt + 1, gt - 1, depth - 1, unsorted);
+        sort(gt + 1, max, depth - 1, unsorted);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+    }
+
+    /**
+     * Partitions a range of an array of ints around two pivots p <= q, chosen as the second and
+     * fourth of five evenly spaced elements. Afterwards the elements of [min, lt) are less than p,
+     * the ones of (lt, gt) are between p and q, the ones of (gt, max] are greater than q, and p and
+     * q are at lt and gt.
+     *
+     * @param min      the lower index of the range.
+     * @param max      the upper index of the range.
+     * @param array    the array that contains the range.
+     * @return lt in the upper 32 bits and gt in the lower 32 bits.
+     */
+    static long partition(int min, int max, int[] array) {
+        int seventh = (max - min + 1) / 7;
+        int e3 = (min + max) >>> 1;
+        int e2 = e3 - seventh, e1 = e2 - seventh;
+        int e4 = e3 + seventh, e5 = e4 + seventh;
+        sortSample(e1, e2, e3, e4, e5, array);
+
+        swap(min, e2, array);
+        swap(max, e4, array);
+        compareExchange(min, max, array);
+        int p = array[min], q = array[max];
+
+        int lt = min + 1, gt = max - 1;
+        for (int i = lt; i <= gt; ) {
+            if (array[i] < p)
+                swap(lt++, i++, array);
+            else if (q < array[i])
+                swap(i, gt--, array);
+            else
+                i++;
+        }
+
+        swap(min, --lt, array);
+        swap(max, ++gt, array);
+        return (long) lt << 32 | gt;
+    }
+
+    /**
+     * Sorts the five sample elements used to choose the pivots with a sorting network.
+     */
+    private static void sortSample(int e1, int e2, int e3, int e4, int e5, int[] array) {
+        compareExchange(e1, e2, array);
+        compareExchange(e4, e5, array);
+        compareExchange(e3, e5, array);
+        compareExchange(e3, e4, array);
+        compareExchange(e2, e5, array);
+        compareExchange(e1, e4, array);
+        compareExchange(e1, e3, array);
+        compareExchange(e2, e4, array);
+        compareExchange(e2, e3, array);
+    }
+
+    /**
+     * Swaps two elements of an array if they are out of order.
+     */
+    private static void compareExchange(int index1, int index2, int[] array) {
+        if (array[index2] < array[index1])
+            swap(index1, index2, array);
+    }
+
+    /**
+     * Sorts a range of an array of longs by using the Dual-pivot Quick sort algorithm.
+     *
+     * @param min      the lower index of the array to be sorted.
+     * @param max      the upper index of the array to be sorted.
+     * @param depth    the number of partitioning levels left before falling back to Quick sort.
+     * @param unsorted the array to be sorted.
+     */
+    static void sort(int min, int max, int depth, long[] unsorted) {
+        if (max - min < INSERTION_SORT_THRESHOLD) {
+            if (min < max)
+                InsertionSort.pairSort(min, max + 1, unsorted);
+            return;
+        }
+        if (depth == 0) {
+            QuickSort.sort(unsorted, min, max + 1);
+            return;
+        }
+
+        long bounds = partition(min, max, unsorted);
+        int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(min, lt - 1, depth - 1, unsorted);
+        if (unsorted[lt] < unsorted[gt])
+            sort(lt + 1, gt - 1, depth - 1, unsorted);
+        sort(gt + 1, max, depth - 1, unsorted);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+    }
+
+    /**
+     * Partitions a range of an array of longs around two pivots p <= q, chosen as the second and
+     * fourth of five evenly spaced elements. Afterwards the elements of [min, lt) are less than p,
+     * the ones of (lt, gt) are between p and q, the ones of (gt, max] are greater than q, and p and
+     * q are at lt and gt.
+     *
+     * @param min      the lower index of the range.
+     * @param max      the upper index of the range.
+     * @param array    the array that contains the range.
+     * @return lt in the upper 32 bits and gt in the lower 32 bits.
+     */
+    static long partition(int min, int max, long[] array) {
+        int seventh = (max - min + 1) / 7;
+        int e3 = (min + max) >>> 1;
+        int e2 = e3 - seventh, e1 = e2 - seventh;
+        int e4 = e3 + seventh, e5 = e4 + seventh;
+        sortSample(e1, e2, e3, e4, e5, array);
+
+        swap(min, e2, array);
+        swap(max, e4, array);
+        compareExchange(min, max, array);
+        long p = array[min], q = array[max];
+
+        int lt = min + 1, gt = max - 1;
+        for (int i = lt; i <= gt; ) {
+            if (array[i] < p)
+                swap(lt++, i++, array);
+            else if (q < array[i])
+                swap(i, gt--, array);
+            else
+                i++;
+        }
+
+        swap(min, --lt, array);
+        swap(max, ++gt, array);
+        return (long) lt << 32 | gt;
+    }
+
+    /**
+     * Sorts the five sample elements used to choose the pivots with a sorting network.
+     */
+    private static void sortSample(int e1, int e2, int e3, int e4, int e5, long[] array) {
+        compareExchange(e1, e2, array);
+        compareExchange(e4, e5, array);
+        compareExchange(e3, e5, array);
+        compareExchange(e3, e4, array);
+        compareExchange(e2, e5, array);
+        compareExchange(e1, e4, array);
+        compareExchange(e1, e3, array);
+        compareExchange(e2, e4, array);
+        compareExchange(e2, e3, array);
+    }
+
+    /**
+     * Swaps two elements of an array if they are out of order.
+     */
+    private static void compareExchange(int index1, int index2, long[] array) {
+        if (array[index2] < array[index1])
+            swap(index1, index2, array);
+    }
+
+    /**
+     * Sorts a range of an array of doubles by using the Dual-pivot Quick sort algorithm.
+     *
+     * @param min      the lower index of the array to be sorted.
+     * @param max      the upper index of the array to be sorted.
+     * @param depth    the number of partitioning levels left before falling back to Quick sort.
+     * @param unsorted the array to be sorted.
+     */
+    static void sort(int min, int max, int depth, double[] unsorted) {
+        if (max - min < INSERTION_SORT_THRESHOLD) {
+            if (min < max)
+                InsertionSort.pairSort(min, max + 1, unsorted);
+            return;
+        }
+        if (depth == 0) {
+            QuickSort.sort(unsorted, min, max + 1);
+            return;
+        }
+
+        long bounds = partition(min, max, unsorted);
+        int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(min, lt - 1, depth - 1, unsorted);
+        if (Double.compare(unsorted[lt], unsorted[gt]) < 0)
+            sort(lt + 1, gt - 1, depth - 1, unsorted);
+        sort(gt + 1, max, depth - 1, unsorted);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+    }
+
+    /**
+     * Partitions a range of an array of doubles around two pivots p <= q, chosen as the second and
+     * fourth of five evenly spaced elements. Afterwards the elements of [min, lt) are less than p,
+     * the ones of (lt, gt) are between p and q, the ones of (gt, max] are greater than q, and p and
+     * q are at lt and gt.
+     *
+     * @param min      the lower index of the range.
+     * @param max      the upper index of the range.
+     * @param array    the array that contains the range.
+     * @return lt in the upper 32 bits and gt in the lower 32 bits.
+     */
+    static long partition(int min, int max, double[] array) {
+        int seventh = (max - min + 1) / 7;
+        int e3 = (min + max) >>> 1;
+        int e2 = e3 - seventh, e1 = e2 - seventh;
+        int e4 = e3 + seventh, e5 = e4 + seventh;
+        sortSample(e1, e2, e3, e4, e5, array);
+
+        swap(min, e2, array);
+        swap(max, e4, array);
+        compareExchange(min, max, array);
+        double p = array[min], q = array[max];
+
+        int lt = min + 1, gt = max - 1;
+        for (int i = lt; i <= gt; ) {
+            if (Double.compare(array[i], p) < 0)
+                swap(lt++, i++, array);
+            else if (Double.compare(q, array[i]) < 0)
+                swap(i, gt--, array);
+            else
+                i++;
+        }
+
+        swap(min, --lt, array);
+        swap(max, ++gt, array);
+        return (long) lt << 32 | gt;
+    }
+
+    /**
+     * Sorts the five sample elements used to choose the pivots with a sorting network.
+     */
+    private static void sortSample(int e1, int e2, int e3, int e4, int e5, double[] array) {
+        compareExchange(e1, e2, array);
+        compareExchange(e4, e5, array);
+        compareExchange(e3, e5, array);
+        compareExchange(e3, e4, array);
+        compareExchange(e2, e5, array);
+        compareExchange(e1, e4, array);
+        compareExchange(e1, e3, array);
+        compareExchange(e2, e4, array);
+        compareExchange(e2, e3, array);
+    }
+
+    /**
+     * Swaps two elements of an array if they are out of order.
+     */
+    private static void compareExchange(int index1, int index2, double[] array) {
+        if (Double.compare(array[index2], array[index1]) < 0)
+            swap(index1, index2, array);
+    }
+
+    /**
+     * Interchanges the values between two objects in an array.
+     *
+     * @param index1 the index of the first object in the array.
+     * @param index2 the index of the second object in the array.
+     * @param array  the array that contains the objects.
+     */
+    private static <T> void swap(int index1, int index2, T[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        T value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two ints in an array.
+     *
+     * @param index1 the index of the first int in the array.
+     * @param index2 the index of the second int in the array.
+     * @param array  the array that contains the ints.
+     */
+    private static void swap(int index1, int index2, int[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        int value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two longs in an array.
+     *
+     * @param index1 the index of the first long in the array.
+     * @param index2 the index of the second long in the array.
+     * @param array  the array that contains the longs.
+     */
+    private static void swap(int index1, int index2, long[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        long value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two doubles in an array.
+     *
+     * @param index1 the index of the first double in the array.
+     * @param index2 the index of the second double in the array.
+     * @param array  the array that contains the doubles.
+     */
+    private static void swap(int index1, int index2, double[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        double value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+}
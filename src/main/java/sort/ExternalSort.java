@@ -0,0 +1,509 @@
+package sort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * External merge sort sorts sequences that do not fit in memory. It reads the input in chunks that
+ * fit in a memory budget, sorts each chunk in memory with Merge sort and spills it to a temporary
+ * file as a sorted run. The runs are then merged k at a time with a tree of losers that holds the
+ * next record of each run, reading every run through a large buffer so that the disk sees long
+ * sequential reads instead of one seek per record. When there are more runs than buffers fit in
+ * the budget, groups of runs are first merged into longer runs, and the last merge streams its
+ * records to the caller. Input that fits in a single chunk never touches the disk.
+ * <p>
+ * Records are written to the runs by a {@link Serializer}, each one preceded by its length. The
+ * sort is stable: chunks are sorted with a stable sort and the merges break ties by taking the
+ * record of the earliest run first.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn), with O(n log_k(n / m)) bytes
+ * read and written for a budget of m records and a merge of k runs at a time
+ *
+ * Reference: The Art of Computer Programming, Volume 3 by Donald Knuth, section 5.4
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class ExternalSort {
+
+    /**
+     * Estimated number of bytes that a record takes in memory on top of its serialized size: its
+     * object header and the references to it held by the chunk and by the Merge sort buffer.
+     */
+    static final int RECORD_OVERHEAD = 32;
+
+    /**
+     * Size of the buffer of each run when the memory budget is large enough.
+     */
+    static final int MAX_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Smallest size of the buffer of a run, whatever the memory budget.
+     */
+    static final int MIN_BUFFER_SIZE = 1 << 10;
+
+    /**
+     * Largest number of runs merged at a time, whatever the memory budget. Every run of a merge
+     * holds a file open, so the fan-in stays well below the common limit of 1024 open files per
+     * process, and past a few hundred runs a larger fan-in saves little: merging 256 runs at a time
+     * already sorts 65536 runs in two passes.
+     */
+    static final int MAX_FAN_IN = 256;
+
+    /**
+     * Writes records to and reads them back from the temporary files of an external sort.
+     *
+     * @param <T> the type of the records.
+     */
+    public interface Serializer<T> {
+
+        /**
+         * Returns the number of bytes that {@link #write} puts in the buffer for a record.
+         *
+         * @param record the record.
+         */
+        int size(T record);
+
+        /**
+         * Writes a record at the position of a buffer, which has at least {@link #size} bytes
+         * remaining.
+         *
+         * @param record the record.
+         * @param buffer the buffer.
+         */
+        void write(T record, ByteBuffer buffer);
+
+        /**
+         * Reads a record from a buffer whose remaining bytes are exactly the ones written by
+         * {@link #write}.
+         *
+         * @param buffer the buffer.
+         * @return the record.
+         */
+        T read(ByteBuffer buffer);
+    }
+
+    /**
+     * Serializes longs as 8 bytes.
+     */
+    public static final Serializer<Long> LONGS = new Serializer<>() {
+        @Override
+        public int size(Long record) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long record, ByteBuffer buffer) {
+            buffer.putLong(record);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    /**
+     * Serializes strings as UTF-8.
+     */
+    public static final Serializer<String> STRINGS = new Serializer<>() {
+        @Override
+        public int size(String record) {
+            for (int i = 0; i < record.length(); i++) {
+                if (record.charAt(i) >= 0x80)
+                    return record.getBytes(StandardCharsets.UTF_8).length;
+            }
+            return record.length();
+        }
+
+        @Override
+        public void write(String record, ByteBuffer buffer) {
+            buffer.put(record.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Sorts a sequence of records according to the order induced by a comparator, spilling runs to
+     * the default temporary directory when they do not fit in the memory budget.
+     *
+     * @param input        the records to be sorted.
+     * @param output       the consumer that receives the records in sorted order.
+     * @param comparator   the comparator that determines the order of the records.
+     * @param serializer   the serializer of the records.
+     * @param memoryBudget the number of bytes of memory the sort may use for records and buffers.
+     * @throws IOException              if a temporary file cannot be written or read.
+     * @throws IllegalArgumentException if the memory budget is not positive.
+     */
+    public static <T> void sort(Iterator<? extends T> input, Consumer<? super T> output,
+                                Comparator<? super T> comparator, Serializer<T> serializer,
+                                long memoryBudget) throws IOException {
+        sort(input, output, comparator, serializer, memoryBudget,
+                Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Sorts a sequence of records according to the order induced by a comparator, spilling runs to
+     * the given directory when they do not fit in the memory budget. The temporary files are
+     * deleted before the method returns, whether it succeeds or not.
+     *
+     * @param input         the records to be sorted.
+     * @param output        the consumer that receives the records in sorted order.
+     * @param comparator    the comparator that determines the order of the records.
+     * @param serializer    the serializer of the records.
+     * @param memoryBudget  the number of bytes of memory the sort may use for records and buffers.
+     * @param tempDirectory the directory where the runs are written.
+     * @throws IOException              if a temporary file cannot be written or read.
+     * @throws IllegalArgumentException if the memory budget is not positive.
+     */
+    public static <T> void sort(Iterator<? extends T> input, Consumer<? super T> output,
+                                Comparator<? super T> comparator, Serializer<T> serializer,
+                                long memoryBudget, Path tempDirectory) throws IOException {
+        if (memoryBudget <= 0)
+            throw new IllegalArgumentException("The memory budget must be positive: "
+                    + memoryBudget);
+
+        int bufferSize = bufferSize(memoryBudget);
+        int fanIn = fanIn(memoryBudget);
+
+        // A single writer writes every run in turn and the readers of each merge take their
+        // buffers from a pool, so the direct buffers are allocated once for the whole sort
+        RunWriter<T> writer = null;
+        Deque<ByteBuffer> readBuffers = new ArrayDeque<>();
+        Deque<Path> runs = new ArrayDeque<>();
+        try {
+            List<T> chunk = new ArrayList<>();
+            T[] buffer = null;
+            while (input.hasNext()) {
+                chunk.clear();
+                long used = 0;
+                do {
+                    T record = input.next();
+                    chunk.add(record);
+                    used += serializer.size(record) + RECORD_OVERHEAD;
+                } while (used < memoryBudget && input.hasNext());
+
+                @SuppressWarnings("unchecked")
+                T[] records = (T[]) chunk.toArray();
+                if (buffer == null || buffer.length < records.length)
+                    buffer = Arrays.copyOf(records, records.length);
+                MergeSort.sort(records, 0, records.length, comparator, buffer);
+
+                if (runs.isEmpty() && !input.hasNext()) {
+                    for (T record : records)
+                        output.accept(record);
+                    return;
+                }
+                if (writer == null)
+                    writer = new RunWriter<>(serializer, bufferSize);
+                runs.add(spill(records, writer, tempDirectory));
+            }
+
+            // Drops the last chunk and the scratch array of the sort, so that the merges only hold
+            // their buffers
+            chunk = null;
+            buffer = null;
+
+            // Each pass merges consecutive groups of runs and queues the merged runs behind the
+            // ones left, so the runs stay in input order and ties keep being broken by position
+            while (runs.size() > fanIn) {
+                for (int left = runs.size(); left > 0; left -= fanIn) {
+                    List<Path> group = new ArrayList<>(fanIn);
+                    for (int i = Math.min(fanIn, left); i > 0; i--)
+                        group.add(runs.poll());
+                    if (group.size() == 1) {
+                        runs.add(group.get(0));
+                        continue;
+                    }
+
+                    Path merged = Files.createTempFile(tempDirectory, "run", ".tmp");
+                    runs.add(merged);
+                    try (RunWriter<T> out = writer.open(merged)) {
+                        merge(group, out::write, comparator, serializer, bufferSize,
+                                readBuffers);
+                    } finally {
+                        for (Path run : group)
+                            Files.deleteIfExists(run);
+                    }
+                }
+            }
+
+            merge(runs, output::accept, comparator, serializer, bufferSize, readBuffers);
+        } finally {
+            for (Path run : runs)
+                Files.deleteIfExists(run);
+        }
+    }
+
+    /**
+     * Returns the size of the buffer of each run for a memory budget: a sixteenth of the budget,
+     * between {@link #MIN_BUFFER_SIZE} and {@link #MAX_BUFFER_SIZE}.
+     */
+    static int bufferSize(long memoryBudget) {
+        return (int) Math.max(MIN_BUFFER_SIZE, Math.min(MAX_BUFFER_SIZE, memoryBudget / 16));
+    }
+
+    /**
+     * Returns the number of runs merged at a time for a memory budget: as many as there are
+     * buffers in the budget, keeping one for the writer of the merged run, between 2 and
+     * {@link #MAX_FAN_IN}.
+     */
+    static int fanIn(long memoryBudget) {
+        return (int) Math.max(2, Math.min(MAX_FAN_IN,
+                memoryBudget / bufferSize(memoryBudget) - 1));
+    }
+
+    /**
+     * Writes a sorted chunk to a new temporary file and returns its path.
+     */
+    private static <T> Path spill(T[] records, RunWriter<T> writer, Path tempDirectory)
+            throws IOException {
+        Path run = Files.createTempFile(tempDirectory, "run", ".tmp");
+        try (RunWriter<T> out = writer.open(run)) {
+            for (T record : records)
+                out.write(record);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    /**
+     * Merges sorted runs into a sink. A {@link LoserTree} picks the reader whose next record comes
+     * first, breaking ties by the position of the run, so that equal records leave in the order of
+     * their runs.
+     *
+     * @param runs       the files of the runs, in input order.
+     * @param output     the sink that receives the merged records.
+     * @param comparator the comparator that determines the order of the records.
+     * @param serializer the serializer of the records.
+     * @param bufferSize the size of the read buffer of each run.
+     * @param buffers    the read buffers left by earlier merges, which takes the ones of this
+     *                   merge back when it ends.
+     */
+    private static <T> void merge(Iterable<Path> runs, Sink<? super T> output,
+                                  Comparator<? super T> comparator, Serializer<T> serializer,
+                                  int bufferSize, Deque<ByteBuffer> buffers) throws IOException {
+        List<RunReader<T>> readers = new ArrayList<>();
+        try {
+            for (Path run : runs) {
+                ByteBuffer buffer = buffers.isEmpty() ? ByteBuffer.allocateDirect(bufferSize)
+                        : buffers.pop();
+                RunReader<T> reader = new RunReader<>(run, serializer, buffer);
+                readers.add(reader);
+                reader.advance();
+            }
+
+            LoserTree tree = new LoserTree(readers.size()) {
+                @Override
+                boolean exhausted(int run) {
+                    return readers.get(run).exhausted;
+                }
+
+                @Override
+                int compare(int run1, int run2) {
+                    return comparator.compare(readers.get(run1).head, readers.get(run2).head);
+                }
+            };
+            tree.build();
+            while (!tree.isEmpty()) {
+                RunReader<T> reader = readers.get(tree.winner());
+                output.accept(reader.head);
+                reader.advance();
+                tree.replay();
+            }
+        } finally {
+            for (RunReader<T> reader : readers) {
+                reader.close();
+                buffers.push(reader.buffer);
+            }
+        }
+    }
+
+    /**
+     * Receives the records of a merge, either the consumer of the caller or the writer of a longer
+     * run.
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+
+        void accept(T record) throws IOException;
+    }
+
+    /**
+     * Writes length-prefixed records to files through a direct buffer, one file at a time. The
+     * buffer is kept from one file to the next, since direct buffers are only freed by the garbage
+     * collector.
+     */
+    private static final class RunWriter<T> implements Closeable {
+
+        private final Serializer<T> serializer;
+
+        private ByteBuffer buffer;
+
+        private FileChannel channel;
+
+        RunWriter(Serializer<T> serializer, int bufferSize) {
+            this.serializer = serializer;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        /**
+         * Starts writing to a file, which is closed by {@link #close}.
+         *
+         * @return this writer.
+         */
+        RunWriter<T> open(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            buffer.clear();
+            return this;
+        }
+
+        /**
+         * Appends a record to the file. Records longer than the buffer get a buffer of their own.
+         *
+         * @throws IllegalStateException if the serializer does not write as many bytes as it
+         *                               announced.
+         */
+        void write(T record) throws IOException {
+            int size = serializer.size(record);
+            if (buffer.remaining() < Integer.BYTES + size) {
+                flush();
+                if (buffer.capacity() < Integer.BYTES + size)
+                    buffer = ByteBuffer.allocateDirect(Integer.BYTES + size);
+            }
+
+            buffer.putInt(size);
+            int start = buffer.position();
+            serializer.write(record, buffer);
+            if (buffer.position() - start != size)
+                throw new IllegalStateException("The serializer wrote "
+                        + (buffer.position() - start) + " bytes instead of " + size);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Reads length-prefixed records from a file through a direct buffer, one record ahead.
+     */
+    private static final class RunReader<T> implements Closeable {
+
+        private final FileChannel channel;
+
+        private final Serializer<T> serializer;
+
+        private ByteBuffer buffer;
+
+        /**
+         * The record read by the last call to {@link #advance}.
+         */
+        private T head;
+
+        /**
+         * Whether the last call to {@link #advance} found the end of the run.
+         */
+        private boolean exhausted;
+
+        RunReader(Path path, Serializer<T> serializer, ByteBuffer buffer) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.serializer = serializer;
+            this.buffer = buffer;
+            this.buffer.clear().flip();
+        }
+
+        /**
+         * Reads the next record into {@link #head}.
+         *
+         * @return false if the run is exhausted.
+         */
+        boolean advance() throws IOException {
+            if (!fill(Integer.BYTES)) {
+                if (buffer.hasRemaining())
+                    throw new IOException("Truncated run");
+                head = null;
+                exhausted = true;
+                return false;
+            }
+
+            int size = buffer.getInt();
+            if (!fill(size))
+                throw new IOException("Truncated run");
+
+            int limit = buffer.limit();
+            int end = buffer.position() + size;
+            buffer.limit(end);
+            head = serializer.read(buffer);
+            buffer.limit(limit);
+            buffer.position(end);
+            return true;
+        }
+
+        /**
+         * Makes sure that at least {@code length} bytes are remaining in the buffer, reading from
+         * the file and growing the buffer as needed.
+         *
+         * @return false if the file ends first.
+         */
+        private boolean fill(int length) throws IOException {
+            if (buffer.remaining() >= length)
+                return true;
+
+            if (buffer.capacity() < length) {
+                ByteBuffer grown = ByteBuffer.allocateDirect(length);
+                grown.put(buffer);
+                buffer = grown;
+            } else {
+                buffer.compact();
+            }
+            while (buffer.position() < length && channel.read(buffer) >= 0) {
+                // Reads until the record is complete or the file ends
+            }
+            buffer.flip();
+            return buffer.remaining() >= length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package sort;
+
+import java.util.Comparator;
+
+/**
+ * Heap sort arranges the array into a binary max-heap, a tree stored in the array itself in which
+ * each element is not smaller than its two children, and then repeatedly moves the root, the
+ * largest element left, behind the heap and restores the heap on the remaining elements. It sorts
+ * in place with a constant amount of extra memory and its running time does not depend on the
+ * input, which makes it the sort of choice when memory is capped and the worst case matters more
+ * than the average one. It is not stable.
+ * <p>
+ * This implementation uses the bottom-up sift-down of Floyd: the hole left by the root is first
+ * moved down to a leaf along the path of larger children, with one comparison per level, and the
+ * displaced element is then moved back up from there. Since that element comes from the bottom of
+ * the heap it rarely climbs more than a level or two, which saves close to half of the comparisons
+ * of the textbook sift-down.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
+ *
+ * Reference: Algorithms by Robert Sedgewick, Treesort 3 by Robert W. Floyd
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class HeapSort {
+
+    /**
+     * Sorts an array of objects that implement Comparable using the Heap sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Heap sort algorithm. Elements outside of the range are left untouched.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+        heapSort(from, to, SortStats.counting(comparator), unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of objects using the Heap sort algorithm. The range is not checked.
+     *
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array to be sorted.
+     */
+    static <T> void heapSort(int from, int to, Comparator<? super T> comparator, T[] array) {
+        int length = to - from;
+        for (int k = (length >>> 1) - 1; k >= 0; k--)
+            siftDown(k, array[from + k], length, from, comparator, array);
+
+        while (--length > 0) {
+            T value = array[from + length];
+            array[from + length] = array[from];
+            siftDown(0, value, length, from, comparator, array);
+        }
+    }
+
+    /**
+     * Places an element in a heap stored in a range of an array, starting from the position
+     * {@code k}, which is treated as empty. The hole is first moved down to a leaf along the path
+     * of larger children, and the element is then moved up from the leaf to its place, never above
+     * {@code k}.
+     *
+     * @param k          the position of the hole in the heap.
+     * @param value      the element to be placed.
+     * @param length     the number of elements in the heap.
+     * @param offset     the index of the array where the heap starts.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param heap       the array that contains the heap.
+     */
+    private static <T> void siftDown(int k, T value, int length, int offset,
+                                     Comparator<? super T> comparator, T[] heap) {
+        int top = k;
+        int child;
+        while ((child = 2 * k + 1) < length) {
+            if (child + 1 < length
+                    && comparator.compare(heap[offset + child], heap[offset + child + 1]) < 0)
+                child++;
+            heap[offset + k] = heap[offset + child];
+            k = child;
+        }
+
+        int parent;
+        while (k > top && comparator.compare(heap[offset + (parent = (k - 1) >>> 1)], value) < 0) {
+            heap[offset + k] = heap[offset + parent];
+            k = parent;
+        }
+        heap[offset + k] = value;
+    }
+
+    /**
+     * Sorts an array of ints using the Heap sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        heapSort(0, unsorted.length, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of ints using the Heap sort algorithm. Elements outside of the
+     * range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(int[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        heapSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of ints using the Heap sort algorithm. The range is not
+     * checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void heapSort(int from, int to, int[] array) {
+        int length = to - from;
+        for (int k = (length >>> 1) - 1; k >= 0; k--)
+            siftDown(k, array[from + k], length, from, array);
+
+        while (--length > 0) {
+            int value = array[from + length];
+            array[from + length] = array[from];
+            siftDown(0, value, length, from, array);
+        }
+    }
+
+    /**
+     * Places a value in a heap of ints stored in a range of an array, starting from the
+     * position {@code k}, which is treated as empty. The hole is first moved down to a leaf
+     * along the path of larger children, and the value is then moved up from the leaf to its
+     * place, never above {@code k}.
+     *
+     * @param k      the position of the hole in the heap.
+     * @param value  the value to be placed.
+     * @param length the number of values in the heap.
+     * @param offset the index of the array where the heap starts.
+     * @param heap   the array that contains the heap.
+     */
+    private static void siftDown(int k, int value, int length, int offset, int[] heap) {
+        int top = k;
+        int child;
+        while ((child = 2 * k + 1) < length) {
+            if (child + 1 < length && heap[offset + child] < heap[offset + child + 1])
+                child++;
+            heap[offset + k] = heap[offset + child];
+            k = child;
+        }
+
+        int parent;
+        while (k > top && heap[offset + (parent = (k - 1) >>> 1)] < value) {
+            heap[offset + k] = heap[offset + parent];
+            k = parent;
+        }
+        heap[offset + k] = value;
+    }
+
+    /**
+     * Sorts an array of longs using the Heap sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        heapSort(0, unsorted.length, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of longs using the Heap sort algorithm. Elements outside of the
+     * range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(long[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        heapSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of longs using the Heap sort algorithm. The range is not
+     * checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void heapSort(int from, int to, long[] array) {
+        int length = to - from;
+        for (int k = (length >>> 1) - 1; k >= 0; k--)
+            siftDown(k, array[from + k], length, from, array);
+
+        while (--length > 0) {
+            long value = array[from + length];
+            array[from + length] = array[from];
+            siftDown(0, value, length, from, array);
+        }
+    }
+
+    /**
+     * Places a value in a heap of longs stored in a range of an array, starting from the
+     * position {@code k}, which is treated as empty. The hole is first moved down to a leaf
+     * along the path of larger children, and the value is then moved up from the leaf to its
+     * place, never above {@code k}.
+     *
+     * @param k      the position of the hole in the heap.
+     * @param value  the value to be placed.
+     * @param length the number of values in the heap.
+     * @param offset the index of the array where the heap starts.
+     * @param heap   the array that contains the heap.
+     */
+    private static void siftDown(int k, long value, int length, int offset, long[] heap) {
+        int top = k;
+        int child;
+        while ((child = 2 * k + 1) < length) {
+            if (child + 1 < length && heap[offset + child] < heap[offset + child + 1])
+                child++;
+            heap[offset + k] = heap[offset + child];
+            k = child;
+        }
+
+        int parent;
+        while (k > top && heap[offset + (parent = (k - 1) >>> 1)] < value) {
+            heap[offset + k] = heap[offset + parent];
+            k = parent;
+        }
+        heap[offset + k] = value;
+    }
+
+    /**
+     * Sorts an array of doubles using the Heap sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        heapSort(0, unsorted.length, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of doubles using the Heap sort algorithm. Elements outside of the
+     * range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(double[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        heapSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of doubles using the Heap sort algorithm. The range is not
+     * checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void heapSort(int from, int to, double[] array) {
+        int length = to - from;
+        for (int k = (length >>> 1) - 1; k >= 0; k--)
+            siftDown(k, array[from + k], length, from, array);
+
+        while (--length > 0) {
+            double value = array[from + length];
+            array[from + length] = array[from];
+            siftDown(0, value, length, from, array);
+        }
+    }
+
+    /**
+     * Places a value in a heap of doubles stored in a range of an array, starting from the
+     * position {@code k}, which is treated as empty. The hole is first moved down to a leaf
+     * along the path of larger children, and the value is then moved up from the leaf to its
+     * place, never above {@code k}.
+     *
+     * @param k      the position of the hole in the heap.
+     * @param value  the value to be placed.
+     * @param length the number of values in the heap.
+     * @param offset the index of the array where the heap starts.
+     * @param heap   the array that contains the heap.
+     */
+    private static void siftDown(int k, double value, int length, int offset, double[] heap) {
+        int top = k;
+        int child;
+        while ((child = 2 * k + 1) < length) {
+            if (child + 1 < length
+                    && Double.compare(heap[offset + child], heap[offset + child + 1]) < 0)
+                child++;
+            heap[offset + k] = heap[offset + child];
+            k = child;
+        }
+
+        int parent;
+        while (k > top && Double.compare(heap[offset + (parent = (k - 1) >>> 1)], value) < 0) {
+            heap[offset + k] = heap[offset + parent];
+            k = parent;
+        }
+        heap[offset + k] = value;
+    }
+}
@@ -1,11 +1,23 @@
 package sort;
 
+import java.util.Comparator;
+
 /**
  * The algorithm that people often use to sort bridge hands is to consider the cards one at a time,
  * inserting each into its proper place among those already considered. In insertion sort the items
  * to the left of the current index are in sorted order during the sort, but they are not in their
  * final position, as they may have to be moved to make room for smaller items encountered later.
  * The array is, however, fully sorted when the index reaches the right end.
+ * <p>
+ * Instead of swapping each item with its left neighbour until it reaches its place, this
+ * implementation finds the place first and then shifts the larger items one position to the right.
+ * Objects are first compared with their left neighbour and left in place when they are not less
+ * than it; the others are placed with a binary search and shifted with a single copy, which keeps
+ * the number of comparisons logarithmic per item. Primitives are inserted two at a time: the
+ * larger of a pair is inserted first, and the smaller one continues its scan from there, which
+ * halves the number of passes over the sorted prefix. The primitive scans stop as soon as the
+ * place is found, so sorted input of either kind is sorted in linear time.
+ * The package-private kernels are used by the other sorts of this package for their small ranges.
  *
  * Average case = O(n^2) Worst case = O(n^2) Best case = O(n)
  *
@@ -22,23 +34,306 @@ public class InsertionSort {
      * @param unsorted the array to be sorted.
      */
     public static <T extends Comparable<T>> void sort(T... unsorted) {
-        for (int i = 1; i < unsorted.length; i++) {
-            for (int j = i; j > 0; j--) {
-                if (unsorted[j].compareTo(unsorted[j - 1]) < 0)
-                    swap(j, j - 1, unsorted);
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Insertion sort algorithm. Elements outside of the range are left untouched.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+        for (int i = from + 1; i < to; i++) {
+            T pivot = unsorted[i];
+            // An element not less than its left neighbour is already in place
+            if (comparator.compare(unsorted[i - 1], pivot) <= 0)
+                continue;
+
+            int left = from;
+            int right = i - 1;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, unsorted[mid]) < 0)
+                    right = mid;
+                else
+                    left = mid + 1;
+            }
+            System.arraycopy(unsorted, left, unsorted, left + 1, i - left);
+            unsorted[left] = pivot;
+        }
+    }
+
+    /**
+     * Sorts a range of an array whose prefix is already sorted, finding the place of each of the
+     * remaining elements with a binary search and shifting the larger ones with a single copy.
+     * Equal elements are inserted after the ones already in place, which keeps the sort stable.
+     * The range is not checked.
+     *
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param start      the index of the first element that is not part of the sorted prefix.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array to be sorted.
+     */
+    static <T> void binarySort(int from, int to, int start, Comparator<? super T> comparator,
+                               T[] array) {
+        for (int i = start; i < to; i++) {
+            T pivot = array[i];
+            int left = from;
+            int right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, array[mid]) < 0)
+                    right = mid;
+                else
+                    left = mid + 1;
+            }
+            System.arraycopy(array, left, array, left + 1, i - left);
+            array[left] = pivot;
+        }
+    }
+
+    /**
+     * Sorts an array of ints using the Insertion sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of ints using the Insertion sort algorithm. Elements outside of
+     * the range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(int[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        pairSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of ints by pair insertion. The range is not checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void pairSort(int from, int to, int[] array) {
+        if (to - from < 2)
+            return;
+
+        // Leaves an even number of values after the sorted prefix
+        int i = from + 1;
+        if (((to - from) & 1) == 0) {
+            if (array[from] > array[from + 1])
+                swap(from, from + 1, array);
+            i = from + 2;
+        }
+
+        for (; i < to; i += 2) {
+            int large = array[i];
+            int small = array[i + 1];
+            if (small > large) {
+                large = small;
+                small = array[i];
+            }
+
+            int j = i - 1;
+            while (j >= from && array[j] > large) {
+                array[j + 2] = array[j];
+                j--;
+            }
+            array[j + 2] = large;
+
+            while (j >= from && array[j] > small) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = small;
+        }
+    }
+
+    /**
+     * Sorts an array of longs using the Insertion sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of longs using the Insertion sort algorithm. Elements outside of
+     * the range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(long[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        pairSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of longs by pair insertion. The range is not checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void pairSort(int from, int to, long[] array) {
+        if (to - from < 2)
+            return;
+
+        // Leaves an even number of values after the sorted prefix
+        int i = from + 1;
+        if (((to - from) & 1) == 0) {
+            if (array[from] > array[from + 1])
+                swap(from, from + 1, array);
+            i = from + 2;
+        }
+
+        for (; i < to; i += 2) {
+            long large = array[i];
+            long small = array[i + 1];
+            if (small > large) {
+                large = small;
+                small = array[i];
+            }
+
+            int j = i - 1;
+            while (j >= from && array[j] > large) {
+                array[j + 2] = array[j];
+                j--;
             }
+            array[j + 2] = large;
+
+            while (j >= from && array[j] > small) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = small;
         }
     }
 
     /**
-     * Interchanges the values between two objects in an array.
+     * Sorts an array of doubles using the Insertion sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of doubles using the Insertion sort algorithm. Elements outside of
+     * the range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(double[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        pairSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of an array of doubles by pair insertion. The range is not checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void pairSort(int from, int to, double[] array) {
+        if (to - from < 2)
+            return;
+
+        // Leaves an even number of values after the sorted prefix
+        int i = from + 1;
+        if (((to - from) & 1) == 0) {
+            if (Double.compare(array[from], array[from + 1]) > 0)
+                swap(from, from + 1, array);
+            i = from + 2;
+        }
+
+        for (; i < to; i += 2) {
+            double large = array[i];
+            double small = array[i + 1];
+            if (Double.compare(small, large) > 0) {
+                large = small;
+                small = array[i];
+            }
+
+            int j = i - 1;
+            while (j >= from && Double.compare(array[j], large) > 0) {
+                array[j + 2] = array[j];
+                j--;
+            }
+            array[j + 2] = large;
+
+            while (j >= from && Double.compare(array[j], small) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = small;
+        }
+    }
+
+    /**
+     * Interchanges the values between two ints in an array.
+     *
+     * @param index1 the index of the first int in the array.
+     * @param index2 the index of the second int in the array.
+     * @param array  the array that contains the ints.
+     */
+    private static void swap(int index1, int index2, int[] array) {
+        int value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two longs in an array.
+     *
+     * @param index1 the index of the first long in the array.
+     * @param index2 the index of the second long in the array.
+     * @param array  the array that contains the longs.
+     */
+    private static void swap(int index1, int index2, long[] array) {
+        long value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two doubles in an array.
      *
-     * @param index1 the index of the first object in the array.
-     * @param index2 the index of the second object in the array.
-     * @param array  the array that contains the objects.
+     * @param index1 the index of the first double in the array.
+     * @param index2 the index of the second double in the array.
+     * @param array  the array that contains the doubles.
      */
-    private static <T> void swap(int index1, int index2, T... array) {
-        T value = array[index1];
+    private static void swap(int index1, int index2, double[] array) {
+        double value = array[index1];
         array[index1] = array[index2];
         array[index2] = value;
     }
@@ -0,0 +1,311 @@
+package sort;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The kernel of {@link VectorizedSort}: a Quick sort of ints whose partitioning and small ranges
+ * run in 256-bit vector registers through the incubating {@code jdk.incubator.vector} module. It is
+ * the only class of this package that uses the module, so that it is loaded only when the module
+ * is present.
+ * <p>
+ * A partition step loads eight elements, compares them with the pivot, and uses the resulting
+ * eight-bit mask to pick from a table a permutation that moves the smaller elements to the front
+ * of the vector. The permuted vector is then stored twice, at the write position of each side, so
+ * that the smaller elements land on the left and the others on the right without a single branch
+ * on the data. The first and last vectors of the range are held in registers, which leaves room to
+ * store to both sides in place; the next vector is always read from the side with less room.
+ * Ranges of at most sixteen elements are sorted inside two registers by a bitonic sorting network.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
+ *
+ * Reference: A Novel Hybrid Quicksort Algorithm Vectorized using AVX-512 on Intel Skylake by
+ * Bramas, Fast Quicksort Implementation Using AVX Instructions by Gueron and Krasnov
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+final class IntVectorSort {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_256;
+
+    /**
+     * Number of ints in a vector. The permutation table has one entry per comparison mask, so it
+     * grows as two to the number of lanes; eight lanes keep it at 256 entries.
+     */
+    private static final int LANES = 8;
+
+    /**
+     * Ranges of at most this many elements are sorted in registers.
+     */
+    private static final int SMALL_SORT_THRESHOLD = 2 * LANES;
+
+    /**
+     * For each comparison mask, the permutation that moves the lanes whose bit is set to the front,
+     * in order, followed by the other lanes.
+     */
+    private static final int[] COMPRESS = compressTable();
+
+    /**
+     * Masks of the first {@code i} lanes, indexed by {@code i}.
+     */
+    private static final VectorMask<Integer>[] PREFIXES = prefixMasks();
+
+    private static final IntVector MAX_VALUES = IntVector.broadcast(SPECIES, Integer.MAX_VALUE);
+
+    /**
+     * Permutations that exchange every lane with the one whose index differs in a given bit, and
+     * the one that reverses a vector.
+     */
+    private static final VectorShuffle<Integer> EXCHANGE_1 = exchange(1);
+    private static final VectorShuffle<Integer> EXCHANGE_2 = exchange(2);
+    private static final VectorShuffle<Integer> EXCHANGE_4 = exchange(4);
+    private static final VectorShuffle<Integer> REVERSE = VectorShuffle.fromOp(SPECIES,
+            i -> LANES - 1 - i);
+
+    /**
+     * Lanes that keep the greater element of their pair at each stage of the bitonic network: in
+     * the stage that builds sorted blocks of {@code k} lanes by comparing lanes {@code j} apart.
+     */
+    private static final VectorMask<Integer> GREATER_2_1 = greater(2, 1);
+    private static final VectorMask<Integer> GREATER_4_2 = greater(4, 2);
+    private static final VectorMask<Integer> GREATER_4_1 = greater(4, 1);
+    private static final VectorMask<Integer> GREATER_8_4 = greater(8, 4);
+    private static final VectorMask<Integer> GREATER_8_2 = greater(8, 2);
+    private static final VectorMask<Integer> GREATER_8_1 = greater(8, 1);
+
+    private IntVectorSort() {
+    }
+
+    /**
+     * Returns whether the hardware runs vectors of this species natively. Otherwise the Vector API
+     * emulates them in Java, which is much slower than a scalar sort.
+     */
+    static boolean supported() {
+        return IntVector.SPECIES_PREFERRED.vectorBitSize() >= SPECIES.vectorBitSize();
+    }
+
+    /**
+     * Sorts a range of an array of ints. The range is not checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void sort(int from, int to, int[] array) {
+        sort(from, to, QuickSort.depthLimit(to - from), array);
+    }
+
+    /**
+     * Sorts a range of an array of ints, recursing into the smaller side of each partition and
+     * falling back to Heap sort when the depth limit is reached.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param depth the number of partitioning levels left before falling back to Heap sort.
+     * @param array the array to be sorted.
+     */
+    private static void sort(int from, int to, int depth, int[] array) {
+        while (to - from > SMALL_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(from, to, array);
+                return;
+            }
+
+            int pivot = array[QuickSort.pivot(from, to - 1, array)];
+            int split = partition(from, to, pivot, array);
+
+            // Nothing is less than the pivot, so it is the minimum of the range: its copies are
+            // gathered at the front by splitting before the next value, and left out of the sort
+            if (split == from) {
+                if (pivot == Integer.MAX_VALUE)
+                    return;
+                from = partition(from, to, pivot + 1, array);
+                continue;
+            }
+
+            if (split - from < to - split) {
+                sort(from, split, depth, array);
+                from = split;
+            } else {
+                sort(split, to, depth, array);
+                to = split;
+            }
+        }
+
+        smallSort(from, to, array);
+    }
+
+    /**
+     * Partitions a range of at least two vectors so that the values less than the pivot come
+     * first.
+     *
+     * @param from  the index of the first value of the range, inclusive.
+     * @param to    the index of the last value of the range, exclusive.
+     * @param pivot the value to partition around.
+     * @param array the array.
+     * @return the index of the first value that is not less than the pivot.
+     */
+    private static int partition(int from, int to, int pivot, int[] array) {
+        IntVector pivots = IntVector.broadcast(SPECIES, pivot);
+        IntVector first = IntVector.fromArray(SPECIES, array, from);
+        IntVector last = IntVector.fromArray(SPECIES, array, to - LANES);
+
+        int left = from + LANES;
+        int right = to - LANES;
+        int lower = from;
+        int upper = to;
+        while (right - left >= LANES) {
+            IntVector vector;
+            if (left - lower <= upper - right) {
+                vector = IntVector.fromArray(SPECIES, array, left);
+                left += LANES;
+            } else {
+                right -= LANES;
+                vector = IntVector.fromArray(SPECIES, array, right);
+            }
+
+            int mask = (int) vector.compare(VectorOperators.LT, pivots).toLong();
+            int less = Integer.bitCount(mask);
+            IntVector compressed = compress(vector, mask);
+            compressed.intoArray(array, lower);
+            compressed.intoArray(array, upper - LANES);
+            lower += less;
+            upper -= LANES - less;
+        }
+
+        // Every index between lower and upper is free once the rest is loaded
+        int count = right - left;
+        IntVector rest = IntVector.fromArray(SPECIES, array, left, PREFIXES[count]);
+        int less = store(rest, count, pivots, lower, upper, array);
+        lower += less;
+        upper -= count - less;
+        less = store(first, LANES, pivots, lower, upper, array);
+        lower += less;
+        upper -= LANES - less;
+        return lower + store(last, LANES, pivots, lower, upper, array);
+    }
+
+    /**
+     * Stores the first lanes of a vector into the free space of a partition: the values less
+     * than the pivot from {@code lower} up and the others from {@code upper} down.
+     *
+     * @param vector the vector.
+     * @param count  the number of lanes to be stored.
+     * @param pivots the pivot in every lane.
+     * @param lower  the index at which the next value less than the pivot goes.
+     * @param upper  the index after the one at which the next value not less than the pivot goes.
+     * @param array  the array.
+     * @return the number of values less than the pivot.
+     */
+    private static int store(IntVector vector, int count, IntVector pivots, int lower, int upper,
+                             int[] array) {
+        int mask = (int) vector.compare(VectorOperators.LT, pivots).toLong() & (1 << count) - 1;
+        int less = Integer.bitCount(mask);
+        IntVector compressed = compress(vector, mask);
+        compressed.intoArray(array, lower, PREFIXES[less]);
+        compressed.intoArray(array, upper - count, PREFIXES[count].andNot(PREFIXES[less]));
+        return less;
+    }
+
+    /**
+     * Moves the lanes of a vector whose bit is set in a mask to the front.
+     */
+    private static IntVector compress(IntVector vector, int mask) {
+        return vector.rearrange(IntVector.fromArray(SPECIES, COMPRESS, mask * LANES).toShuffle());
+    }
+
+    /**
+     * Sorts a range of at most two vectors in registers, filling the missing lanes with the
+     * greatest int so that they sort last and are not stored.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    private static void smallSort(int from, int to, int[] array) {
+        int length = to - from;
+        if (length <= LANES) {
+            VectorMask<Integer> mask = PREFIXES[length];
+            IntVector vector = MAX_VALUES.blend(IntVector.fromArray(SPECIES, array, from, mask),
+                    mask);
+            sort(vector).intoArray(array, from, mask);
+            return;
+        }
+
+        VectorMask<Integer> mask = PREFIXES[length - LANES];
+        IntVector lower = sort(IntVector.fromArray(SPECIES, array, from));
+        IntVector upper = sort(MAX_VALUES.blend(IntVector.fromArray(SPECIES, array,
+                from + LANES, mask), mask)).rearrange(REVERSE);
+
+        // The lane-wise minimum of a sorted vector and a reversed sorted one is bitonic, and
+        // holds the smaller half of both
+        merge(lower.min(upper)).intoArray(array, from);
+        merge(lower.max(upper)).intoArray(array, from + LANES, mask);
+    }
+
+    /**
+     * Sorts a vector with a bitonic sorting network.
+     */
+    private static IntVector sort(IntVector vector) {
+        vector = exchange(vector, EXCHANGE_1, GREATER_2_1);
+        vector = exchange(vector, EXCHANGE_2, GREATER_4_2);
+        vector = exchange(vector, EXCHANGE_1, GREATER_4_1);
+        return merge(vector);
+    }
+
+    /**
+     * Sorts a bitonic vector: one that ascends and then descends.
+     */
+    private static IntVector merge(IntVector vector) {
+        vector = exchange(vector, EXCHANGE_4, GREATER_8_4);
+        vector = exchange(vector, EXCHANGE_2, GREATER_8_2);
+        return exchange(vector, EXCHANGE_1, GREATER_8_1);
+    }
+
+    /**
+     * Runs one stage of a bitonic network: every lane is compared with its partner and keeps the
+     * smaller or the greater of the two.
+     */
+    private static IntVector exchange(IntVector vector, VectorShuffle<Integer> partners,
+                                      VectorMask<Integer> greater) {
+        IntVector other = vector.rearrange(partners);
+        return vector.min(other).blend(vector.max(other), greater);
+    }
+
+    private static int[] compressTable() {
+        int[] table = new int[(1 << LANES) * LANES];
+        for (int mask = 0; mask < 1 << LANES; mask++) {
+            int index = mask * LANES;
+            for (int lane = 0; lane < LANES; lane++)
+                if ((mask >>> lane & 1) != 0)
+                    table[index++] = lane;
+            for (int lane = 0; lane < LANES; lane++)
+                if ((mask >>> lane & 1) == 0)
+                    table[index++] = lane;
+        }
+        return table;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorMask<Integer>[] prefixMasks() {
+        VectorMask<Integer>[] masks = (VectorMask<Integer>[]) new VectorMask<?>[LANES + 1];
+        for (int i = 0; i <= LANES; i++)
+            masks[i] = VectorMask.fromLong(SPECIES, (1L << i) - 1);
+        return masks;
+    }
+
+    private static VectorShuffle<Integer> exchange(int bit) {
+        return VectorShuffle.fromOp(SPECIES, i -> i ^ bit);
+    }
+
+    private static VectorMask<Integer> greater(int k, int j) {
+        boolean[] lanes = new boolean[LANES];
+        for (int i = 0; i < LANES; i++)
+            lanes[i] = ((i & j) == 0) != ((i & k) == 0);
+        return VectorMask.fromArray(SPECIES, lanes, 0);
+    }
+}
@@ -0,0 +1,337 @@
+package sort;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * K-way merge combines any number of sorted inputs into a single sorted sequence. The merge is
+ * lazy: it returns an iterator that reads one element ahead from each input and yields the next
+ * smallest element on demand, so the merged sequence is never materialized and inputs can be
+ * unbounded streams. The next element is picked by a tournament tree of losers, which replays a
+ * single path of {@code log k} matches per element.
+ * <p>
+ * The merge is stable: equal elements come out in the order of their inputs, and in their order
+ * within an input. Inputs that are not sorted are merged without an error, but the output is then
+ * not sorted either. Doubles are ordered as by {@link Double#compare(double, double)}: -0.0 comes
+ * before 0.0 and NaN comes after positive infinity.
+ *
+ * Average case = O(nlogk) Worst case = O(nlogk) Best case = O(nlogk)
+ *
+ * NOTE: n is the total number of elements and k is the number of inputs
+ *
+ * Reference: The Art of Computer Programming, Volume 3 by Donald Knuth, section 5.4.1
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class KWayMerge {
+
+    /**
+     * Merges sorted iterators of objects that implement Comparable.
+     *
+     * @param inputs the iterators, each one in ascending order.
+     * @return an iterator over the elements of every input in ascending order.
+     */
+    public static <T extends Comparable<? super T>> Iterator<T> merge(
+            List<? extends Iterator<? extends T>> inputs) {
+        return merge(inputs, Comparator.naturalOrder());
+    }
+
+    /**
+     * Merges iterators of objects sorted according to the order induced by a comparator.
+     *
+     * @param inputs     the iterators, each one in the order of the comparator.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return an iterator over the elements of every input in the order of the comparator.
+     */
+    public static <T> Iterator<T> merge(List<? extends Iterator<? extends T>> inputs,
+                                        Comparator<? super T> comparator) {
+        return new ObjectMerge<>(inputs, comparator);
+    }
+
+    /**
+     * Merges arrays of objects sorted according to the order induced by a comparator.
+     *
+     * @param comparator the comparator that determines the order of the elements.
+     * @param arrays     the arrays, each one in the order of the comparator.
+     * @return an iterator over the elements of every array in the order of the comparator.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Iterator<T> merge(Comparator<? super T> comparator, T[]... arrays) {
+        // The merge only reads the arrays and never stores into the array of arrays, so handing it
+        // over cannot pollute the heap
+        return new ArrayMerge<>(arrays, comparator);
+    }
+
+    /**
+     * Merges sorted arrays of ints.
+     *
+     * @param arrays the arrays, each one in ascending order.
+     * @return an iterator over the values of every array in ascending order.
+     */
+    public static PrimitiveIterator.OfInt merge(int[]... arrays) {
+        return new IntMerge(arrays);
+    }
+
+    /**
+     * Merges sorted arrays of longs.
+     *
+     * @param arrays the arrays, each one in ascending order.
+     * @return an iterator over the values of every array in ascending order.
+     */
+    public static PrimitiveIterator.OfLong merge(long[]... arrays) {
+        return new LongMerge(arrays);
+    }
+
+    /**
+     * Merges sorted arrays of doubles.
+     *
+     * @param arrays the arrays, each one in ascending order as by {@link Double#compare}.
+     * @return an iterator over the values of every array in ascending order.
+     */
+    public static PrimitiveIterator.OfDouble merge(double[]... arrays) {
+        return new DoubleMerge(arrays);
+    }
+
+    /**
+     * Merge of iterators, each one read one element ahead into its head.
+     */
+    private static final class ObjectMerge<T> extends LoserTree implements Iterator<T> {
+
+        private final Iterator<? extends T>[] inputs;
+
+        private final Comparator<? super T> comparator;
+
+        private final T[] heads;
+
+        private final boolean[] exhausted;
+
+        @SuppressWarnings("unchecked")
+        ObjectMerge(List<? extends Iterator<? extends T>> inputs,
+                    Comparator<? super T> comparator) {
+            super(inputs.size());
+            this.inputs = (Iterator<? extends T>[]) inputs.toArray(new Iterator<?>[0]);
+            this.comparator = comparator;
+            this.heads = (T[]) new Object[this.inputs.length];
+            this.exhausted = new boolean[this.inputs.length];
+            for (int input = 0; input < this.inputs.length; input++)
+                advance(input);
+            build();
+        }
+
+        private void advance(int input) {
+            if (inputs[input].hasNext()) {
+                heads[input] = inputs[input].next();
+            } else {
+                heads[input] = null;
+                exhausted[input] = true;
+            }
+        }
+
+        @Override
+        boolean exhausted(int source) {
+            return exhausted[source];
+        }
+
+        @Override
+        int compare(int source1, int source2) {
+            return comparator.compare(heads[source1], heads[source2]);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (isEmpty())
+                throw new NoSuchElementException();
+            int input = winner();
+            T next = heads[input];
+            advance(input);
+            replay();
+            return next;
+        }
+    }
+
+    /**
+     * Merge of arrays of objects, each one read at a position.
+     */
+    private static final class ArrayMerge<T> extends LoserTree implements Iterator<T> {
+
+        private final T[][] arrays;
+
+        private final Comparator<? super T> comparator;
+
+        private final int[] positions;
+
+        ArrayMerge(T[][] arrays, Comparator<? super T> comparator) {
+            super(arrays.length);
+            this.arrays = arrays;
+            this.comparator = comparator;
+            this.positions = new int[arrays.length];
+            build();
+        }
+
+        @Override
+        boolean exhausted(int source) {
+            return positions[source] == arrays[source].length;
+        }
+
+        @Override
+        int compare(int source1, int source2) {
+            return comparator.compare(arrays[source1][positions[source1]],
+                    arrays[source2][positions[source2]]);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (isEmpty())
+                throw new NoSuchElementException();
+            int array = winner();
+            T next = arrays[array][positions[array]++];
+            replay();
+            return next;
+        }
+    }
+
+    /**
+     * Merge of arrays of ints, each one read at a position.
+     */
+    private static final class IntMerge extends LoserTree implements PrimitiveIterator.OfInt {
+
+        private final int[][] arrays;
+
+        private final int[] positions;
+
+        IntMerge(int[][] arrays) {
+            super(arrays.length);
+            this.arrays = arrays;
+            this.positions = new int[arrays.length];
+            build();
+        }
+
+        @Override
+        boolean exhausted(int source) {
+            return positions[source] == arrays[source].length;
+        }
+
+        @Override
+        int compare(int source1, int source2) {
+            return Integer.compare(arrays[source1][positions[source1]],
+                    arrays[source2][positions[source2]]);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isEmpty();
+        }
+
+        @Override
+        public int nextInt() {
+            if (isEmpty())
+                throw new NoSuchElementException();
+            int array = winner();
+            int next = arrays[array][positions[array]++];
+            replay();
+            return next;
+        }
+    }
+
+    /**
+     * Merge of arrays of longs, each one read at a position.
+     */
+    private static final class LongMerge extends LoserTree implements PrimitiveIterator.OfLong {
+
+        private final long[][] arrays;
+
+        private final int[] positions;
+
+        LongMerge(long[][] arrays) {
+            super(arrays.length);
+            this.arrays = arrays;
+            this.positions = new int[arrays.length];
+            build();
+        }
+
+        @Override
+        boolean exhausted(int source) {
+            return positions[source] == arrays[source].length;
+        }
+
+        @Override
+        int compare(int source1, int source2) {
+            return Long.compare(arrays[source1][positions[source1]],
+                    arrays[source2][positions[source2]]);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isEmpty();
+        }
+
+        @Override
+        public long nextLong() {
+            if (isEmpty())
+                throw new NoSuchElementException();
+            int array = winner();
+            long next = arrays[array][positions[array]++];
+            replay();
+            return next;
+        }
+    }
+
+    /**
+     * Merge of arrays of doubles, each one read at a position.
+     */
+    private static final class DoubleMerge extends LoserTree
+            implements PrimitiveIterator.OfDouble {
+
+        private final double[][] arrays;
+
+        private final int[] positions;
+
+        DoubleMerge(double[][] arrays) {
+            super(arrays.length);
+            this.arrays = arrays;
+            this.positions = new int[arrays.length];
+            build();
+        }
+
+        @Override
+        boolean exhausted(int source) {
+            return positions[source] == arrays[source].length;
+        }
+
+        @Override
+        int compare(int source1, int source2) {
+            return Double.compare(arrays[source1][positions[source1]],
+                    arrays[source2][positions[source2]]);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isEmpty();
+        }
+
+        @Override
+        public double nextDouble() {
+            if (isEmpty())
+                throw new NoSuchElementException();
+            int array = winner();
+            double next = arrays[array][positions[array]++];
+            replay();
+            return next;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package sort;
+
+/**
+ * A tournament tree of losers over k sorted sources, the engine of {@link KWayMerge} and of the
+ * merges of {@link ExternalSort}. The sources are the leaves of a complete binary tree stored in
+ * an array, and every internal node remembers the source that lost the match played there, while
+ * the overall winner is kept at the root. Once the winner has been taken and its source advanced,
+ * only the matches on the path from its leaf to the root are replayed, each one against the loser
+ * stored at the node, so a merge costs one comparison per level instead of the two of a binary
+ * heap.
+ * <p>
+ * Subclasses hold the sources and compare their heads. An exhausted source loses every match and
+ * ties go to the source with the lower index, so the merge is stable.
+ *
+ * Reference: The Art of Computer Programming, Volume 3 by Donald Knuth, section 5.4.1
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+abstract class LoserTree {
+
+    private final int sources;
+
+    /**
+     * The loser of the match played at every internal node, and the overall winner at index 0.
+     */
+    private final int[] losers;
+
+    LoserTree(int sources) {
+        this.sources = sources;
+        this.losers = new int[Math.max(1, sources)];
+    }
+
+    /**
+     * Returns whether a source has no elements left.
+     */
+    abstract boolean exhausted(int source);
+
+    /**
+     * Compares the heads of two sources that are not exhausted.
+     */
+    abstract int compare(int source1, int source2);
+
+    /**
+     * Plays every match of the tournament. Must be called once the head of every source is known.
+     */
+    final void build() {
+        if (sources == 0)
+            return;
+
+        int[] winners = new int[2 * sources];
+        for (int source = 0; source < sources; source++)
+            winners[sources + source] = source;
+        for (int node = sources - 1; node > 0; node--) {
+            int source1 = winners[2 * node];
+            int source2 = winners[2 * node + 1];
+            boolean first = beats(source1, source2);
+            winners[node] = first ? source1 : source2;
+            losers[node] = first ? source2 : source1;
+        }
+        losers[0] = winners[1];
+    }
+
+    /**
+     * Returns whether every source is exhausted.
+     */
+    final boolean isEmpty() {
+        return sources == 0 || exhausted(losers[0]);
+    }
+
+    /**
+     * Returns the source whose head comes first.
+     */
+    final int winner() {
+        return losers[0];
+    }
+
+    /**
+     * Replays the matches of the winner once its source has advanced.
+     */
+    final void replay() {
+        int winner = losers[0];
+        for (int node = (sources + winner) >>> 1; node > 0; node >>>= 1) {
+            int loser = losers[node];
+            if (beats(loser, winner)) {
+                losers[node] = winner;
+                winner = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+
+    /**
+     * Returns whether the head of a source comes before the head of another.
+     */
+    private boolean beats(int source1, int source2) {
+        if (exhausted(source1))
+            return false;
+        if (exhausted(source2))
+            return true;
+        int compare = compare(source1, source2);
+        return compare < 0 || compare == 0 && source1 < source2;
+    }
+}
@@ -0,0 +1,327 @@
+package sort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Sorts files and buffers of fixed-width binary records in place, without turning the records
+ * into Java objects. Records are compared by a key of {@code keyLength} bytes that starts
+ * {@code keyOffset} bytes into each record, taken as an unsigned big-endian number, which is the
+ * order of {@link java.util.Arrays#compareUnsigned(byte[], byte[])} and of non-negative integers
+ * written with {@link ByteBuffer#putLong} and friends.
+ * <p>
+ * Large ranges are sorted with an in-place MSD radix sort on the key bytes, known as American flag
+ * sort: a first pass counts the records of each of the 256 values of the current byte, and a
+ * second pass moves every record straight into its bucket by following cycles of swaps, so no
+ * second copy of the records is ever needed. Buckets are sorted recursively on the next byte.
+ * Smaller ranges are sorted with a three-way Quick sort on the current byte, the multikey Quick
+ * sort of Bentley and Sedgewick, and the smallest ones with an Insertion sort. The only heap used
+ * is a few counters per key byte, so files much larger than the heap can be sorted once they are
+ * mapped into memory.
+ * <p>
+ * Files are mapped in segments of at most 1 GiB, each holding a whole number of records, since a
+ * single {@link MappedByteBuffer} cannot address more than 2 GiB.
+ *
+ * Average case = O(nk) Worst case = O(nk) Best case = O(n), for keys of k bytes
+ *
+ * Reference: Engineering Radix Sort by McIlroy, Bostic and McIlroy, Fast Algorithms for Sorting
+ * and Searching Strings by Bentley and Sedgewick
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class MappedRecordSort {
+
+    /**
+     * Default number of bytes mapped by each segment of a file.
+     */
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * Ranges with fewer records than this are sorted with a three-way Quick sort instead of a
+     * radix pass.
+     */
+    private static final int QUICK_SORT_THRESHOLD = 1 << 10;
+
+    /**
+     * Ranges with fewer records than this are sorted with an Insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Number of values of a key byte.
+     */
+    private static final int BUCKETS = 256;
+
+    /**
+     * Sorts the records of a file in place.
+     *
+     * @param file       the file, whose size must be a multiple of the record size.
+     * @param recordSize the number of bytes of a record.
+     * @param keyOffset  the offset of the key within a record.
+     * @param keyLength  the number of bytes of the key.
+     * @throws IOException              if the file cannot be mapped.
+     * @throws IllegalArgumentException if the key does not fit in a record or the size of the
+     *                                  file is not a multiple of the record size.
+     */
+    public static void sort(Path file, int recordSize, int keyOffset, int keyLength)
+            throws IOException {
+        sort(file, recordSize, keyOffset, keyLength, SEGMENT_SIZE);
+    }
+
+    /**
+     * Sorts the records of a file in place, mapping it in segments of at most the given size.
+     */
+    static void sort(Path file, int recordSize, int keyOffset, int keyLength, int segmentSize)
+            throws IOException {
+        checkLayout(recordSize, keyOffset, keyLength);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            checkSize(size, recordSize);
+
+            int perSegment = Math.max(1, segmentSize / recordSize);
+            long count = size / recordSize;
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((count + perSegment - 1)
+                    / perSegment)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i * perSegment;
+                long records = Math.min(perSegment, count - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, first * recordSize,
+                        records * recordSize);
+            }
+
+            Records records = new Records(segments, perSegment, recordSize, keyOffset, keyLength);
+            sort(0, count, 0, records);
+            for (MappedByteBuffer segment : segments)
+                segment.force();
+        }
+    }
+
+    /**
+     * Sorts the records between the position and the limit of a buffer in place. The position and
+     * the limit of the buffer are left unchanged.
+     *
+     * @param buffer     the buffer, whose remaining bytes must be a multiple of the record size.
+     * @param recordSize the number of bytes of a record.
+     * @param keyOffset  the offset of the key within a record.
+     * @param keyLength  the number of bytes of the key.
+     * @throws IllegalArgumentException if the key does not fit in a record or the remaining bytes
+     *                                  of the buffer are not a multiple of the record size.
+     */
+    public static void sort(ByteBuffer buffer, int recordSize, int keyOffset, int keyLength) {
+        checkLayout(recordSize, keyOffset, keyLength);
+        checkSize(buffer.remaining(), recordSize);
+
+        int count = buffer.remaining() / recordSize;
+        Records records = new Records(new ByteBuffer[]{buffer.slice()}, Math.max(count, 1),
+                recordSize, keyOffset, keyLength);
+        sort(0, count, 0, records);
+    }
+
+    /**
+     * Sorts a range of records whose keys are known to be equal before byte {@code digit}.
+     *
+     * @param min     the index of the first record of the range, inclusive.
+     * @param max     the index of the last record of the range, exclusive.
+     * @param digit   the index of the key byte to sort by.
+     * @param records the records.
+     */
+    private static void sort(long min, long max, int digit, Records records) {
+        if (max - min < QUICK_SORT_THRESHOLD) {
+            quickSort(min, max, digit, records);
+            return;
+        }
+
+        for (; digit < records.keyLength; digit++) {
+            long[] next = new long[BUCKETS + 1];
+            for (long i = min; i < max; i++)
+                next[records.key(i, digit) + 1]++;
+
+            // Skips a byte that is the same in every record of the range
+            if (next[records.key(min, digit) + 1] == max - min)
+                continue;
+
+            long[] end = new long[BUCKETS];
+            next[0] = min;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                next[bucket + 1] += next[bucket];
+                end[bucket] = next[bucket + 1];
+            }
+
+            // Moves every record to its bucket by following cycles of swaps
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                while (next[bucket] < end[bucket]) {
+                    int key = records.key(next[bucket], digit);
+                    if (key == bucket)
+                        next[bucket]++;
+                    else
+                        records.swap(next[bucket], next[key]++);
+                }
+            }
+
+            long start = min;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                if (end[bucket] - start > 1)
+                    sort(start, end[bucket], digit + 1, records);
+                start = end[bucket];
+            }
+            return;
+        }
+    }
+
+    /**
+     * Sorts a range of records whose keys are known to be equal before byte {@code digit} with a
+     * three-way Quick sort on one key byte at a time: the records are partitioned around the byte
+     * of a pivot, the smaller and the greater parts are sorted on the same byte and the equal part
+     * on the next one.
+     *
+     * @param min     the index of the first record of the range, inclusive.
+     * @param max     the index of the last record of the range, exclusive.
+     * @param digit   the index of the key byte to sort by.
+     * @param records the records.
+     */
+    private static void quickSort(long min, long max, int digit, Records records) {
+        while (max - min >= INSERTION_SORT_THRESHOLD && digit < records.keyLength) {
+            int pivot = median(records.key(min, digit), records.key((min + max) >>> 1, digit),
+                    records.key(max - 1, digit));
+
+            long lt = min;
+            long gt = max;
+            long i = min;
+            while (i < gt) {
+                int key = records.key(i, digit);
+                if (key < pivot)
+                    records.swap(lt++, i++);
+                else if (key > pivot)
+                    records.swap(i, --gt);
+                else
+                    i++;
+            }
+
+            quickSort(min, lt, digit, records);
+            quickSort(gt, max, digit, records);
+            min = lt;
+            max = gt;
+            digit++;
+        }
+
+        if (digit < records.keyLength)
+            insertionSort(min, max, digit, records);
+    }
+
+    /**
+     * Sorts a range of records whose keys are known to be equal before byte {@code digit} with an
+     * Insertion sort.
+     *
+     * @param min     the index of the first record of the range, inclusive.
+     * @param max     the index of the last record of the range, exclusive.
+     * @param digit   the index of the first key byte to compare.
+     * @param records the records.
+     */
+    private static void insertionSort(long min, long max, int digit, Records records) {
+        for (long i = min + 1; i < max; i++) {
+            for (long j = i; j > min && records.compare(j - 1, j, digit) > 0; j--)
+                records.swap(j - 1, j);
+        }
+    }
+
+    /**
+     * Returns the median of three values.
+     */
+    private static int median(int a, int b, int c) {
+        return a < b ? (b < c ? b : Math.max(a, c)) : (a < c ? a : Math.max(b, c));
+    }
+
+    /**
+     * Checks that the key fits in a record.
+     */
+    private static void checkLayout(int recordSize, int keyOffset, int keyLength) {
+        if (recordSize <= 0)
+            throw new IllegalArgumentException("The record size must be positive: " + recordSize);
+        if (keyOffset < 0 || keyLength < 0 || keyOffset > recordSize - keyLength)
+            throw new IllegalArgumentException("The key [" + keyOffset + ", "
+                    + (keyOffset + keyLength) + ") does not fit in a record of " + recordSize
+                    + " bytes");
+    }
+
+    /**
+     * Checks that a number of bytes holds a whole number of records.
+     */
+    private static void checkSize(long size, int recordSize) {
+        if (size % recordSize != 0)
+            throw new IllegalArgumentException(size + " bytes are not a whole number of records of "
+                    + recordSize + " bytes");
+    }
+
+    /**
+     * Records stored in a sequence of buffers, each holding the same whole number of records
+     * except for the last one.
+     */
+    private static final class Records {
+
+        private final ByteBuffer[] segments;
+
+        private final int perSegment;
+
+        private final int recordSize;
+
+        private final int keyOffset;
+
+        private final int keyLength;
+
+        private final byte[] record1;
+
+        private final byte[] record2;
+
+        Records(ByteBuffer[] segments, int perSegment, int recordSize, int keyOffset,
+                int keyLength) {
+            this.segments = segments;
+            this.perSegment = perSegment;
+            this.recordSize = recordSize;
+            this.keyOffset = keyOffset;
+            this.keyLength = keyLength;
+            this.record1 = new byte[recordSize];
+            this.record2 = new byte[recordSize];
+        }
+
+        /**
+         * Returns a byte of the key of a record as an unsigned value.
+         */
+        int key(long index, int digit) {
+            ByteBuffer segment = segments[(int) (index / perSegment)];
+            return segment.get((int) (index % perSegment) * recordSize + keyOffset + digit) & 0xFF;
+        }
+
+        /**
+         * Compares the keys of two records from byte {@code digit} on.
+         */
+        int compare(long index1, long index2, int digit) {
+            for (; digit < keyLength; digit++) {
+                int compare = Integer.compare(key(index1, digit), key(index2, digit));
+                if (compare != 0)
+                    return compare;
+            }
+            return 0;
+        }
+
+        /**
+         * Interchanges two records.
+         */
+        void swap(long index1, long index2) {
+            ByteBuffer segment1 = segments[(int) (index1 / perSegment)];
+            ByteBuffer segment2 = segments[(int) (index2 / perSegment)];
+            int offset1 = (int) (index1 % perSegment) * recordSize;
+            int offset2 = (int) (index2 % perSegment) * recordSize;
+            segment1.get(offset1, record1);
+            segment2.get(offset2, record2);
+            segment1.put(offset1, record2);
+            segment2.put(offset2, record1);
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package sort;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntBinaryOperator;
+
 /**
  * Merge sort is a divide and conquer algorithm that was invented by John Von Neumann in 1945. Merge
  * sort works by sorting an array, dividing it into two halves, sorting the two halves
  * (recursively), and then merging the results. One of merge sort’s most attractive properties is
  * that it guarantees to sort any array of N items in time proportional to N log N. Its prime
  * disadvantage is that it uses extra space proportional to N.
+ * <p>
+ * This implementation allocates that extra space once per call, or borrows it from the caller, and
+ * switches the roles of the array and the auxiliary array at each level of the recursion so that
+ * merged elements never have to be copied back. Merging is skipped when the largest element of the
+ * first half is not greater than the smallest element of the second half, so already sorted input
+ * is sorted with a linear number of comparisons. Ranges shorter than
+ * {@code INSERTION_SORT_THRESHOLD} are sorted in place with an insertion sort, or with a
+ * {@link SortingNetwork} for primitives, where stability does not matter.
  *
  * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
  *
@@ -16,70 +28,519 @@ package sort;
 
 public class MergeSort {
 
+    /**
+     * Ranges shorter than this are sorted with an insertion sort, or with a sorting network for
+     * primitives, instead of being split further. It must not exceed
+     * {@link SortingNetwork#MAX_SIZE}.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
     /**
      * Sorts an array of objects that implement Comparable by using the Merge sort algorithm.
      *
      * @param unsorted the array to be sorted.
      */
     public static <T extends Comparable<T>> void sort(T... unsorted) {
-        sort(0, unsorted.length - 1, unsorted);
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
     }
 
     /**
-     * Sorts an array of objects that implement Comparable by using the Merge sort algorithm.
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Merge sort algorithm. Elements outside of the range are left untouched. The sort is
+     * stable: equal elements keep their relative order.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+        T[] buffer = Arrays.copyOfRange(unsorted, from, to);
+        if (SortStats.ENABLED)
+            SortStats.allocate((long) (to - from) * SortStats.REFERENCE_BYTES);
+        sort(buffer, 0, unsorted, from, to - from, SortStats.counting(comparator));
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Merge sort algorithm, using the given array as auxiliary space instead of allocating a new
+     * one. This allows the caller to reuse the same buffer across many sorts. Only the first
+     * {@code to - from} positions of the buffer are used and their previous content is discarded.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param buffer     the auxiliary array, at least {@code to - from} long.
+     * @throws IllegalArgumentException       if {@code from > to} or the buffer is too short.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator,
+                                T[] buffer) {
+        Ranges.check(unsorted.length, from, to);
+        checkBuffer(buffer.length, to - from);
+        System.arraycopy(unsorted, from, buffer, 0, to - from);
+        sort(buffer, 0, unsorted, from, to - from, SortStats.counting(comparator));
+    }
+
+    /**
+     * Sorts {@code length} elements into {@code dst}, starting at {@code dstLo}. On entry both
+     * arrays must hold the same elements in the given ranges; the range of {@code src} is used as
+     * auxiliary space and is left in an unspecified order.
+     *
+     * @param src        the auxiliary array.
+     * @param srcLo      the index of the first element in the auxiliary array.
+     * @param dst        the array that receives the sorted elements.
+     * @param dstLo      the index of the first element in the destination array.
+     * @param length     the number of elements to be sorted.
+     * @param comparator the comparator that determines the order of the elements.
+     */
+    static <T> void sort(T[] src, int srcLo, T[] dst, int dstLo, int length,
+                         Comparator<? super T> comparator) {
+        if (length < INSERTION_SORT_THRESHOLD) {
+            InsertionSort.binarySort(dstLo, dstLo + length, dstLo + 1, comparator, dst);
+            return;
+        }
+
+        int half = length >>> 1;
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(dst, dstLo, src, srcLo, half, comparator);
+        sort(dst, dstLo + half, src, srcLo + half, length - half, comparator);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+
+        int mid = srcLo + half;
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0)
+            System.arraycopy(src, srcLo, dst, dstLo, length);
+        else
+            merge(src, srcLo, mid, mid, srcLo + length, dst, dstLo, comparator);
+        if (SortStats.ENABLED)
+            SortStats.moves(length);
+    }
+
+    /**
+     * Merges two sorted runs of the source array into the destination array. When two elements are
+     * equal the one from the first run is taken first, which keeps the merge stable.
+     *
+     * @param src        the array that contains both runs.
+     * @param first1     the index of the first element of the first run, inclusive.
+     * @param last1      the index of the last element of the first run, exclusive.
+     * @param first2     the index of the first element of the second run, inclusive.
+     * @param last2      the index of the last element of the second run, exclusive.
+     * @param dst        the array that receives the merged elements.
+     * @param index      the index of the destination array where the merged elements start.
+     * @param comparator the comparator that determines the order of the elements.
+     */
+    static <T> void merge(T[] src, int first1, int last1, int first2, int last2, T[] dst, int index,
+                          Comparator<? super T> comparator) {
+        while (first1 < last1 && first2 < last2) {
+            if (comparator.compare(src[first1], src[first2]) <= 0)
+                dst[index++] = src[first1++];
+            else
+                dst[index++] = src[first2++];
+        }
+
+        System.arraycopy(src, first1, dst, index, last1 - first1);
+        System.arraycopy(src, first2, dst, index + last1 - first1, last2 - first2);
+    }
+
+    /**
+     * Sorts an array of ints by using the Merge sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        if (SortStats.ENABLED)
+            SortStats.allocate((long) unsorted.length * Integer.BYTES);
+        sort(unsorted.clone(), 0, unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts an array of ints by using the Merge sort algorithm, using the given array as auxiliary
+     * space instead of allocating a new one. Only the first {@code unsorted.length} positions of
+     * the buffer are used and their previous content is discarded.
      *
      * @param unsorted the array to be sorted.
-     * @param min      the lower index of the array to be sorted.
-     * @param max      the upper index of the array to be sorted.
-     */
-    private static <T extends Comparable<T>> void sort(int min, int max, T... unsorted) {
-        if (min < max) {
-            int mid = (min + max) / 2;
-            sort(min, mid, unsorted);
-            sort(mid + 1, max, unsorted);
-            merge(min, mid, max, unsorted);
+     * @param buffer   the auxiliary array, at least as long as the array to be sorted.
+     * @throws IllegalArgumentException if the buffer is too short.
+     */
+    public static void sort(int[] unsorted, int[] buffer) {
+        checkBuffer(buffer.length, unsorted.length);
+        System.arraycopy(unsorted, 0, buffer, 0, unsorted.length);
+        sort(buffer, 0, unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts {@code length} ints into {@code dst}, starting at {@code dstLo}. On entry both
+     * arrays must hold the same values in the given ranges; the range of {@code src} is used as
+     * auxiliary space and is left in an unspecified order.
+     *
+     * @param src    the auxiliary array.
+     * @param srcLo  the index of the first value in the auxiliary array.
+     * @param dst    the array that receives the sorted values.
+     * @param dstLo  the index of the first value in the destination array.
+     * @param length the number of values to be sorted.
+     */
+    static void sort(int[] src, int srcLo, int[] dst, int dstLo, int length) {
+        if (length < INSERTION_SORT_THRESHOLD) {
+            SortingNetwork.networkSort(dstLo, dstLo + length, dst);
+            return;
         }
+
+        int half = length >>> 1;
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(dst, dstLo, src, srcLo, half);
+        sort(dst, dstLo + half, src, srcLo + half, length - half);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+
+        int mid = srcLo + half;
+        if (src[mid - 1] <= src[mid])
+            System.arraycopy(src, srcLo, dst, dstLo, length);
+        else
+            merge(src, srcLo, mid, mid, srcLo + length, dst, dstLo);
+        if (SortStats.ENABLED)
+            SortStats.moves(length);
+    }
+
+    /**
+     * Merges two sorted runs of ints of the source array into the destination array.
+     *
+     * @param src    the array that contains both runs.
+     * @param first1 the index of the first value of the first run, inclusive.
+     * @param last1  the index of the last value of the first run, exclusive.
+     * @param first2 the index of the first value of the second run, inclusive.
+     * @param last2  the index of the last value of the second run, exclusive.
+     * @param dst    the array that receives the merged values.
+     * @param index  the index of the destination array where the merged values start.
+     */
+    static void merge(int[] src, int first1, int last1, int first2, int last2,
+                      int[] dst, int index) {
+        while (first1 < last1 && first2 < last2) {
+            if (src[first1] <= src[first2])
+                dst[index++] = src[first1++];
+            else
+                dst[index++] = src[first2++];
+        }
+
+        System.arraycopy(src, first1, dst, index, last1 - first1);
+        System.arraycopy(src, first2, dst, index + last1 - first1, last2 - first2);
     }
 
     /**
-     * Merges two sorted sub-array back into the single sorted sub-array.
+     * Sorts an array of longs by using the Merge sort algorithm.
      *
      * @param unsorted the array to be sorted.
-     * @param first    the lower index of the first sub-array.
-     * @param mid      the upper index of the first sub-array.
-     * @param last     the upper index of the second sub-array.
-     */
-    private static <T extends Comparable<T>> void merge(int first, int mid, int last, T... unsorted) {
-        T[] temp = ((T[]) (new Comparable[unsorted.length]));
-
-        int index = first;
-        int first1 = first, last1 = mid;
-        int first2 = mid + 1, last2 = last;
-
-        while (first1 <= last1 && first2 <= last2) {
-            if (unsorted[first1].compareTo(unsorted[first2]) < 0) {
-                temp[index] = unsorted[first1];
-                first1++;
-            } else {
-                temp[index] = unsorted[first2];
-                first2++;
+     */
+    public static void sort(long[] unsorted) {
+        if (SortStats.ENABLED)
+            SortStats.allocate((long) unsorted.length * Long.BYTES);
+        sort(unsorted.clone(), 0, unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts an array of longs by using the Merge sort algorithm, using the given array as auxiliary
+     * space instead of allocating a new one. Only the first {@code unsorted.length} positions of
+     * the buffer are used and their previous content is discarded.
+     *
+     * @param unsorted the array to be sorted.
+     * @param buffer   the auxiliary array, at least as long as the array to be sorted.
+     * @throws IllegalArgumentException if the buffer is too short.
+     */
+    public static void sort(long[] unsorted, long[] buffer) {
+        checkBuffer(buffer.length, unsorted.length);
+        System.arraycopy(unsorted, 0, buffer, 0, unsorted.length);
+        sort(buffer, 0, unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts {@code length} longs into {@code dst}, starting at {@code dstLo}. On entry both
+     * arrays must hold the same values in the given ranges; the range of {@code src} is used as
+     * auxiliary space and is left in an unspecified order.
+     *
+     * @param src    the auxiliary array.
+     * @param srcLo  the index of the first value in the auxiliary array.
+     * @param dst    the array that receives the sorted values.
+     * @param dstLo  the index of the first value in the destination array.
+     * @param length the number of values to be sorted.
+     */
+    static void sort(long[] src, int srcLo, long[] dst, int dstLo, int length) {
+        if (length < INSERTION_SORT_THRESHOLD) {
+            SortingNetwork.networkSort(dstLo, dstLo + length, dst);
+            return;
+        }
+
+        int half = length >>> 1;
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(dst, dstLo, src, srcLo, half);
+        sort(dst, dstLo + half, src, srcLo + half, length - half);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+
+        int mid = srcLo + half;
+        if (src[mid - 1] <= src[mid])
+            System.arraycopy(src, srcLo, dst, dstLo, length);
+        else
+            merge(src, srcLo, mid, mid, srcLo + length, dst, dstLo);
+        if (SortStats.ENABLED)
+            SortStats.moves(length);
+    }
+
+    /**
+     * Merges two sorted runs of longs of the source array into the destination array.
+     *
+     * @param src    the array that contains both runs.
+     * @param first1 the index of the first value of the first run, inclusive.
+     * @param last1  the index of the last value of the first run, exclusive.
+     * @param first2 the index of the first value of the second run, inclusive.
+     * @param last2  the index of the last value of the second run, exclusive.
+     * @param dst    the array that receives the merged values.
+     * @param index  the index of the destination array where the merged values start.
+     */
+    static void merge(long[] src, int first1, int last1, int first2, int last2,
+                      long[] dst, int index) {
+        while (first1 < last1 && first2 < last2) {
+            if (src[first1] <= src[first2])
+                dst[index++] = src[first1++];
+            else
+                dst[index++] = src[first2++];
+        }
+
+        System.arraycopy(src, first1, dst, index, last1 - first1);
+        System.arraycopy(src, first2, dst, index + last1 - first1, last2 - first2);
+    }
+
+    /**
+     * Sorts an array of doubles by using the Merge sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        if (SortStats.ENABLED)
+            SortStats.allocate((long) unsorted.length * Double.BYTES);
+        sort(unsorted.clone(), 0, unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts an array of doubles by using the Merge sort algorithm, using the given array as auxiliary
+     * space instead of allocating a new one. Only the first {@code unsorted.length} positions of
+     * the buffer are used and their previous content is discarded.
+     *
+     * @param unsorted the array to be sorted.
+     * @param buffer   the auxiliary array, at least as long as the array to be sorted.
+     * @throws IllegalArgumentException if the buffer is too short.
+     */
+    public static void sort(double[] unsorted, double[] buffer) {
+        checkBuffer(buffer.length, unsorted.length);
+        System.arraycopy(unsorted, 0, buffer, 0, unsorted.length);
+        sort(buffer, 0, unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts {@code length} doubles into {@code dst}, starting at {@code dstLo}. On entry both
+     * arrays must hold the same values in the given ranges; the range of {@code src} is used as
+     * auxiliary space and is left in an unspecified order.
+     *
+     * @param src    the auxiliary array.
+     * @param srcLo  the index of the first value in the auxiliary array.
+     * @param dst    the array that receives the sorted values.
+     * @param dstLo  the index of the first value in the destination array.
+     * @param length the number of values to be sorted.
+     */
+    static void sort(double[] src, int srcLo, double[] dst, int dstLo, int length) {
+        if (length < INSERTION_SORT_THRESHOLD) {
+            SortingNetwork.networkSort(dstLo, dstLo + length, dst);
+            return;
+        }
+
+        int half = length >>> 1;
+        if (SortStats.ENABLED)
+            SortStats.enter();
+        sort(dst, dstLo, src, srcLo, half);
+        sort(dst, dstLo + half, src, srcLo + half, length - half);
+        if (SortStats.ENABLED)
+            SortStats.exit();
+
+        int mid = srcLo + half;
+        if (Double.compare(src[mid - 1], src[mid]) <= 0)
+            System.arraycopy(src, srcLo, dst, dstLo, length);
+        else
+            merge(src, srcLo, mid, mid, srcLo + length, dst, dstLo);
+        if (SortStats.ENABLED)
+            SortStats.moves(length);
+    }
+
+    /**
+     * Merges two sorted runs of doubles of the source array into the destination array.
+     *
+     * @param src    the array that contains both runs.
+     * @param first1 the index of the first value of the first run, inclusive.
+     * @param last1  the index of the last value of the first run, exclusive.
+     * @param first2 the index of the first value of the second run, inclusive.
+     * @param last2  the index of the last value of the second run, exclusive.
+     * @param dst    the array that receives the merged values.
+     * @param index  the index of the destination array where the merged values start.
+     */
+    static void merge(double[] src, int first1, int last1, int first2, int last2,
+                      double[] dst, int index) {
+        while (first1 < last1 && first2 < last2) {
+            if (Double.compare(src[first1], src[first2]) <= 0)
+                dst[index++] = src[first1++];
+            else
+                dst[index++] = src[first2++];
+        }
+
+        System.arraycopy(src, first1, dst, index, last1 - first1);
+        System.arraycopy(src, first2, dst, index + last1 - first1, last2 - first2);
+    }
+
+    /**
+     * Returns the permutation that sorts an array of objects according to the order induced by a
+     * comparator, leaving the array untouched: {@code keys[order[0]]}, {@code keys[order[1]]} and
+     * so on are in order. Equal keys keep the order of their indices. The permutation can be
+     * applied to the keys and to other arrays with {@link Permutations}.
+     *
+     * @param keys       the keys.
+     * @param comparator the comparator that determines the order of the keys.
+     * @return the indices of the keys in sorted order.
+     */
+    public static <T> int[] argsort(T[] keys, Comparator<? super T> comparator) {
+        Comparator<? super T> counting = SortStats.counting(comparator);
+        return argsort(keys.length, (index1, index2) -> counting.compare(keys[index1],
+                keys[index2]));
+    }
+
+    /**
+     * Returns the permutation that sorts an array of doubles, leaving the array untouched:
+     * {@code keys[order[0]]}, {@code keys[order[1]]} and so on are in order. Equal keys keep the
+     * order of their indices. Doubles are ordered as by {@link Double#compare}: -0.0 comes before
+     * 0.0 and NaN comes after positive infinity.
+     *
+     * @param keys the keys.
+     * @return the indices of the keys in sorted order.
+     */
+    public static int[] argsort(double[] keys) {
+        return argsort(keys.length, (index1, index2) -> Double.compare(keys[index1],
+                keys[index2]));
+    }
+
+    /**
+     * Sorts an array of objects according to the order induced by a comparator, and reorders
+     * every companion column the same way, so that the rows formed by the elements at the same
+     * index stay together. The sort is stable.
+     *
+     * @param keys       the keys to be sorted.
+     * @param comparator the comparator that determines the order of the keys.
+     * @param columns    the companion columns, each one an array of ints, longs, doubles or
+     *                   objects as long as the keys.
+     * @throws IllegalArgumentException if a column is not one of those arrays or differs in length
+     *                                  from the keys.
+     */
+    public static <T> void coSort(T[] keys, Comparator<? super T> comparator, Object[] columns) {
+        int[] order = argsort(keys, comparator);
+        Permutations.applyToColumns(order, columns);
+        Permutations.apply(order, keys);
+    }
+
+    /**
+     * Sorts an array of doubles, and reorders every companion column the same way, so that the
+     * rows formed by the elements at the same index stay together. The sort is stable. Doubles are
+     * ordered as by {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive
+     * infinity.
+     *
+     * @param keys    the keys to be sorted.
+     * @param columns the companion columns, each one an array of ints, longs, doubles or objects
+     *                as long as the keys.
+     * @throws IllegalArgumentException if a column is not one of those arrays or differs in length
+     *                                  from the keys.
+     */
+    public static void coSort(double[] keys, Object[] columns) {
+        int[] order = argsort(keys);
+        Permutations.applyToColumns(order, columns);
+        Permutations.apply(order, keys);
+    }
+
+    /**
+     * Sorts the indices of a sequence of keys with the Merge sort algorithm.
+     *
+     * @param length     the number of keys.
+     * @param comparator the comparator of the keys at two indices.
+     * @return the indices of the keys in sorted order.
+     */
+    private static int[] argsort(int length, IntBinaryOperator comparator) {
+        int[] order = Permutations.identity(length);
+        if (SortStats.ENABLED)
+            SortStats.allocate(2L * length * Integer.BYTES);
+        sort(order.clone(), 0, order, 0, length, comparator);
+        return order;
+    }
+
+    /**
+     * Sorts {@code length} indices into {@code dst}, starting at {@code dstLo}, by the keys they
+     * point to. On entry both arrays must hold the same indices in the given ranges; the range of
+     * {@code src} is used as auxiliary space and is left in an unspecified order.
+     *
+     * @param src        the auxiliary array.
+     * @param srcLo      the index of the first index in the auxiliary array.
+     * @param dst        the array that receives the sorted indices.
+     * @param dstLo      the index of the first index in the destination array.
+     * @param length     the number of indices to be sorted.
+     * @param comparator the comparator of the keys at two indices.
+     */
+    private static void sort(int[] src, int srcLo, int[] dst, int dstLo, int length,
+                             IntBinaryOperator comparator) {
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = dstLo + 1; i < dstLo + length; i++) {
+                int index = dst[i];
+                int j = i;
+                for (; j > dstLo && comparator.applyAsInt(dst[j - 1], index) > 0; j--)
+                    dst[j] = dst[j - 1];
+                dst[j] = index;
             }
-            index++;
+            return;
         }
 
-        while (first1 <= last1) {
-            temp[index] = unsorted[first1];
-            first1++;
-            index++;
+        int half = length >>> 1;
+        sort(dst, dstLo, src, srcLo, half, comparator);
+        sort(dst, dstLo + half, src, srcLo + half, length - half, comparator);
+
+        int first1 = srcLo;
+        int last1 = srcLo + half;
+        int first2 = last1;
+        int last2 = srcLo + length;
+        if (comparator.applyAsInt(src[last1 - 1], src[first2]) <= 0) {
+            System.arraycopy(src, srcLo, dst, dstLo, length);
+            return;
         }
 
-        while (first2 <= last2) {
-            temp[index] = unsorted[first2];
-            first2++;
-            index++;
+        int index = dstLo;
+        while (first1 < last1 && first2 < last2) {
+            if (comparator.applyAsInt(src[first1], src[first2]) <= 0)
+                dst[index++] = src[first1++];
+            else
+                dst[index++] = src[first2++];
         }
+        System.arraycopy(src, first1, dst, index, last1 - first1);
+        System.arraycopy(src, first2, dst, index + last1 - first1, last2 - first2);
+    }
 
-        for (index = first; index <= last; index++)
-            unsorted[index] = temp[index];
+    /**
+     * Checks that a caller supplied buffer is large enough to hold the elements being sorted.
+     *
+     * @param bufferLength the length of the buffer.
+     * @param length       the number of elements being sorted.
+     * @throws IllegalArgumentException if the buffer is too short.
+     */
+    private static void checkBuffer(int bufferLength, int length) {
+        if (bufferLength < length)
+            throw new IllegalArgumentException("The buffer holds " + bufferLength +
+                    " elements but " + length + " are being sorted");
     }
-}
\ No newline at end of file
+}
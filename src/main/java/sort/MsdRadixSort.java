@@ -0,0 +1,455 @@
+package sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Most significant digit Radix sort distributes the keys into buckets by their first digit, then
+ * sorts every bucket independently by the following digits. Since buckets never overlap, each one
+ * can be sorted by a separate task of a {@link ForkJoinPool}. Large ranges are also partitioned in
+ * parallel: the range is split in chunks, the chunks build their digit histograms and scatter their
+ * keys concurrently, each one into its own slice of every bucket.
+ * <p>
+ * Digits are one byte wide. Longs are ordered as signed numbers, byte arrays of any length are
+ * ordered lexicographically as unsigned bytes, as by
+ * {@link Arrays#compareUnsigned(byte[], byte[])}, with a proper prefix ordered before the longer
+ * key. Buckets with few keys are finished by Insertion sort. The sort is not stable and uses an
+ * auxiliary array as long as the input.
+ *
+ * Average case = O(n*k) Worst case = O(n*k) Best case = O(n)
+ *
+ * NOTE: n is the number of keys and k is the number of bytes in a key
+ *
+ * Reference: Algorithms by Robert Sedgewick, section 5.1
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class MsdRadixSort {
+
+    /**
+     * Number of keys below which ranges are sorted sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    /**
+     * Number of bits in each digit and the resulting number of buckets.
+     */
+    private static final int DIGIT_BITS = 8;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = BUCKETS - 1;
+
+    /**
+     * Buckets used for byte arrays: one per byte value plus one for the keys that have no more
+     * bytes.
+     */
+    private static final int BYTE_ARRAY_BUCKETS = BUCKETS + 1;
+
+    /**
+     * Buckets with fewer keys than this are sorted by Insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Sorts an array of longs using the parallel Most significant digit Radix sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of longs using the parallel Most significant digit Radix sort algorithm.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of keys below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(long[] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(new LongSortTask(unsorted, new long[unsorted.length], 0,
+                unsorted.length, 0, threshold));
+    }
+
+    /**
+     * Sorts an array of byte arrays using the parallel Most significant digit Radix sort
+     * algorithm. The byte arrays themselves are not modified.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(byte[][] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of byte arrays using the parallel Most significant digit Radix sort
+     * algorithm. The byte arrays themselves are not modified.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of keys below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(byte[][] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(new BytesSortTask(unsorted, new byte[unsorted.length][],
+                0, unsorted.length, 0, threshold));
+    }
+
+    /**
+     * Checks that a sequential threshold is valid.
+     *
+     * @param threshold the number of keys below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+    }
+
+    /**
+     * Returns a digit of a long, counting from the most significant one. The sign bit is flipped so
+     * that negative keys come first.
+     */
+    private static int digit(long key, int digit) {
+        int shift = Long.SIZE - DIGIT_BITS * (digit + 1);
+        return (int) ((key ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK;
+    }
+
+    /**
+     * Returns the bucket of a byte array for a digit: 0 if the array has no byte at that position,
+     * or the unsigned value of the byte plus one.
+     */
+    private static int digit(byte[] key, int digit) {
+        return digit < key.length ? (key[digit] & 0xFF) + 1 : 0;
+    }
+
+    /**
+     * Sorts a range of an array of longs on the current thread, starting at the given digit.
+     *
+     * @param unsorted the array to be sorted.
+     * @param aux      the auxiliary array.
+     * @param min      the index of the first key of the range, inclusive.
+     * @param max      the index of the last key of the range, exclusive.
+     * @param digit    the digit the keys of the range may differ on.
+     */
+    private static void sort(long[] unsorted, long[] aux, int min, int max, int digit) {
+        if (max - min < INSERTION_SORT_THRESHOLD) {
+            InsertionSort.pairSort(min, max, unsorted);
+            return;
+        }
+
+        int[] count = new int[BUCKETS + 1];
+        for (int i = min; i < max; i++)
+            count[digit(unsorted[i], digit) + 1]++;
+
+        if (count[digit(unsorted[min], digit) + 1] == max - min) {
+            if (digit < Long.BYTES - 1)
+                sort(unsorted, aux, min, max, digit + 1);
+            return;
+        }
+
+        // Turns the counts into the start position of each bucket
+        for (int bucket = 0; bucket < BUCKETS; bucket++)
+            count[bucket + 1] += count[bucket];
+
+        for (int i = min; i < max; i++)
+            aux[min + count[digit(unsorted[i], digit)]++] = unsorted[i];
+        System.arraycopy(aux, min, unsorted, min, max - min);
+
+        // Now count[bucket] is the end position of each bucket
+        if (digit < Long.BYTES - 1) {
+            for (int bucket = 0, start = min; bucket < BUCKETS; bucket++) {
+                int end = min + count[bucket];
+                if (end - start > 1)
+                    sort(unsorted, aux, start, end, digit + 1);
+                start = end;
+            }
+        }
+    }
+
+    /**
+     * Sorts a range of an array of byte arrays on the current thread, starting at the given digit.
+     * All the keys of the range share their first {@code digit} bytes.
+     *
+     * @param unsorted the array to be sorted.
+     * @param aux      the auxiliary array.
+     * @param min      the index of the first key of the range, inclusive.
+     * @param max      the index of the last key of the range, exclusive.
+     * @param digit    the digit the keys of the range may differ on.
+     */
+    private static void sort(byte[][] unsorted, byte[][] aux, int min, int max, int digit) {
+        int[] count = new int[BYTE_ARRAY_BUCKETS + 1];
+
+        // Advances over the digits that all the keys share instead of recursing on them
+        while (true) {
+            if (max - min < INSERTION_SORT_THRESHOLD) {
+                insertionSort(unsorted, min, max, digit);
+                return;
+            }
+
+            Arrays.fill(count, 0);
+            for (int i = min; i < max; i++)
+                count[digit(unsorted[i], digit) + 1]++;
+
+            int first = digit(unsorted[min], digit);
+            if (count[first + 1] != max - min)
+                break;
+            if (first == 0)
+                return;
+            digit++;
+        }
+
+        for (int bucket = 0; bucket < BYTE_ARRAY_BUCKETS; bucket++)
+            count[bucket + 1] += count[bucket];
+
+        for (int i = min; i < max; i++)
+            aux[min + count[digit(unsorted[i], digit)]++] = unsorted[i];
+        System.arraycopy(aux, min, unsorted, min, max - min);
+
+        // The keys of the first bucket have ended, so they are all equal
+        for (int bucket = 1, start = min + count[0]; bucket < BYTE_ARRAY_BUCKETS; bucket++) {
+            int end = min + count[bucket];
+            if (end - start > 1)
+                sort(unsorted, aux, start, end, digit + 1);
+            start = end;
+        }
+    }
+
+    /**
+     * Sorts a range of an array of byte arrays that share their first {@code digit} bytes using
+     * the Insertion sort algorithm, comparing only the remaining bytes.
+     */
+    private static void insertionSort(byte[][] unsorted, int min, int max, int digit) {
+        for (int i = min + 1; i < max; i++) {
+            byte[] key = unsorted[i];
+            int j = i;
+            while (j > min && compare(key, unsorted[j - 1], digit) < 0) {
+                unsorted[j] = unsorted[j - 1];
+                j--;
+            }
+            unsorted[j] = key;
+        }
+    }
+
+    /**
+     * Compares two byte arrays as unsigned bytes starting at the given position.
+     */
+    private static int compare(byte[] key1, byte[] key2, int from) {
+        return Arrays.compareUnsigned(key1, from, key1.length, key2, from, key2.length);
+    }
+
+    /**
+     * Splits a range in chunks of at least {@code threshold} keys, at most four per worker thread.
+     *
+     * @param length    the number of keys in the range.
+     * @param threshold the minimum number of keys in a chunk.
+     * @return the number of chunks.
+     */
+    private static int chunks(int length, int threshold) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(1, Math.min(4 * parallelism, length / threshold));
+    }
+
+    /**
+     * Returns the index where a chunk of a range starts, spreading the keys evenly among chunks.
+     *
+     * @param min    the index of the first key of the range.
+     * @param length the number of keys in the range.
+     * @param chunk  the chunk, or the number of chunks to get the end of the range.
+     * @param chunks the number of chunks.
+     */
+    private static int bound(int min, int length, int chunk, int chunks) {
+        return min + (int) ((long) length * chunk / chunks);
+    }
+
+    /**
+     * Task that sorts a range of an array of longs. Ranges longer than the threshold are
+     * partitioned by one digit in parallel and every resulting bucket is sorted by a new task.
+     */
+    private static class LongSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] unsorted, aux;
+        private final int min, max, digit, threshold;
+
+        LongSortTask(long[] unsorted, long[] aux, int min, int max, int digit, int threshold) {
+            this.unsorted = unsorted;
+            this.aux = aux;
+            this.min = min;
+            this.max = max;
+            this.digit = digit;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length = max - min;
+            if (length <= threshold) {
+                sort(unsorted, aux, min, max, digit);
+                return;
+            }
+
+            int chunks = chunks(length, threshold);
+            int[][] offsets = new int[chunks][BUCKETS];
+
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int[] count = offsets[chunk];
+                int from = bound(min, length, chunk, chunks);
+                int to = bound(min, length, chunk + 1, chunks);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    for (int i = from; i < to; i++)
+                        count[digit(unsorted[i], digit)]++;
+                }));
+            }
+            invokeAll(tasks);
+
+            // Each chunk writes its keys of a bucket right after the ones of the previous chunk
+            int[] ends = new int[BUCKETS];
+            int position = min;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int count = offsets[chunk][bucket];
+                    offsets[chunk][bucket] = position;
+                    position += count;
+                }
+                ends[bucket] = position;
+            }
+
+            int first = digit(unsorted[min], digit);
+            if (ends[first] - (first == 0 ? min : ends[first - 1]) != length) {
+                tasks.clear();
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int[] offset = offsets[chunk];
+                    int from = bound(min, length, chunk, chunks);
+                    int to = bound(min, length, chunk + 1, chunks);
+                    tasks.add(ForkJoinTask.adapt(() -> {
+                        for (int i = from; i < to; i++)
+                            aux[offset[digit(unsorted[i], digit)]++] = unsorted[i];
+                    }));
+                }
+                invokeAll(tasks);
+
+                tasks.clear();
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int from = bound(min, length, chunk, chunks);
+                    int to = bound(min, length, chunk + 1, chunks);
+                    tasks.add(ForkJoinTask.adapt(
+                            () -> System.arraycopy(aux, from, unsorted, from, to - from)));
+                }
+                invokeAll(tasks);
+            }
+
+            if (digit == Long.BYTES - 1)
+                return;
+
+            List<LongSortTask> buckets = new ArrayList<>();
+            for (int bucket = 0, start = min; bucket < BUCKETS; bucket++) {
+                if (ends[bucket] - start > 1)
+                    buckets.add(new LongSortTask(unsorted, aux, start, ends[bucket], digit + 1,
+                            threshold));
+                start = ends[bucket];
+            }
+            invokeAll(buckets);
+        }
+    }
+
+    /**
+     * Task that sorts a range of an array of byte arrays. Ranges longer than the threshold are
+     * partitioned by one digit in parallel and every resulting bucket is sorted by a new task.
+     */
+    private static class BytesSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[][] unsorted, aux;
+        private final int min, max, digit, threshold;
+
+        BytesSortTask(byte[][] unsorted, byte[][] aux, int min, int max, int digit,
+                      int threshold) {
+            this.unsorted = unsorted;
+            this.aux = aux;
+            this.min = min;
+            this.max = max;
+            this.digit = digit;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length = max - min;
+            if (length <= threshold) {
+                sort(unsorted, aux, min, max, digit);
+                return;
+            }
+
+            int chunks = chunks(length, threshold);
+            int[][] offsets = new int[chunks][BYTE_ARRAY_BUCKETS];
+
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int[] count = offsets[chunk];
+                int from = bound(min, length, chunk, chunks);
+                int to = bound(min, length, chunk + 1, chunks);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    for (int i = from; i < to; i++)
+                        count[digit(unsorted[i], digit)]++;
+                }));
+            }
+            invokeAll(tasks);
+
+            int[] ends = new int[BYTE_ARRAY_BUCKETS];
+            int position = min;
+            for (int bucket = 0; bucket < BYTE_ARRAY_BUCKETS; bucket++) {
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int count = offsets[chunk][bucket];
+                    offsets[chunk][bucket] = position;
+                    position += count;
+                }
+                ends[bucket] = position;
+            }
+
+            int first = digit(unsorted[min], digit);
+            if (ends[first] - (first == 0 ? min : ends[first - 1]) == length) {
+                if (first != 0)
+                    new BytesSortTask(unsorted, aux, min, max, digit + 1, threshold).compute();
+                return;
+            }
+
+            tasks.clear();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int[] offset = offsets[chunk];
+                int from = bound(min, length, chunk, chunks);
+                int to = bound(min, length, chunk + 1, chunks);
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    for (int i = from; i < to; i++)
+                        aux[offset[digit(unsorted[i], digit)]++] = unsorted[i];
+                }));
+            }
+            invokeAll(tasks);
+
+            tasks.clear();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int from = bound(min, length, chunk, chunks);
+                int to = bound(min, length, chunk + 1, chunks);
+                tasks.add(ForkJoinTask.adapt(
+                        () -> System.arraycopy(aux, from, unsorted, from, to - from)));
+            }
+            invokeAll(tasks);
+
+            // The keys of the first bucket have ended, so they are all equal
+            List<BytesSortTask> buckets = new ArrayList<>();
+            for (int bucket = 1, start = ends[0]; bucket < BYTE_ARRAY_BUCKETS; bucket++) {
+                if (ends[bucket] - start > 1)
+                    buckets.add(new BytesSortTask(unsorted, aux, start, ends[bucket], digit + 1,
+                            threshold));
+                start = ends[bucket];
+            }
+            invokeAll(buckets);
+        }
+    }
+}
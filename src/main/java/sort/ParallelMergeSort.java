@@ -0,0 +1,619 @@
+package sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel merge sort sorts the two halves of an array as independent tasks of a
+ * {@link ForkJoinPool} and then merges them, also in parallel: the longer of the two runs is split
+ * at its middle element, the position of that element in the other run is found with a binary
+ * search, and both pairs of sub-runs are merged by separate tasks. Ranges shorter than a sequential
+ * threshold are sorted and merged on a single thread by {@link MergeSort}.
+ * <p>
+ * The output does not depend on how the work is scheduled and the sort is stable, so it is
+ * identical to the output of {@link MergeSort}. Like it, it uses a single auxiliary array.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
+ *
+ * Span = O(log^3 n)
+ *
+ * Reference: Introduction to Algorithms by Cormen, Leiserson, Rivest and Stein, chapter 27
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class ParallelMergeSort {
+
+    /**
+     * Number of elements below which ranges are sorted and merged sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Sorts an array of objects that implement Comparable by using the Parallel merge sort
+     * algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Parallel merge sort algorithm. The sort is stable.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        sort(unsorted, from, to, comparator, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Parallel merge sort algorithm. The sort is stable.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param threshold  the number of elements below which ranges are handled sequentially.
+     * @throws IllegalArgumentException       if {@code from > to} or the threshold is not positive.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator,
+                                int threshold) {
+        Ranges.check(unsorted.length, from, to);
+        checkThreshold(threshold);
+        T[] buffer = Arrays.copyOfRange(unsorted, from, to);
+        ForkJoinPool.commonPool().invoke(
+                new SortTask<>(buffer, 0, unsorted, from, to - from, comparator, threshold));
+    }
+
+    /**
+     * Sorts an array of ints by using the Parallel merge sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of ints by using the Parallel merge sort algorithm.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are handled sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(int[] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(
+                new IntSortTask(unsorted.clone(), 0, unsorted, 0, unsorted.length, threshold));
+    }
+
+    /**
+     * Sorts an array of longs by using the Parallel merge sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of longs by using the Parallel merge sort algorithm.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are handled sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(long[] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(
+                new LongSortTask(unsorted.clone(), 0, unsorted, 0, unsorted.length, threshold));
+    }
+
+    /**
+     * Sorts an array of doubles by using the Parallel merge sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of doubles by using the Parallel merge sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are handled sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(double[] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(
+                new DoubleSortTask(unsorted.clone(), 0, unsorted, 0, unsorted.length, threshold));
+    }
+
+    /**
+     * Checks that a sequential threshold is valid.
+     *
+     * @param threshold the number of elements below which ranges are handled sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+    }
+
+    /**
+     * Task that sorts {@code length} elements into {@code dst}. On entry both arrays hold the same
+     * elements in the given ranges, see {@link MergeSort#sort(Object[], int, Object[], int, int,
+     * Comparator)}.
+     */
+    private static class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src, dst;
+        private final int srcLo, dstLo, length, threshold;
+        private final Comparator<? super T> comparator;
+
+        SortTask(T[] src, int srcLo, T[] dst, int dstLo, int length,
+                 Comparator<? super T> comparator, int threshold) {
+            this.src = src;
+            this.srcLo = srcLo;
+            this.dst = dst;
+            this.dstLo = dstLo;
+            this.length = length;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= threshold) {
+                MergeSort.sort(src, srcLo, dst, dstLo, length, comparator);
+                return;
+            }
+
+            int half = length >>> 1;
+            invokeAll(new SortTask<>(dst, dstLo, src, srcLo, half, comparator, threshold),
+                    new SortTask<>(dst, dstLo + half, src, srcLo + half, length - half, comparator,
+                            threshold));
+
+            int mid = srcLo + half;
+            if (comparator.compare(src[mid - 1], src[mid]) <= 0)
+                System.arraycopy(src, srcLo, dst, dstLo, length);
+            else
+                new MergeTask<>(src, srcLo, mid, mid, srcLo + length, dst, dstLo, comparator,
+                        threshold).compute();
+        }
+    }
+
+    /**
+     * Task that stably merges two sorted runs of {@code src} into {@code dst}, splitting the work
+     * in two independent merges while the runs are longer than the threshold.
+     */
+    private static class MergeTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] src, dst;
+        private final int first1, last1, first2, last2, index, threshold;
+        private final Comparator<? super T> comparator;
+
+        MergeTask(T[] src, int first1, int last1, int first2, int last2, T[] dst, int index,
+                  Comparator<? super T> comparator, int threshold) {
+            this.src = src;
+            this.first1 = first1;
+            this.last1 = last1;
+            this.first2 = first2;
+            this.last2 = last2;
+            this.dst = dst;
+            this.index = index;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = last1 - first1, length2 = last2 - first2;
+            // Two runs of one element cannot be split: the splitter would leave them together
+            if (length1 + length2 <= Math.max(threshold, 2)) {
+                MergeSort.merge(src, first1, last1, first2, last2, dst, index, comparator);
+                return;
+            }
+
+            // Elements of the second run that are equal to the splitter must stay to its right
+            // and elements of the first run that are equal to it must stay to its left.
+            int mid1, mid2;
+            if (length1 >= length2) {
+                mid1 = (first1 + last1) >>> 1;
+                mid2 = lowerBound(src, first2, last2, src[mid1], comparator);
+            } else {
+                mid2 = (first2 + last2) >>> 1;
+                mid1 = upperBound(src, first1, last1, src[mid2], comparator);
+            }
+
+            invokeAll(new MergeTask<>(src, first1, mid1, first2, mid2, dst, index, comparator,
+                            threshold),
+                    new MergeTask<>(src, mid1, last1, mid2, last2, dst,
+                            index + (mid1 - first1) + (mid2 - first2), comparator, threshold));
+        }
+    }
+
+    /**
+     * Returns the index of the first element of a sorted range that is not less than the key.
+     */
+    private static <T> int lowerBound(T[] array, int min, int max, T key,
+                                      Comparator<? super T> comparator) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (comparator.compare(array[mid], key) < 0)
+                min = mid + 1;
+            else
+                max = mid;
+        }
+        return min;
+    }
+
+    /**
+     * Returns the index of the first element of a sorted range that is greater than the key.
+     */
+    private static <T> int upperBound(T[] array, int min, int max, T key,
+                                      Comparator<? super T> comparator) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (comparator.compare(key, array[mid]) < 0)
+                max = mid;
+            else
+                min = mid + 1;
+        }
+        return min;
+    }
+
+    /**
+     * Task that sorts {@code length} ints into {@code dst}.
+     */
+    private static class IntSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src, dst;
+        private final int srcLo, dstLo, length, threshold;
+
+        IntSortTask(int[] src, int srcLo, int[] dst, int dstLo, int length, int threshold) {
+            this.src = src;
+            this.srcLo = srcLo;
+            this.dst = dst;
+            this.dstLo = dstLo;
+            this.length = length;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= threshold) {
+                MergeSort.sort(src, srcLo, dst, dstLo, length);
+                return;
+            }
+
+            int half = length >>> 1;
+            invokeAll(new IntSortTask(dst, dstLo, src, srcLo, half, threshold),
+                    new IntSortTask(dst, dstLo + half, src, srcLo + half, length - half,
+                            threshold));
+
+            int mid = srcLo + half;
+            if (src[mid - 1] <= src[mid])
+                System.arraycopy(src, srcLo, dst, dstLo, length);
+            else
+                new IntMergeTask(src, srcLo, mid, mid, srcLo + length, dst, dstLo,
+                        threshold).compute();
+        }
+    }
+
+    /**
+     * Task that merges two sorted runs of ints into {@code dst}.
+     */
+    private static class IntMergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src, dst;
+        private final int first1, last1, first2, last2, index, threshold;
+
+        IntMergeTask(int[] src, int first1, int last1, int first2, int last2,
+                   int[] dst, int index, int threshold) {
+            this.src = src;
+            this.first1 = first1;
+            this.last1 = last1;
+            this.first2 = first2;
+            this.last2 = last2;
+            this.dst = dst;
+            this.index = index;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = last1 - first1, length2 = last2 - first2;
+            // Two runs of one element cannot be split: the splitter would leave them together
+            if (length1 + length2 <= Math.max(threshold, 2)) {
+                MergeSort.merge(src, first1, last1, first2, last2, dst, index);
+                return;
+            }
+
+            int mid1, mid2;
+            if (length1 >= length2) {
+                mid1 = (first1 + last1) >>> 1;
+                mid2 = lowerBound(src, first2, last2, src[mid1]);
+            } else {
+                mid2 = (first2 + last2) >>> 1;
+                mid1 = upperBound(src, first1, last1, src[mid2]);
+            }
+
+            invokeAll(new IntMergeTask(src, first1, mid1, first2, mid2, dst, index, threshold),
+                    new IntMergeTask(src, mid1, last1, mid2, last2, dst,
+                            index + (mid1 - first1) + (mid2 - first2), threshold));
+        }
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range that is not less than the key.
+     */
+    private static int lowerBound(int[] array, int min, int max, int key) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (array[mid] < key)
+                min = mid + 1;
+            else
+                max = mid;
+        }
+        return min;
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range that is greater than the key.
+     */
+    private static int upperBound(int[] array, int min, int max, int key) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (key < array[mid])
+                max = mid;
+            else
+                min = mid + 1;
+        }
+        return min;
+    }
+
+    /**
+     * Task that sorts {@code length} longs into {@code dst}.
+     */
+    private static class LongSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] src, dst;
+        private final int srcLo, dstLo, length, threshold;
+
+        LongSortTask(long[] src, int srcLo, long[] dst, int dstLo, int length, int threshold) {
+            this.src = src;
+            this.srcLo = srcLo;
+            this.dst = dst;
+            this.dstLo = dstLo;
+            this.length = length;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= threshold) {
+                MergeSort.sort(src, srcLo, dst, dstLo, length);
+                return;
+            }
+
+            int half = length >>> 1;
+            invokeAll(new LongSortTask(dst, dstLo, src, srcLo, half, threshold),
+                    new LongSortTask(dst, dstLo + half, src, srcLo + half, length - half,
+                            threshold));
+
+            int mid = srcLo + half;
+            if (src[mid - 1] <= src[mid])
+                System.arraycopy(src, srcLo, dst, dstLo, length);
+            else
+                new LongMergeTask(src, srcLo, mid, mid, srcLo + length, dst, dstLo,
+                        threshold).compute();
+        }
+    }
+
+    /**
+     * Task that merges two sorted runs of longs into {@code dst}.
+     */
+    private static class LongMergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] src, dst;
+        private final int first1, last1, first2, last2, index, threshold;
+
+        LongMergeTask(long[] src, int first1, int last1, int first2, int last2,
+                    long[] dst, int index, int threshold) {
+            this.src = src;
+            this.first1 = first1;
+            this.last1 = last1;
+            this.first2 = first2;
+            this.last2 = last2;
+            this.dst = dst;
+            this.index = index;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = last1 - first1, length2 = last2 - first2;
+            // Two runs of one element cannot be split: the splitter would leave them together
+            if (length1 + length2 <= Math.max(threshold, 2)) {
+                MergeSort.merge(src, first1, last1, first2, last2, dst, index);
+                return;
+            }
+
+            int mid1, mid2;
+            if (length1 >= length2) {
+                mid1 = (first1 + last1) >>> 1;
+                mid2 = lowerBound(src, first2, last2, src[mid1]);
+            } else {
+                mid2 = (first2 + last2) >>> 1;
+                mid1 = upperBound(src, first1, last1, src[mid2]);
+            }
+
+            invokeAll(new LongMergeTask(src, first1, mid1, first2, mid2, dst, index, threshold),
+                    new LongMergeTask(src, mid1, last1, mid2, last2, dst,
+                            index + (mid1 - first1) + (mid2 - first2), threshold));
+        }
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range that is not less than the key.
+     */
+    private static int lowerBound(long[] array, int min, int max, long key) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (array[mid] < key)
+                min = mid + 1;
+            else
+                max = mid;
+        }
+        return min;
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range that is greater than the key.
+     */
+    private static int upperBound(long[] array, int min, int max, long key) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (key < array[mid])
+                max = mid;
+            else
+                min = mid + 1;
+        }
+        return min;
+    }
+
+    /**
+     * Task that sorts {@code length} doubles into {@code dst}.
+     */
+    private static class DoubleSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] src, dst;
+        private final int srcLo, dstLo, length, threshold;
+
+        DoubleSortTask(double[] src, int srcLo, double[] dst, int dstLo, int length, int threshold) {
+            this.src = src;
+            this.srcLo = srcLo;
+            this.dst = dst;
+            this.dstLo = dstLo;
+            this.length = length;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= threshold) {
+                MergeSort.sort(src, srcLo, dst, dstLo, length);
+                return;
+            }
+
+            int half = length >>> 1;
+            invokeAll(new DoubleSortTask(dst, dstLo, src, srcLo, half, threshold),
+                    new DoubleSortTask(dst, dstLo + half, src, srcLo + half, length - half,
+                            threshold));
+
+            int mid = srcLo + half;
+            if (Double.compare(src[mid - 1], src[mid]) <= 0)
+                System.arraycopy(src, srcLo, dst, dstLo, length);
+            else
+                new DoubleMergeTask(src, srcLo, mid, mid, srcLo + length, dst, dstLo,
+                        threshold).compute();
+        }
+    }
+
+    /**
+     * Task that merges two sorted runs of doubles into {@code dst}.
+     */
+    private static class DoubleMergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] src, dst;
+        private final int first1, last1, first2, last2, index, threshold;
+
+        DoubleMergeTask(double[] src, int first1, int last1, int first2, int last2,
+                      double[] dst, int index, int threshold) {
+            this.src = src;
+            this.first1 = first1;
+            this.last1 = last1;
+            this.first2 = first2;
+            this.last2 = last2;
+            this.dst = dst;
+            this.index = index;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = last1 - first1, length2 = last2 - first2;
+            // Two runs of one element cannot be split: the splitter would leave them together
+            if (length1 + length2 <= Math.max(threshold, 2)) {
+                MergeSort.merge(src, first1, last1, first2, last2, dst, index);
+                return;
+            }
+
+            int mid1, mid2;
+            if (length1 >= length2) {
+                mid1 = (first1 + last1) >>> 1;
+                mid2 = lowerBound(src, first2, last2, src[mid1]);
+            } else {
+                mid2 = (first2 + last2) >>> 1;
+                mid1 = upperBound(src, first1, last1, src[mid2]);
+            }
+
+            invokeAll(new DoubleMergeTask(src, first1, mid1, first2, mid2, dst, index, threshold),
+                    new DoubleMergeTask(src, mid1, last1, mid2, last2, dst,
+                            index + (mid1 - first1) + (mid2 - first2), threshold));
+        }
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range that is not less than the key.
+     */
+    private static int lowerBound(double[] array, int min, int max, double key) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (Double.compare(array[mid], key) < 0)
+                min = mid + 1;
+            else
+                max = mid;
+        }
+        return min;
+    }
+
+    /**
+     * Returns the index of the first value of a sorted range that is greater than the key.
+     */
+    private static int upperBound(double[] array, int min, int max, double key) {
+        while (min < max) {
+            int mid = (min + max) >>> 1;
+            if (Double.compare(key, array[mid]) < 0)
+                max = mid;
+            else
+                min = mid + 1;
+        }
+        return min;
+    }
+}
@@ -0,0 +1,311 @@
+package sort;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel Quick sort partitions an array with the dual-pivot scheme of {@link DualPivotQuickSort}
+ * and sorts the three resulting sub-arrays as independent tasks of a {@link ForkJoinPool}. Because
+ * the sub-arrays do not overlap, the tasks never need to be merged or synchronized. Ranges shorter
+ * than a sequential threshold are sorted on a single thread by {@link DualPivotQuickSort}.
+ * <p>
+ * Unlike {@link ParallelMergeSort} it sorts in place, but it is not stable.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
+ *
+ * Span = O(n)
+ *
+ * Reference: Dual-Pivot Quicksort by Vladimir Yaroslavskiy
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class ParallelQuickSort {
+
+    /**
+     * Number of elements below which ranges are sorted sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Sorts an array of objects that implement Comparable by using the Parallel Quick sort
+     * algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Parallel Quick sort algorithm.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        sort(unsorted, from, to, comparator, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Parallel Quick sort algorithm.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param threshold  the number of elements below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException       if {@code from > to} or the threshold is not positive.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator,
+                                int threshold) {
+        Ranges.check(unsorted.length, from, to);
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(new SortTask<>(unsorted, from, to - 1,
+                QuickSort.depthLimit(to - from), comparator, threshold));
+    }
+
+    /**
+     * Sorts an array of ints by using the Parallel Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of ints by using the Parallel Quick sort algorithm.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(int[] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(new IntSortTask(unsorted, 0, unsorted.length - 1,
+                QuickSort.depthLimit(unsorted.length), threshold));
+    }
+
+    /**
+     * Sorts an array of longs by using the Parallel Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of longs by using the Parallel Quick sort algorithm.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(long[] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(new LongSortTask(unsorted, 0, unsorted.length - 1,
+                QuickSort.depthLimit(unsorted.length), threshold));
+    }
+
+    /**
+     * Sorts an array of doubles by using the Parallel Quick sort algorithm. Values are
+     * ordered as by {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive
+     * infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of doubles by using the Parallel Quick sort algorithm. Values are
+     * ordered as by {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive
+     * infinity.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(double[] unsorted, int threshold) {
+        checkThreshold(threshold);
+        ForkJoinPool.commonPool().invoke(new DoubleSortTask(unsorted, 0, unsorted.length - 1,
+                QuickSort.depthLimit(unsorted.length), threshold));
+    }
+
+    /**
+     * Checks that a sequential threshold is valid.
+     *
+     * @param threshold the number of elements below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+    }
+
+    /**
+     * Task that sorts a range of an array of objects, partitioning it and sorting the three parts
+     * as separate tasks while it is longer than the threshold.
+     */
+    private static class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] unsorted;
+        private final int min, max, depth, threshold;
+        private final Comparator<? super T> comparator;
+
+        SortTask(T[] unsorted, int min, int max, int depth,
+                 Comparator<? super T> comparator, int threshold) {
+            this.unsorted = unsorted;
+            this.min = min;
+            this.max = max;
+            this.depth = depth;
+            this.comparator = comparator;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (max - min < threshold || depth == 0) {
+                DualPivotQuickSort.sort(min, max, depth, comparator, unsorted);
+                return;
+            }
+
+            long bounds = DualPivotQuickSort.partition(min, max, comparator, unsorted);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+            if (comparator.compare(unsorted[lt], unsorted[gt]) < 0)
+                invokeAll(new SortTask<>(unsorted, min, lt - 1, depth - 1, comparator, threshold),
+                        new SortTask<>(unsorted, lt + 1, gt - 1, depth - 1, comparator, threshold),
+                        new SortTask<>(unsorted, gt + 1, max, depth - 1, comparator, threshold));
+            else
+                invokeAll(new SortTask<>(unsorted, min, lt - 1, depth - 1, comparator, threshold),
+                        new SortTask<>(unsorted, gt + 1, max, depth - 1, comparator, threshold));
+        }
+    }
+
+    /**
+     * Task that sorts a range of an array of ints, partitioning it and sorting the three parts
+     * as separate tasks while it is longer than the threshold.
+     */
+    private static class IntSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] unsorted;
+        private final int min, max, depth, threshold;
+
+        IntSortTask(int[] unsorted, int min, int max, int depth, int threshold) {
+            this.unsorted = unsorted;
+            this.min = min;
+            this.max = max;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (max - min < threshold || depth == 0) {
+                DualPivotQuickSort.sort(min, max, depth, unsorted);
+                return;
+            }
+
+            long bounds = DualPivotQuickSort.partition(min, max, unsorted);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+            if (unsorted[lt] < unsorted[gt])
+                invokeAll(new IntSortTask(unsorted, min, lt - 1, depth - 1, threshold),
+                        new IntSortTask(unsorted, lt + 1, gt - 1, depth - 1, threshold),
+                        new IntSortTask(unsorted, gt + 1, max, depth - 1, threshold));
+            else
+                invokeAll(new IntSortTask(unsorted, min, lt - 1, depth - 1, threshold),
+                        new IntSortTask(unsorted, gt + 1, max, depth - 1, threshold));
+        }
+    }
+
+    /**
+     * Task that sorts a range of an array of longs, partitioning it and sorting the three parts
+     * as separate tasks while it is longer than the threshold.
+     */
+    private static class LongSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] unsorted;
+        private final int min, max, depth, threshold;
+
+        LongSortTask(long[] unsorted, int min, int max, int depth, int threshold) {
+            this.unsorted = unsorted;
+            this.min = min;
+            this.max = max;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (max - min < threshold || depth == 0) {
+                DualPivotQuickSort.sort(min, max, depth, unsorted);
+                return;
+            }
+
+            long bounds = DualPivotQuickSort.partition(min, max, unsorted);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+            if (unsorted[lt] < unsorted[gt])
+                invokeAll(new LongSortTask(unsorted, min, lt - 1, depth - 1, threshold),
+                        new LongSortTask(unsorted, lt + 1, gt - 1, depth - 1, threshold),
+                        new LongSortTask(unsorted, gt + 1, max, depth - 1, threshold));
+            else
+                invokeAll(new LongSortTask(unsorted, min, lt - 1, depth - 1, threshold),
+                        new LongSortTask(unsorted, gt + 1, max, depth - 1, threshold));
+        }
+    }
+
+    /**
+     * Task that sorts a range of an array of doubles, partitioning it and sorting the three parts
+     * as separate tasks while it is longer than the threshold.
+     */
+    private static class DoubleSortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] unsorted;
+        private final int min, max, depth, threshold;
+
+        DoubleSortTask(double[] unsorted, int min, int max, int depth, int threshold) {
+            this.unsorted = unsorted;
+            this.min = min;
+            this.max = max;
+            this.depth = depth;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (max - min < threshold || depth == 0) {
+                DualPivotQuickSort.sort(min, max, depth, unsorted);
+                return;
+            }
+
+            long bounds = DualPivotQuickSort.partition(min, max, unsorted);
+            int lt = (int) (bounds >>> 32), gt = (int) bounds;
+
+            if (Double.compare(unsorted[lt], unsorted[gt]) < 0)
+                invokeAll(new DoubleSortTask(unsorted, min, lt - 1, depth - 1, threshold),
+                        new DoubleSortTask(unsorted, lt + 1, gt - 1, depth - 1, threshold),
+                        new DoubleSortTask(unsorted, gt + 1, max, depth - 1, threshold));
+            else
+                invokeAll(new DoubleSortTask(unsorted, min, lt - 1, depth - 1, threshold),
+                        new DoubleSortTask(unsorted, gt + 1, max, depth - 1, threshold));
+        }
+    }
+}
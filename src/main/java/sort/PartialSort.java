@@ -0,0 +1,581 @@
+package sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Partial sorts answer questions about a few ranks of an array without paying for a full sort.
+ * Selection finds the element that would be at a given index of the sorted array, partial sort
+ * sorts only the smallest elements, and top-k keeps the greatest elements of a stream that is too
+ * large to be stored.
+ * <p>
+ * Selection uses the algorithm of Floyd and Rivest: on large ranges it first selects recursively
+ * within a small random-like sample around the expected position of the element, so that the
+ * partition that follows has pivots very close to the target and discards most of the range at
+ * once. Like QuickSort it gives up on partitioning after 2 log n rounds and falls back to Heap
+ * sort, which bounds the worst case. Top-k keeps a min-heap of at most k elements, whose root is
+ * the smallest element kept and is replaced whenever a greater element arrives.
+ *
+ * Select: Average case = O(n) Worst case = O(nlogn) Best case = O(n)
+ * Partial sort: Average case = O(n + klogk) Worst case = O(nlogn) Best case = O(n)
+ * Top-k: Average case = O(nlogk) Worst case = O(nlogk) Best case = O(n)
+ *
+ * Reference: Expected Time Bounds for Selection by Floyd and Rivest, Introspective Sorting and
+ * Selection Algorithms by Musser
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class PartialSort {
+
+    /**
+     * Ranges with more elements than this are narrowed down with a recursive selection on a sample
+     * before they are partitioned.
+     */
+    private static final int SAMPLE_THRESHOLD = 600;
+
+    /**
+     * Rearranges an array of objects that implement Comparable so that the element at index
+     * {@code k} is the one that would be there if the array were sorted, no element before it is
+     * greater and no element after it is smaller.
+     *
+     * @param unsorted the array to be rearranged.
+     * @param k        the index of the element to be selected.
+     * @return the selected element.
+     * @throws IllegalArgumentException if {@code k} is not an index of the array.
+     */
+    public static <T extends Comparable<T>> T select(T[] unsorted, int k) {
+        return select(unsorted, 0, unsorted.length, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Rearranges a range of an array of objects according to the order induced by a comparator so
+     * that the element at index {@code k} is the one that would be there if the range were sorted,
+     * no element of the range before it is greater and no element of the range after it is smaller.
+     * Elements outside of the range are left untouched.
+     *
+     * @param unsorted   the array to be rearranged.
+     * @param from       the index of the first element of the range, inclusive.
+     * @param to         the index of the last element of the range, exclusive.
+     * @param k          the index of the element to be selected.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return the selected element.
+     * @throws IllegalArgumentException       if {@code from > to} or {@code k} is not an index of
+     *                                        the range.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> T select(T[] unsorted, int from, int to, int k,
+                               Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+        checkRank(from, to, k);
+        select(from, to - 1, k, QuickSort.depthLimit(to - from), SortStats.counting(comparator),
+                unsorted);
+        return unsorted[k];
+    }
+
+    /**
+     * Rearranges an array of objects that implement Comparable so that its first {@code k}
+     * positions hold its {@code k} smallest elements in ascending order. The order of the rest of
+     * the elements is unspecified.
+     *
+     * @param unsorted the array to be partially sorted.
+     * @param k        the number of elements to be sorted.
+     * @throws IllegalArgumentException if {@code k < 0} or {@code k > unsorted.length}.
+     */
+    public static <T extends Comparable<T>> void partialSort(T[] unsorted, int k) {
+        partialSort(unsorted, k, Comparator.naturalOrder());
+    }
+
+    /**
+     * Rearranges an array of objects so that its first {@code k} positions hold its {@code k}
+     * smallest elements according to a comparator, in ascending order. The order of the rest of
+     * the elements is unspecified.
+     *
+     * @param unsorted   the array to be partially sorted.
+     * @param k          the number of elements to be sorted.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException if {@code k < 0} or {@code k > unsorted.length}.
+     */
+    public static <T> void partialSort(T[] unsorted, int k, Comparator<? super T> comparator) {
+        checkCount(unsorted.length, k);
+        if (k == 0)
+            return;
+
+        select(0, unsorted.length - 1, k - 1, QuickSort.depthLimit(unsorted.length),
+                SortStats.counting(comparator), unsorted);
+        QuickSort.sort(unsorted, 0, k - 1, comparator);
+    }
+
+    /**
+     * Returns the {@code k} greatest elements of a sequence according to a comparator, from the
+     * greatest to the smallest. The sequence is consumed once and only {@code k} elements are kept
+     * at any time, so it can be much longer than what fits in memory. When equal elements compete
+     * for the last places the ones that come first are kept.
+     *
+     * @param iterator   the elements.
+     * @param k          the number of elements to be returned.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return a list of the {@code k} greatest elements, or of all the elements if there are fewer.
+     * @throws IllegalArgumentException if {@code k < 0}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> topK(Iterator<? extends T> iterator, int k,
+                                   Comparator<? super T> comparator) {
+        if (k < 0)
+            throw new IllegalArgumentException("The number of elements cannot be negative: " + k);
+        if (k == 0)
+            return new ArrayList<>();
+
+        T[] heap = (T[]) new Object[Math.min(k, 16)];
+        int size = 0;
+        while (iterator.hasNext()) {
+            T next = iterator.next();
+            if (size < k) {
+                if (size == heap.length)
+                    heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * size));
+                heap[size] = next;
+                siftUp(size++, comparator, heap);
+            } else if (comparator.compare(next, heap[0]) > 0) {
+                siftDown(0, next, size, comparator, heap);
+            }
+        }
+
+        HeapSort.heapSort(0, size, comparator.reversed(), heap);
+        return new ArrayList<>(Arrays.asList(heap).subList(0, size));
+    }
+
+    /**
+     * Rearranges a range of an array of objects with the selection algorithm of Floyd and Rivest.
+     * The range is not checked.
+     *
+     * @param left       the lower index of the range, inclusive.
+     * @param right      the upper index of the range, inclusive.
+     * @param k          the index of the element to be selected.
+     * @param depth      the number of partitioning rounds left before falling back to Heap sort.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array to be rearranged.
+     */
+    static <T> void select(int left, int right, int k, int depth, Comparator<? super T> comparator,
+                           T[] array) {
+        while (right > left) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(left, right + 1, comparator, array);
+                return;
+            }
+            if (right - left > SAMPLE_THRESHOLD) {
+                long bounds = sample(left, right, k);
+                select((int) (bounds >>> 32), (int) bounds, k, depth, comparator, array);
+            }
+
+            // Partitions around the element at k, which ends up at j
+            T pivot = array[k];
+            int i = left;
+            int j = right;
+            swap(left, k, array);
+            if (comparator.compare(array[right], pivot) > 0)
+                swap(right, left, array);
+            while (i < j) {
+                swap(i++, j--, array);
+                while (comparator.compare(array[i], pivot) < 0)
+                    i++;
+                while (comparator.compare(array[j], pivot) > 0)
+                    j--;
+            }
+            if (comparator.compare(array[left], pivot) == 0)
+                swap(left, j, array);
+            else
+                swap(++j, right, array);
+
+            if (j <= k)
+                left = j + 1;
+            if (k <= j)
+                right = j - 1;
+        }
+    }
+
+    /**
+     * Moves an element up a min-heap stored at the start of an array until its parent is not
+     * greater than it.
+     *
+     * @param k          the position of the element in the heap.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param heap       the array that contains the heap.
+     */
+    private static <T> void siftUp(int k, Comparator<? super T> comparator, T[] heap) {
+        T value = heap[k];
+        while (k > 0) {
+            int parent = (k - 1) >>> 1;
+            if (comparator.compare(heap[parent], value) <= 0)
+                break;
+            heap[k] = heap[parent];
+            k = parent;
+        }
+        heap[k] = value;
+    }
+
+    /**
+     * Places an element at the position {@code k} of a min-heap stored at the start of an array,
+     * replacing the one that was there, and moves it down until its children are not smaller.
+     *
+     * @param k          the position in the heap.
+     * @param value      the element to be placed.
+     * @param size       the number of elements in the heap.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param heap       the array that contains the heap.
+     */
+    private static <T> void siftDown(int k, T value, int size, Comparator<? super T> comparator,
+                                     T[] heap) {
+        int child;
+        while ((child = 2 * k + 1) < size) {
+            if (child + 1 < size && comparator.compare(heap[child + 1], heap[child]) < 0)
+                child++;
+            if (comparator.compare(value, heap[child]) <= 0)
+                break;
+            heap[k] = heap[child];
+            k = child;
+        }
+        heap[k] = value;
+    }
+
+    /**
+     * Rearranges an array of ints so that the value at index {@code k} is the one that would
+     * be there if the array were sorted, no value before it is greater and no value after it is
+     * smaller.
+     *
+     * @param unsorted the array to be rearranged.
+     * @param k        the index of the value to be selected.
+     * @return the selected value.
+     * @throws IllegalArgumentException if {@code k} is not an index of the array.
+     */
+    public static int select(int[] unsorted, int k) {
+        checkRank(0, unsorted.length, k);
+        select(0, unsorted.length - 1, k, QuickSort.depthLimit(unsorted.length), unsorted);
+        return unsorted[k];
+    }
+
+    /**
+     * Rearranges an array of ints so that its first {@code k} positions hold its {@code k}
+     * smallest values in ascending order. The order of the rest of the values is unspecified.
+     *
+     * @param unsorted the array to be partially sorted.
+     * @param k        the number of values to be sorted.
+     * @throws IllegalArgumentException if {@code k < 0} or {@code k > unsorted.length}.
+     */
+    public static void partialSort(int[] unsorted, int k) {
+        checkCount(unsorted.length, k);
+        if (k == 0)
+            return;
+
+        select(0, unsorted.length - 1, k - 1, QuickSort.depthLimit(unsorted.length), unsorted);
+        QuickSort.sort(unsorted, 0, k - 1);
+    }
+
+    /**
+     * Rearranges a range of an array of ints with the selection algorithm of Floyd and
+     * Rivest. The range is not checked.
+     *
+     * @param left  the lower index of the range, inclusive.
+     * @param right the upper index of the range, inclusive.
+     * @param k     the index of the value to be selected.
+     * @param depth the number of partitioning rounds left before falling back to Heap sort.
+     * @param array the array to be rearranged.
+     */
+    static void select(int left, int right, int k, int depth, int[] array) {
+        while (right > left) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(left, right + 1, array);
+                return;
+            }
+            if (right - left > SAMPLE_THRESHOLD) {
+                long bounds = sample(left, right, k);
+                select((int) (bounds >>> 32), (int) bounds, k, depth, array);
+            }
+
+            // Partitions around the value at k, which ends up at j
+            int pivot = array[k];
+            int i = left;
+            int j = right;
+            swap(left, k, array);
+            if (array[right] > pivot)
+                swap(right, left, array);
+            while (i < j) {
+                swap(i++, j--, array);
+                while (array[i] < pivot)
+                    i++;
+                while (array[j] > pivot)
+                    j--;
+            }
+            if (array[left] == pivot)
+                swap(left, j, array);
+            else
+                swap(++j, right, array);
+
+            if (j <= k)
+                left = j + 1;
+            if (k <= j)
+                right = j - 1;
+        }
+    }
+
+    /**
+     * Rearranges an array of longs so that the value at index {@code k} is the one that would
+     * be there if the array were sorted, no value before it is greater and no value after it is
+     * smaller.
+     *
+     * @param unsorted the array to be rearranged.
+     * @param k        the index of the value to be selected.
+     * @return the selected value.
+     * @throws IllegalArgumentException if {@code k} is not an index of the array.
+     */
+    public static long select(long[] unsorted, int k) {
+        checkRank(0, unsorted.length, k);
+        select(0, unsorted.length - 1, k, QuickSort.depthLimit(unsorted.length), unsorted);
+        return unsorted[k];
+    }
+
+    /**
+     * Rearranges an array of longs so that its first {@code k} positions hold its {@code k}
+     * smallest values in ascending order. The order of the rest of the values is unspecified.
+     *
+     * @param unsorted the array to be partially sorted.
+     * @param k        the number of values to be sorted.
+     * @throws IllegalArgumentException if {@code k < 0} or {@code k > unsorted.length}.
+     */
+    public static void partialSort(long[] unsorted, int k) {
+        checkCount(unsorted.length, k);
+        if (k == 0)
+            return;
+
+        select(0, unsorted.length - 1, k - 1, QuickSort.depthLimit(unsorted.length), unsorted);
+        QuickSort.sort(unsorted, 0, k - 1);
+    }
+
+    /**
+     * Rearranges a range of an array of longs with the selection algorithm of Floyd and
+     * Rivest. The range is not checked.
+     *
+     * @param left  the lower index of the range, inclusive.
+     * @param right the upper index of the range, inclusive.
+     * @param k     the index of the value to be selected.
+     * @param depth the number of partitioning rounds left before falling back to Heap sort.
+     * @param array the array to be rearranged.
+     */
+    static void select(int left, int right, int k, int depth, long[] array) {
+        while (right > left) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(left, right + 1, array);
+                return;
+            }
+            if (right - left > SAMPLE_THRESHOLD) {
+                long bounds = sample(left, right, k);
+                select((int) (bounds >>> 32), (int) bounds, k, depth, array);
+            }
+
+            // Partitions around the value at k, which ends up at j
+            long pivot = array[k];
+            int i = left;
+            int j = right;
+            swap(left, k, array);
+            if (array[right] > pivot)
+                swap(right, left, array);
+            while (i < j) {
+                swap(i++, j--, array);
+                while (array[i] < pivot)
+                    i++;
+                while (array[j] > pivot)
+                    j--;
+            }
+            if (array[left] == pivot)
+                swap(left, j, array);
+            else
+                swap(++j, right, array);
+
+            if (j <= k)
+                left = j + 1;
+            if (k <= j)
+                right = j - 1;
+        }
+    }
+
+    /**
+     * Rearranges an array of doubles so that the value at index {@code k} is the one that would
+     * be there if the array were sorted, no value before it is greater and no value after it is
+     * smaller. Values are ordered as by {@link Double#compare}: -0.0 comes before 0.0
+     * and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be rearranged.
+     * @param k        the index of the value to be selected.
+     * @return the selected value.
+     * @throws IllegalArgumentException if {@code k} is not an index of the array.
+     */
+    public static double select(double[] unsorted, int k) {
+        checkRank(0, unsorted.length, k);
+        select(0, unsorted.length - 1, k, QuickSort.depthLimit(unsorted.length), unsorted);
+        return unsorted[k];
+    }
+
+    /**
+     * Rearranges an array of doubles so that its first {@code k} positions hold its {@code k}
+     * smallest values in ascending order. The order of the rest of the values is unspecified.
+     *
+     * @param unsorted the array to be partially sorted.
+     * @param k        the number of values to be sorted.
+     * @throws IllegalArgumentException if {@code k < 0} or {@code k > unsorted.length}.
+     */
+    public static void partialSort(double[] unsorted, int k) {
+        checkCount(unsorted.length, k);
+        if (k == 0)
+            return;
+
+        select(0, unsorted.length - 1, k - 1, QuickSort.depthLimit(unsorted.length), unsorted);
+        QuickSort.sort(unsorted, 0, k - 1);
+    }
+
+    /**
+     * Rearranges a range of an array of doubles with the selection algorithm of Floyd and
+     * Rivest. The range is not checked.
+     *
+     * @param left  the lower index of the range, inclusive.
+     * @param right the upper index of the range, inclusive.
+     * @param k     the index of the value to be selected.
+     * @param depth the number of partitioning rounds left before falling back to Heap sort.
+     * @param array the array to be rearranged.
+     */
+    static void select(int left, int right, int k, int depth, double[] array) {
+        while (right > left) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(left, right + 1, array);
+                return;
+            }
+            if (right - left > SAMPLE_THRESHOLD) {
+                long bounds = sample(left, right, k);
+                select((int) (bounds >>> 32), (int) bounds, k, depth, array);
+            }
+
+            // Partitions around the value at k, which ends up at j
+            double pivot = array[k];
+            int i = left;
+            int j = right;
+            swap(left, k, array);
+            if (Double.compare(array[right], pivot) > 0)
+                swap(right, left, array);
+            while (i < j) {
+                swap(i++, j--, array);
+                while (Double.compare(array[i], pivot) < 0)
+                    i++;
+                while (Double.compare(array[j], pivot) > 0)
+                    j--;
+            }
+            if (Double.compare(array[left], pivot) == 0)
+                swap(left, j, array);
+            else
+                swap(++j, right, array);
+
+            if (j <= k)
+                left = j + 1;
+            if (k <= j)
+                right = j - 1;
+        }
+    }
+
+    /**
+     * Returns the bounds of the sample of a range in which the element of rank {@code k} is
+     * searched first, packed as {@code (long) left << 32 | right}. The sample is about
+     * {@code n^(2/3)} elements long and is centred a little off the expected position of the
+     * element, so that with high probability it lies between the bounds after the recursive
+     * selection has placed them.
+     *
+     * @param left  the lower index of the range, inclusive.
+     * @param right the upper index of the range, inclusive.
+     * @param k     the index of the element to be selected.
+     */
+    private static long sample(int left, int right, int k) {
+        double n = right - left + 1;
+        double i = k - left + 1;
+        double z = Math.log(n);
+        double s = 0.5 * Math.exp(2 * z / 3);
+        double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2);
+        int sampleLeft = (int) Math.max(left, Math.floor(k - i * s / n + sd));
+        int sampleRight = (int) Math.min(right, Math.floor(k + (n - i) * s / n + sd));
+        return (long) sampleLeft << 32 | sampleRight;
+    }
+
+    /**
+     * Checks that {@code k} is an index of a range.
+     */
+    private static void checkRank(int from, int to, int k) {
+        if (k < from || k >= to)
+            throw new IllegalArgumentException("k(" + k + ") is not in [" + from + ", " + to + ")");
+    }
+
+    /**
+     * Checks that {@code k} is a valid number of elements of an array.
+     */
+    private static void checkCount(int length, int k) {
+        if (k < 0 || k > length)
+            throw new IllegalArgumentException("k(" + k + ") is not in [0, " + length + "]");
+    }
+
+    /**
+     * Interchanges the values between two objects in an array.
+     *
+     * @param index1 the index of the first object in the array.
+     * @param index2 the index of the second object in the array.
+     * @param array  the array that contains the objects.
+     */
+    private static <T> void swap(int index1, int index2, T[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        T value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two ints in an array.
+     *
+     * @param index1 the index of the first int in the array.
+     * @param index2 the index of the second int in the array.
+     * @param array  the array that contains the ints.
+     */
+    private static void swap(int index1, int index2, int[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        int value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two longs in an array.
+     *
+     * @param index1 the index of the first long in the array.
+     * @param index2 the index of the second long in the array.
+     * @param array  the array that contains the longs.
+     */
+    private static void swap(int index1, int index2, long[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        long value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two doubles in an array.
+     *
+     * @param index1 the index of the first double in the array.
+     * @param index2 the index of the second double in the array.
+     * @param array  the array that contains the doubles.
+     */
+    private static void swap(int index1, int index2, double[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        double value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+}
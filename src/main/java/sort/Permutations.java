@@ -0,0 +1,149 @@
+package sort;
+
+/**
+ * Reorders arrays by a permutation of their indices, such as the one returned by the argsorts of
+ * {@link MergeSort} and {@link RadixSort}. A permutation {@code p} is applied as a gather: after
+ * the call, position {@code i} holds the element that was at position {@code p[i]}. Applying the
+ * argsort of a key column to the keys and to every other column of a table sorts the rows of the
+ * table by the key without allocating an object per row.
+ * <p>
+ * Permutations are applied through one copy of the array, so each call uses an auxiliary array as
+ * long as the input. They are not checked to be permutations: an array of indices with repeats
+ * gathers copies of some elements and drops others.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public final class Permutations {
+
+    private Permutations() {
+    }
+
+    /**
+     * Returns the identity permutation of a given length.
+     *
+     * @param length the length of the permutation.
+     * @return the array {@code 0, 1, ..., length - 1}.
+     */
+    public static int[] identity(int length) {
+        int[] permutation = new int[length];
+        for (int i = 0; i < length; i++)
+            permutation[i] = i;
+        return permutation;
+    }
+
+    /**
+     * Returns the inverse of a permutation: the permutation that puts every element back where it
+     * was before the given one was applied.
+     *
+     * @param permutation the permutation.
+     * @return the inverse permutation.
+     */
+    public static int[] inverse(int[] permutation) {
+        int[] inverse = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++)
+            inverse[permutation[i]] = i;
+        return inverse;
+    }
+
+    /**
+     * Reorders an array of ints by a permutation.
+     *
+     * @param permutation the permutation.
+     * @param array       the array to be reordered.
+     * @throws IllegalArgumentException if the array and the permutation differ in length.
+     */
+    public static void apply(int[] permutation, int[] array) {
+        checkLength(permutation.length, array.length);
+        int[] source = array.clone();
+        for (int i = 0; i < array.length; i++)
+            array[i] = source[permutation[i]];
+    }
+
+    /**
+     * Reorders an array of longs by a permutation.
+     *
+     * @param permutation the permutation.
+     * @param array       the array to be reordered.
+     * @throws IllegalArgumentException if the array and the permutation differ in length.
+     */
+    public static void apply(int[] permutation, long[] array) {
+        checkLength(permutation.length, array.length);
+        long[] source = array.clone();
+        for (int i = 0; i < array.length; i++)
+            array[i] = source[permutation[i]];
+    }
+
+    /**
+     * Reorders an array of doubles by a permutation.
+     *
+     * @param permutation the permutation.
+     * @param array       the array to be reordered.
+     * @throws IllegalArgumentException if the array and the permutation differ in length.
+     */
+    public static void apply(int[] permutation, double[] array) {
+        checkLength(permutation.length, array.length);
+        double[] source = array.clone();
+        for (int i = 0; i < array.length; i++)
+            array[i] = source[permutation[i]];
+    }
+
+    /**
+     * Reorders an array of objects by a permutation.
+     *
+     * @param permutation the permutation.
+     * @param array       the array to be reordered.
+     * @throws IllegalArgumentException if the array and the permutation differ in length.
+     */
+    public static <T> void apply(int[] permutation, T[] array) {
+        checkLength(permutation.length, array.length);
+        T[] source = array.clone();
+        for (int i = 0; i < array.length; i++)
+            array[i] = source[permutation[i]];
+    }
+
+    /**
+     * Reorders the columns of a table by a permutation, which the co-sorts use to move companion
+     * columns along with their keys. Every column is checked before any is reordered.
+     *
+     * @param permutation the permutation.
+     * @param columns     the columns, each one an array of ints, longs, doubles or objects.
+     * @throws IllegalArgumentException if a column is not one of those arrays or differs in length
+     *                                  from the permutation.
+     */
+    static void applyToColumns(int[] permutation, Object[] columns) {
+        for (Object column : columns) {
+            if (column instanceof int[])
+                checkLength(permutation.length, ((int[]) column).length);
+            else if (column instanceof long[])
+                checkLength(permutation.length, ((long[]) column).length);
+            else if (column instanceof double[])
+                checkLength(permutation.length, ((double[]) column).length);
+            else if (column instanceof Object[])
+                checkLength(permutation.length, ((Object[]) column).length);
+            else
+                throw new IllegalArgumentException("A column must be an array of ints, longs, "
+                        + "doubles or objects: " + column);
+        }
+
+        for (Object column : columns) {
+            if (column instanceof int[])
+                apply(permutation, (int[]) column);
+            else if (column instanceof long[])
+                apply(permutation, (long[]) column);
+            else if (column instanceof double[])
+                apply(permutation, (double[]) column);
+            else
+                apply(permutation, (Object[]) column);
+        }
+    }
+
+    /**
+     * Checks that an array has as many elements as a permutation.
+     */
+    private static void checkLength(int permutationLength, int length) {
+        if (permutationLength != length)
+            throw new IllegalArgumentException("The permutation has " + permutationLength
+                    + " indices but the array holds " + length + " elements");
+    }
+}
@@ -1,49 +1,548 @@
 package sort;
 
+import java.util.Comparator;
+
 /**
  * Quicksort is a divide-and-conquer method for sorting. It works by partitioning an array into two
  * sub-arrays, then sorting the sub-arrays independently.
+ * <p>
+ * This implementation is hardened against the inputs that make a textbook Quick sort quadratic:
+ * the pivot is the median of three elements, or Tukey's ninther on large ranges, so sorted and
+ * reverse sorted input split evenly; Bentley-McIlroy three-way partitioning gathers the elements
+ * equal to the pivot, so inputs with many duplicates shrink quickly; only the smaller side of each
+ * partition is sorted recursively, which bounds the stack to O(log n) frames; and ranges that are
+ * still unsorted after 2 log n levels are finished by Heap sort, which bounds the running time.
+ * Small ranges are sorted by Insertion sort, or by a {@link SortingNetwork} for primitives.
  *
- * Average case = O(nlogn) Worst case = O(n^2) Best case = O(nlogn)
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(n)
  *
- * Reference: CS50 Hardvard
+ * Reference: CS50 Hardvard, Engineering a Sort Function by Bentley and McIlroy, Introspective
+ * Sorting and Selection Algorithms by Musser
  *
  * @author Samuel Yanez <samuelyanez94@gmail.com>
  */
 
 public class QuickSort {
 
+    /**
+     * Ranges with fewer elements than this are sorted by Insertion sort, or by a sorting network
+     * for primitives, so it must not exceed {@link SortingNetwork#MAX_SIZE}.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * Ranges with more elements than this use Tukey's ninther as pivot.
+     */
+    private static final int NINTHER_THRESHOLD = 40;
+
     /**
      * Sorts an array of objects that implement Comparable using the Quick sort algorithm.
      *
      * @param unsorted the array to be sorted.
      */
     public static <T extends Comparable<T>> void sort(T... unsorted) {
-        sort(0, unsorted.length - 1, unsorted);
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Quick sort algorithm. Elements outside of the range are left untouched.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, depthLimit(to - from), SortStats.counting(comparator), unsorted);
+    }
+
+    /**
+     * Sorts an array of ints using the Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of ints using the Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(int[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, depthLimit(to - from), unsorted);
+    }
+
+    /**
+     * Sorts an array of longs using the Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of longs using the Quick sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(long[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, depthLimit(to - from), unsorted);
+    }
+
+    /**
+     * Sorts an array of doubles using the Quick sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of doubles using the Quick sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(double[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        sort(from, to - 1, depthLimit(to - from), unsorted);
+    }
+
+    /**
+     * Returns the number of partitioning levels allowed before a range of the given length is
+     * handed to Heap sort: twice the base 2 logarithm of the length.
+     *
+     * @param length the number of elements in the range.
+     */
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length | 1));
+    }
+
+    /**
+     * Sorts a range of an array of objects with an introspective Quick sort: ranges are
+     * partitioned in three around an adaptively chosen pivot, the smaller side is sorted
+     * recursively and the larger side iteratively, small ranges are finished by Insertion sort and
+     * ranges that are still unsorted when the depth limit is reached are sorted by Heap sort.
+     *
+     * @param min        the lower index of the array to be sorted.
+     * @param max        the upper index of the array to be sorted.
+     * @param depth      the number of partitioning levels left before falling back to Heap sort.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param unsorted   the array to be sorted.
+     */
+    private static <T> void sort(int min, int max, int depth, Comparator<? super T> comparator,
+                                 T[] unsorted) {
+        while (max - min >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(min, max + 1, comparator, unsorted);
+                return;
+            }
+
+            swap(min, pivot(min, max, comparator, unsorted), unsorted);
+            T pivot = unsorted[min];
+
+            // Bentley-McIlroy partitioning: elements equal to the pivot are parked at both ends of
+            // the range while scanning and are swapped into the middle afterwards.
+            int i = min, j = max + 1;
+            int p = min, q = max + 1;
+            while (true) {
+                while (comparator.compare(unsorted[++i], pivot) < 0)
+                    if (i == max)
+                        break;
+                while (comparator.compare(pivot, unsorted[--j]) < 0)
+                    if (j == min)
+                        break;
+
+                if (i == j && comparator.compare(unsorted[i], pivot) == 0)
+                    swap(++p, i, unsorted);
+                if (i >= j)
+                    break;
+
+                swap(i, j, unsorted);
+                if (comparator.compare(unsorted[i], pivot) == 0)
+                    swap(++p, i, unsorted);
+                if (comparator.compare(unsorted[j], pivot) == 0)
+                    swap(--q, j, unsorted);
+            }
+
+            i = j + 1;
+            for (int k = min; k <= p; k++)
+                swap(k, j--, unsorted);
+            for (int k = max; k >= q; k--)
+                swap(k, i++, unsorted);
+
+            // Now [min, j] is less than the pivot and [i, max] is greater than the pivot
+            if (SortStats.ENABLED)
+                SortStats.enter();
+            if (j - min < max - i) {
+                sort(min, j, depth, comparator, unsorted);
+                min = i;
+            } else {
+                sort(i, max, depth, comparator, unsorted);
+                max = j;
+            }
+            if (SortStats.ENABLED)
+                SortStats.exit();
+        }
+
+        if (min < max)
+            InsertionSort.binarySort(min, max + 1, min + 1, comparator, unsorted);
+    }
+
+    /**
+     * Returns the index of the pivot for a range: the median of its first, middle and last
+     * elements, or Tukey's ninther (the median of three such medians) for larger ranges.
+     *
+     * @param min        the lower index of the range.
+     * @param max        the upper index of the range.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array that contains the range.
+     */
+    private static <T> int pivot(int min, int max, Comparator<? super T> comparator, T[] array) {
+        int length = max - min + 1;
+        int mid = (min + max) >>> 1;
+        if (length <= NINTHER_THRESHOLD)
+            return median(min, mid, max, comparator, array);
+
+        int eps = length / 8;
+        int m1 = median(min, min + eps, min + eps + eps, comparator, array);
+        int m2 = median(mid - eps, mid, mid + eps, comparator, array);
+        int m3 = median(max - eps - eps, max - eps, max, comparator, array);
+        return median(m1, m2, m3, comparator, array);
+    }
+
+    /**
+     * Returns the index of the median of three elements of an array.
+     */
+    private static <T> int median(int i, int j, int k, Comparator<? super T> comparator,
+                                  T[] array) {
+        T a = array[i], b = array[j], c = array[k];
+        if (comparator.compare(a, b) < 0)
+            return comparator.compare(b, c) < 0 ? j : comparator.compare(a, c) < 0 ? k : i;
+        return comparator.compare(c, b) < 0 ? j : comparator.compare(c, a) < 0 ? k : i;
+    }
+
+    /**
+     * Sorts a range of an array of ints with an introspective Quick sort: ranges are
+     * partitioned in three around an adaptively chosen pivot, the smaller side is sorted
+     * recursively and the larger side iteratively, small ranges are finished by a sorting network
+     * and ranges that are still unsorted when the depth limit is reached are sorted by Heap sort.
+     *
+     * @param min      the lower index of the array to be sorted.
+     * @param max      the upper index of the array to be sorted.
+     * @param depth    the number of partitioning levels left before falling back to Heap sort.
+     * @param unsorted the array to be sorted.
+     */
+    private static void sort(int min, int max, int depth, int[] unsorted) {
+        while (max - min >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(min, max + 1, unsorted);
+                return;
+            }
+
+            swap(min, pivot(min, max, unsorted), unsorted);
+            int pivot = unsorted[min];
+
+            // Bentley-McIlroy partitioning: elements equal to the pivot are parked at both ends of
+            // the range while scanning and are swapped into the middle afterwards.
+            int i = min, j = max + 1;
+            int p = min, q = max + 1;
+            while (true) {
+                while (unsorted[++i] < pivot)
+                    if (i == max)
+                        break;
+                while (pivot < unsorted[--j])
+                    if (j == min)
+                        break;
+
+                if (i == j && unsorted[i] == pivot)
+                    swap(++p, i, unsorted);
+                if (i >= j)
+                    break;
+
+                swap(i, j, unsorted);
+                if (unsorted[i] == pivot)
+                    swap(++p, i, unsorted);
+                if (unsorted[j] == pivot)
+                    swap(--q, j, unsorted);
+            }
+
+            i = j + 1;
+            for (int k = min; k <= p; k++)
+                swap(k, j--, unsorted);
+            for (int k = max; k >= q; k--)
+                swap(k, i++, unsorted);
+
+            // Now [min, j] is less than the pivot and [i, max] is greater than the pivot
+            if (SortStats.ENABLED)
+                SortStats.enter();
+            if (j - min < max - i) {
+                sort(min, j, depth, unsorted);
+                min = i;
+            } else {
+                sort(i, max, depth, unsorted);
+                max = j;
+            }
+            if (SortStats.ENABLED)
+                SortStats.exit();
+        }
+
+        if (min < max)
+            SortingNetwork.networkSort(min, max + 1, unsorted);
     }
 
     /**
-     * Sorts an array of objects that implement Comparable by using the Quick sort algorithm.
+     * Returns the index of the pivot for a range: the median of its first, middle and last
+     * elements, or Tukey's ninther (the median of three such medians) for larger ranges.
+     *
+     * @param min      the lower index of the range.
+     * @param max      the upper index of the range.
+     * @param array    the array that contains the range.
+     */
+    static int pivot(int min, int max, int[] array) {
+        int length = max - min + 1;
+        int mid = (min + max) >>> 1;
+        if (length <= NINTHER_THRESHOLD)
+            return median(min, mid, max, array);
+
+        int eps = length / 8;
+        int m1 = median(min, min + eps, min + eps + eps, array);
+        int m2 = median(mid - eps, mid, mid + eps, array);
+        int m3 = median(max - eps - eps, max - eps, max, array);
+        return median(m1, m2, m3, array);
+    }
+
+    /**
+     * Returns the index of the median of three elements of an array.
+     */
+    private static int median(int i, int j, int k, int[] array) {
+        int a = array[i], b = array[j], c = array[k];
+        if (a < b)
+            return b < c ? j : a < c ? k : i;
+        return c < b ? j : c < a ? k : i;
+    }
+
+    /**
+     * Sorts a range of an array of longs with an introspective Quick sort: ranges are
+     * partitioned in three around an adaptively chosen pivot, the smaller side is sorted
+     * recursively and the larger side iteratively, small ranges are finished by a sorting network
+     * and ranges that are still unsorted when the depth limit is reached are sorted by Heap sort.
      *
      * @param min      the lower index of the array to be sorted.
      * @param max      the upper index of the array to be sorted.
+     * @param depth    the number of partitioning levels left before falling back to Heap sort.
      * @param unsorted the array to be sorted.
      */
-    private static <T extends Comparable<T>> void sort(int min, int max, T... unsorted) {
-        if (max > min) {
+    private static void sort(int min, int max, int depth, long[] unsorted) {
+        while (max - min >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(min, max + 1, unsorted);
+                return;
+            }
 
-            T pivot = unsorted[max];
-            int wall = min;
+            swap(min, pivot(min, max, unsorted), unsorted);
+            long pivot = unsorted[min];
 
-            for (int i = min; i < max; i++) {
-                if (unsorted[i].compareTo(pivot) <= 0)
-                    swap(i, wall++, unsorted);
+            // Bentley-McIlroy partitioning: elements equal to the pivot are parked at both ends of
+            // the range while scanning and are swapped into the middle afterwards.
+            int i = min, j = max + 1;
+            int p = min, q = max + 1;
+            while (true) {
+                while (unsorted[++i] < pivot)
+                    if (i == max)
+                        break;
+                while (pivot < unsorted[--j])
+                    if (j == min)
+                        break;
+
+                if (i == j && unsorted[i] == pivot)
+                    swap(++p, i, unsorted);
+                if (i >= j)
+                    break;
+
+                swap(i, j, unsorted);
+                if (unsorted[i] == pivot)
+                    swap(++p, i, unsorted);
+                if (unsorted[j] == pivot)
+                    swap(--q, j, unsorted);
             }
 
-            swap(max, wall, unsorted);
-            sort(min, wall - 1, unsorted);
-            sort(wall, max, unsorted);
+            i = j + 1;
+            for (int k = min; k <= p; k++)
+                swap(k, j--, unsorted);
+            for (int k = max; k >= q; k--)
+                swap(k, i++, unsorted);
+
+            // Now [min, j] is less than the pivot and [i, max] is greater than the pivot
+            if (SortStats.ENABLED)
+                SortStats.enter();
+            if (j - min < max - i) {
+                sort(min, j, depth, unsorted);
+                min = i;
+            } else {
+                sort(i, max, depth, unsorted);
+                max = j;
+            }
+            if (SortStats.ENABLED)
+                SortStats.exit();
         }
+
+        if (min < max)
+            SortingNetwork.networkSort(min, max + 1, unsorted);
+    }
+
+    /**
+     * Returns the index of the pivot for a range: the median of its first, middle and last
+     * elements, or Tukey's ninther (the median of three such medians) for larger ranges.
+     *
+     * @param min      the lower index of the range.
+     * @param max      the upper index of the range.
+     * @param array    the array that contains the range.
+     */
+    private static int pivot(int min, int max, long[] array) {
+        int length = max - min + 1;
+        int mid = (min + max) >>> 1;
+        if (length <= NINTHER_THRESHOLD)
+            return median(min, mid, max, array);
+
+        int eps = length / 8;
+        int m1 = median(min, min + eps, min + eps + eps, array);
+        int m2 = median(mid - eps, mid, mid + eps, array);
+        int m3 = median(max - eps - eps, max - eps, max, array);
+        return median(m1, m2, m3, array);
+    }
+
+    /**
+     * Returns the index of the median of three elements of an array.
+     */
+    private static int median(int i, int j, int k, long[] array) {
+        long a = array[i], b = array[j], c = array[k];
+        if (a < b)
+            return b < c ? j : a < c ? k : i;
+        return c < b ? j : c < a ? k : i;
+    }
+
+    /**
+     * Sorts a range of an array of doubles with an introspective Quick sort: ranges are
+     * partitioned in three around an adaptively chosen pivot, the smaller side is sorted
+     * recursively and the larger side iteratively, small ranges are finished by a sorting network
+     * and ranges that are still unsorted when the depth limit is reached are sorted by Heap sort.
+     *
+     * @param min      the lower index of the array to be sorted.
+     * @param max      the upper index of the array to be sorted.
+     * @param depth    the number of partitioning levels left before falling back to Heap sort.
+     * @param unsorted the array to be sorted.
+     */
+    private static void sort(int min, int max, int depth, double[] unsorted) {
+        while (max - min >= INSERTION_SORT_THRESHOLD) {
+            if (depth-- == 0) {
+                HeapSort.heapSort(min, max + 1, unsorted);
+                return;
+            }
+
+            swap(min, pivot(min, max, unsorted), unsorted);
+            double pivot = unsorted[min];
+
+            // Bentley-McIlroy partitioning: elements equal to the pivot are parked at both ends of
+            // the range while scanning and are swapped into the middle afterwards.
+            int i = min, j = max + 1;
+            int p = min, q = max + 1;
+            while (true) {
+                while (Double.compare(unsorted[++i], pivot) < 0)
+                    if (i == max)
+                        break;
+                while (Double.compare(pivot, unsorted[--j]) < 0)
+                    if (j == min)
+                        break;
+
+                if (i == j && Double.compare(unsorted[i], pivot) == 0)
+                    swap(++p, i, unsorted);
+                if (i >= j)
+                    break;
+
+                swap(i, j, unsorted);
+                if (Double.compare(unsorted[i], pivot) == 0)
+                    swap(++p, i, unsorted);
+                if (Double.compare(unsorted[j], pivot) == 0)
+                    swap(--q, j, unsorted);
+            }
+
+            i = j + 1;
+            for (int k = min; k <= p; k++)
+                swap(k, j--, unsorted);
+            for (int k = max; k >= q; k--)
+                swap(k, i++, unsorted);
+
+            // Now [min, j] is less than the pivot and [i, max] is greater than the pivot
+            if (SortStats.ENABLED)
+                SortStats.enter();
+            if (j - min < max - i) {
+                sort(min, j, depth, unsorted);
+                min = i;
+            } else {
+                sort(i, max, depth, unsorted);
+                max = j;
+            }
+            if (SortStats.ENABLED)
+                SortStats.exit();
+        }
+
+        if (min < max)
+            SortingNetwork.networkSort(min, max + 1, unsorted);
+    }
+
+    /**
+     * Returns the index of the pivot for a range: the median of its first, middle and last
+     * elements, or Tukey's ninther (the median of three such medians) for larger ranges.
+     *
+     * @param min      the lower index of the range.
+     * @param max      the upper index of the range.
+     * @param array    the array that contains the range.
+     */
+    private static int pivot(int min, int max, double[] array) {
+        int length = max - min + 1;
+        int mid = (min + max) >>> 1;
+        if (length <= NINTHER_THRESHOLD)
+            return median(min, mid, max, array);
+
+        int eps = length / 8;
+        int m1 = median(min, min + eps, min + eps + eps, array);
+        int m2 = median(mid - eps, mid, mid + eps, array);
+        int m3 = median(max - eps - eps, max - eps, max, array);
+        return median(m1, m2, m3, array);
+    }
+
+    /**
+     * Returns the index of the median of three elements of an array.
+     */
+    private static int median(int i, int j, int k, double[] array) {
+        double a = array[i], b = array[j], c = array[k];
+        if (Double.compare(a, b) < 0)
+            return Double.compare(b, c) < 0 ? j : Double.compare(a, c) < 0 ? k : i;
+        return Double.compare(c, b) < 0 ? j : Double.compare(c, a) < 0 ? k : i;
     }
 
     /**
@@ -53,9 +552,56 @@ public class QuickSort {
      * @param index2 the index of the second object in the array.
      * @param array  the array that contains the objects.
      */
-    private static <T extends Comparable<T>> void swap(int index1, int index2, T... array) {
+    private static <T> void swap(int index1, int index2, T... array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
         T value = array[index1];
         array[index1] = array[index2];
         array[index2] = value;
     }
+
+    /**
+     * Interchanges the values between two ints in an array.
+     *
+     * @param index1 the index of the first int in the array.
+     * @param index2 the index of the second int in the array.
+     * @param array  the array that contains the ints.
+     */
+    private static void swap(int index1, int index2, int[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        int value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two longs in an array.
+     *
+     * @param index1 the index of the first long in the array.
+     * @param index2 the index of the second long in the array.
+     * @param array  the array that contains the longs.
+     */
+    private static void swap(int index1, int index2, long[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        long value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two doubles in an array.
+     *
+     * @param index1 the index of the first double in the array.
+     * @param index2 the index of the second double in the array.
+     * @param array  the array that contains the doubles.
+     */
+    private static void swap(int index1, int index2, double[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        double value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
 }
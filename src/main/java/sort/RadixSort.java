@@ -1,7 +1,9 @@
 package sort;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Queue;
+import java.util.function.ToLongFunction;
 
 /**
  * Radix sort is a non-comparative integer sorting algorithm that sorts data with integer keys by
@@ -10,7 +12,8 @@ import java.util.Queue;
  * names or dates) and specially formatted floating point numbers, radix sort is not limited to
  * integers.
  *
- * WARNING: This radix sort only works for positive integers
+ * WARNING: The radix sort of Integers only works for positive integers. The sorts of primitive ints
+ * and longs use byte wide digits and accept negative keys.
  *
  * Average case = O(n*k) Worst case = O(n*k) Best case = O(n*k)
  *
@@ -25,6 +28,13 @@ public class RadixSort {
 
     private static final int RADIX = 10;
 
+    /**
+     * Number of bits in each digit of the primitive sorts, and the resulting number of buckets.
+     */
+    private static final int DIGIT_BITS = 8;
+    private static final int BUCKETS = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = BUCKETS - 1;
+
     /**
      * Sorts an array of Integers using the Radix sort algorithm.
      *
@@ -66,6 +76,334 @@ public class RadixSort {
         }
     }
 
+    /**
+     * Sorts an array of ints using a least significant digit Radix sort with byte wide digits. The
+     * histograms of all the digits are built in a single pass over the keys; each pass is then a
+     * counting sort of one digit from the array into a single scratch array and back. Passes over
+     * digits that are the same for every key are skipped, and the sign bit of the most significant
+     * digit is flipped so that negative keys come before positive ones.
+     *
+     * @param unsorted the array of ints to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        int length = unsorted.length;
+        if (length < 2)
+            return;
+
+        int[][] count = new int[Integer.BYTES][BUCKETS];
+        for (int key : unsorted) {
+            int flipped = key ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < Integer.BYTES; digit++)
+                count[digit][(flipped >>> (digit * DIGIT_BITS)) & DIGIT_MASK]++;
+        }
+
+        int[] src = unsorted, dst = null;
+        for (int digit = 0; digit < Integer.BYTES; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int[] offsets = count[digit];
+            if (offsets[((src[0] ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK] == length)
+                continue;
+
+            // Turns the counts into the start position of each bucket
+            for (int bucket = 0, sum = 0; bucket < BUCKETS; bucket++) {
+                int bucketCount = offsets[bucket];
+                offsets[bucket] = sum;
+                sum += bucketCount;
+            }
+
+            if (dst == null) {
+                dst = new int[length];
+                if (SortStats.ENABLED)
+                    SortStats.allocate((long) length * Integer.BYTES);
+            }
+            for (int key : src)
+                dst[offsets[((key ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = key;
+            if (SortStats.ENABLED)
+                SortStats.moves(length);
+
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+
+        if (src != unsorted) {
+            System.arraycopy(src, 0, unsorted, 0, length);
+            if (SortStats.ENABLED)
+                SortStats.moves(length);
+        }
+    }
+
+    /**
+     * Sorts an array of longs using a least significant digit Radix sort with byte wide digits. The
+     * histograms of all the digits are built in a single pass over the keys; each pass is then a
+     * counting sort of one digit from the array into a single scratch array and back. Passes over
+     * digits that are the same for every key are skipped, and the sign bit of the most significant
+     * digit is flipped so that negative keys come before positive ones.
+     *
+     * @param unsorted the array of longs to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        int length = unsorted.length;
+        if (length < 2)
+            return;
+
+        int[][] count = new int[Long.BYTES][BUCKETS];
+        for (long key : unsorted) {
+            long flipped = key ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++)
+                count[digit][(int) (flipped >>> (digit * DIGIT_BITS)) & DIGIT_MASK]++;
+        }
+
+        long[] src = unsorted, dst = null;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int[] offsets = count[digit];
+            if (offsets[(int) ((src[0] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == length)
+                continue;
+
+            // Turns the counts into the start position of each bucket
+            for (int bucket = 0, sum = 0; bucket < BUCKETS; bucket++) {
+                int bucketCount = offsets[bucket];
+                offsets[bucket] = sum;
+                sum += bucketCount;
+            }
+
+            if (dst == null) {
+                dst = new long[length];
+                if (SortStats.ENABLED)
+                    SortStats.allocate((long) length * Long.BYTES);
+            }
+            for (long key : src)
+                dst[offsets[(int) ((key ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++] = key;
+            if (SortStats.ENABLED)
+                SortStats.moves(length);
+
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+
+        if (src != unsorted) {
+            System.arraycopy(src, 0, unsorted, 0, length);
+            if (SortStats.ENABLED)
+                SortStats.moves(length);
+        }
+    }
+
+    /**
+     * Sorts an array of objects by a numeric key using a least significant digit Radix sort with
+     * byte wide digits. The key of every object is extracted only once, into an array of longs that
+     * is sorted along with the objects, so the sort takes linear time and never compares objects.
+     * Keys are ordered as signed longs. The sort is stable: objects with equal keys keep their
+     * relative order.
+     *
+     * @param unsorted the array of objects to be sorted.
+     * @param key      the function that extracts the key of an object.
+     */
+    public static <T> void sort(T[] unsorted, ToLongFunction<? super T> key) {
+        int length = unsorted.length;
+        if (length < 2)
+            return;
+
+        long[] keys = new long[length];
+        int[][] count = new int[Long.BYTES][BUCKETS];
+        for (int i = 0; i < length; i++) {
+            keys[i] = key.applyAsLong(unsorted[i]);
+            long flipped = keys[i] ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++)
+                count[digit][(int) (flipped >>> (digit * DIGIT_BITS)) & DIGIT_MASK]++;
+        }
+
+        long[] srcKeys = keys, dstKeys = null;
+        T[] src = unsorted, dst = null;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int[] offsets = count[digit];
+            if (offsets[(int) ((srcKeys[0] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == length)
+                continue;
+
+            // Turns the counts into the start position of each bucket
+            for (int bucket = 0, sum = 0; bucket < BUCKETS; bucket++) {
+                int bucketCount = offsets[bucket];
+                offsets[bucket] = sum;
+                sum += bucketCount;
+            }
+
+            if (dst == null) {
+                dstKeys = new long[length];
+                dst = Arrays.copyOf(unsorted, length);
+            }
+            for (int i = 0; i < length; i++) {
+                long k = srcKeys[i];
+                int position = offsets[(int) ((k ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                dstKeys[position] = k;
+                dst[position] = src[i];
+            }
+
+            long[] tempKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tempKeys;
+            T[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+
+        if (src != unsorted)
+            System.arraycopy(src, 0, unsorted, 0, length);
+    }
+
+    /**
+     * Returns the permutation that sorts an array of ints, leaving the array untouched:
+     * {@code keys[order[0]]}, {@code keys[order[1]]} and so on are in order. The indices are
+     * sorted along with a copy of the keys by the same passes as {@link #sort(int[])}, so equal
+     * keys keep the order of their indices. The permutation can be applied to the keys and to
+     * other arrays with {@link Permutations}.
+     *
+     * @param keys the keys.
+     * @return the indices of the keys in sorted order.
+     */
+    public static int[] argsort(int[] keys) {
+        int length = keys.length;
+        int[] order = Permutations.identity(length);
+        if (length < 2)
+            return order;
+
+        int[][] count = new int[Integer.BYTES][BUCKETS];
+        for (int key : keys) {
+            int flipped = key ^ Integer.MIN_VALUE;
+            for (int digit = 0; digit < Integer.BYTES; digit++)
+                count[digit][(flipped >>> (digit * DIGIT_BITS)) & DIGIT_MASK]++;
+        }
+
+        int[] srcKeys = keys, dstKeys = null;
+        int[] src = order, dst = null;
+        for (int digit = 0; digit < Integer.BYTES; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int[] offsets = count[digit];
+            if (offsets[((srcKeys[0] ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK] == length)
+                continue;
+
+            // Turns the counts into the start position of each bucket
+            for (int bucket = 0, sum = 0; bucket < BUCKETS; bucket++) {
+                int bucketCount = offsets[bucket];
+                offsets[bucket] = sum;
+                sum += bucketCount;
+            }
+
+            if (dstKeys == null)
+                dstKeys = new int[length];
+            if (dst == null)
+                dst = new int[length];
+            for (int i = 0; i < length; i++) {
+                int k = srcKeys[i];
+                int position = offsets[((k ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                dstKeys[position] = k;
+                dst[position] = src[i];
+            }
+
+            // The keys of the caller are only read, so they are never a destination
+            int[] tempKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tempKeys == keys ? null : tempKeys;
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        return src;
+    }
+
+    /**
+     * Returns the permutation that sorts an array of longs, leaving the array untouched:
+     * {@code keys[order[0]]}, {@code keys[order[1]]} and so on are in order. The indices are
+     * sorted along with a copy of the keys by the same passes as {@link #sort(long[])}, so equal
+     * keys keep the order of their indices. The permutation can be applied to the keys and to
+     * other arrays with {@link Permutations}.
+     *
+     * @param keys the keys.
+     * @return the indices of the keys in sorted order.
+     */
+    public static int[] argsort(long[] keys) {
+        int length = keys.length;
+        int[] order = Permutations.identity(length);
+        if (length < 2)
+            return order;
+
+        int[][] count = new int[Long.BYTES][BUCKETS];
+        for (long key : keys) {
+            long flipped = key ^ Long.MIN_VALUE;
+            for (int digit = 0; digit < Long.BYTES; digit++)
+                count[digit][(int) (flipped >>> (digit * DIGIT_BITS)) & DIGIT_MASK]++;
+        }
+
+        long[] srcKeys = keys, dstKeys = null;
+        int[] src = order, dst = null;
+        for (int digit = 0; digit < Long.BYTES; digit++) {
+            int shift = digit * DIGIT_BITS;
+            int[] offsets = count[digit];
+            if (offsets[(int) ((srcKeys[0] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == length)
+                continue;
+
+            // Turns the counts into the start position of each bucket
+            for (int bucket = 0, sum = 0; bucket < BUCKETS; bucket++) {
+                int bucketCount = offsets[bucket];
+                offsets[bucket] = sum;
+                sum += bucketCount;
+            }
+
+            if (dstKeys == null)
+                dstKeys = new long[length];
+            if (dst == null)
+                dst = new int[length];
+            for (int i = 0; i < length; i++) {
+                long k = srcKeys[i];
+                int position = offsets[(int) ((k ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                dstKeys[position] = k;
+                dst[position] = src[i];
+            }
+
+            // The keys of the caller are only read, so they are never a destination
+            long[] tempKeys = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = tempKeys == keys ? null : tempKeys;
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        return src;
+    }
+
+    /**
+     * Sorts an array of ints, and reorders every companion column the same way, so that the rows
+     * formed by the elements at the same index stay together. The sort is stable.
+     *
+     * @param keys    the keys to be sorted.
+     * @param columns the companion columns, each one an array of ints, longs, doubles or objects
+     *                as long as the keys.
+     * @throws IllegalArgumentException if a column is not one of those arrays or differs in length
+     *                                  from the keys.
+     */
+    public static void coSort(int[] keys, Object[] columns) {
+        int[] order = argsort(keys);
+        Permutations.applyToColumns(order, columns);
+        Permutations.apply(order, keys);
+    }
+
+    /**
+     * Sorts an array of longs, and reorders every companion column the same way, so that the rows
+     * formed by the elements at the same index stay together. The sort is stable.
+     *
+     * @param keys    the keys to be sorted.
+     * @param columns the companion columns, each one an array of ints, longs, doubles or objects
+     *                as long as the keys.
+     * @throws IllegalArgumentException if a column is not one of those arrays or differs in length
+     *                                  from the keys.
+     */
+    public static void coSort(long[] keys, Object[] columns) {
+        int[] order = argsort(keys);
+        Permutations.applyToColumns(order, columns);
+        Permutations.apply(order, keys);
+    }
+
     /**
      * Cycles through a list of Integers and returns the maximum number of digits for a single
      * instance of an Integer.
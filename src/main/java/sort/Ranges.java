@@ -0,0 +1,33 @@
+package sort;
+
+/**
+ * Argument checks shared by the range based sort methods of this package. Ranges follow the same
+ * convention as {@link java.util.Arrays#sort(Object[], int, int)}: the lower index is inclusive and
+ * the upper index is exclusive.
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+final class Ranges {
+
+    private Ranges() {
+    }
+
+    /**
+     * Checks that {@code from} and {@code to} describe a valid range of an array.
+     *
+     * @param length the length of the array.
+     * @param from   the index of the first element of the range, inclusive.
+     * @param to     the index of the last element of the range, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > length}.
+     */
+    static void check(int length, int from, int to) {
+        if (from > to)
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        if (from < 0)
+            throw new ArrayIndexOutOfBoundsException(from);
+        if (to > length)
+            throw new ArrayIndexOutOfBoundsException(to);
+    }
+}
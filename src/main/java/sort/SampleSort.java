@@ -0,0 +1,835 @@
+package sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Sample sort splits a range into buckets that can be sorted independently, the way a Quick sort
+ * partition does, but into many buckets at once so that every worker thread of a
+ * {@link ForkJoinPool} gets its own without any further synchronization. A random sample of the
+ * range, {@link #OVERSAMPLING} times larger than the number of buckets, is sorted and every
+ * {@code OVERSAMPLING}-th element of it becomes a splitter, which keeps the buckets close in size
+ * with high probability. The range is then split in chunks that classify their elements by binary
+ * search among the splitters and scatter them concurrently, each one into its own slice of every
+ * bucket. Finally, the buckets are sorted in parallel by {@link QuickSort} for primitives and by
+ * {@link MergeSort} for objects.
+ * <p>
+ * The two steps are also exposed on their own: {@link #splitters(int[], int, int, int)} picks the
+ * splitters and {@link #partition(int[], int, int, int[])} moves the elements into their buckets,
+ * so that the same splitters can, for instance, route the elements of several shards of the data to
+ * the nodes that sort each bucket. Bucket {@code i} holds the elements greater than splitter
+ * {@code i - 1} and not greater than splitter {@code i}, so many copies of one value all land in a
+ * single bucket.
+ * <p>
+ * Since every chunk keeps the order of its elements when scattering them, the sort of objects is
+ * stable. It uses an auxiliary array as long as the range and one byte per element for its
+ * bucket. Doubles are ordered as by {@link Double#compare(double, double)}: -0.0 comes before 0.0
+ * and NaN comes after positive infinity.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
+ *
+ * Span = O(nlogn / p) on average for p buckets, O(nlogn) when every element falls in one bucket
+ *
+ * Reference: Samplesort: A Sampling Approach to Minimal Storage Tree Sorting by Frazer and
+ * McKellar, Super Scalar Sample Sort by Sanders and Winkel
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class SampleSort {
+
+    /**
+     * Number of elements below which ranges are sorted sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    /**
+     * Maximum number of buckets, so that the bucket of an element fits in a byte.
+     */
+    public static final int MAX_BUCKETS = 256;
+
+    /**
+     * Number of sampled elements per bucket.
+     */
+    static final int OVERSAMPLING = 16;
+
+    /**
+     * Seed of the sample, fixed so that the same input is always split the same way.
+     */
+    private static final long SEED = 0x5A3D_1E5F_09C7_B2A1L;
+
+    /**
+     * Sorts an array of objects that implement Comparable by using the Sample sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Sample sort algorithm.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        sort(unsorted, from, to, comparator, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Sample sort algorithm.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param threshold  the number of elements below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException       if {@code from > to} or the threshold is not positive.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator,
+                                int threshold) {
+        Ranges.check(unsorted.length, from, to);
+        checkThreshold(threshold);
+
+        int buckets = chunks(to - from, threshold);
+        if (buckets == 1) {
+            MergeSort.sort(unsorted, from, to, comparator);
+            return;
+        }
+
+        int[] bounds = partition(from, to, splitters(from, to, buckets, comparator, unsorted),
+                comparator, buckets, unsorted);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = bounds[bucket];
+            int end = bounds[bucket + 1];
+            if (end - start > 1)
+                tasks.add(ForkJoinTask.adapt(
+                        () -> MergeSort.sort(unsorted, start, end, comparator)));
+        }
+        invokeAll(tasks);
+    }
+
+    /**
+     * Sorts an array of ints by using the Sample sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of ints by using the Sample sort algorithm.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(int[] unsorted, int threshold) {
+        checkThreshold(threshold);
+
+        int length = unsorted.length;
+        int buckets = chunks(length, threshold);
+        if (buckets == 1) {
+            QuickSort.sort(unsorted);
+            return;
+        }
+
+        int[] bounds = partition(0, length, splitters(0, length, buckets, unsorted), buckets,
+                unsorted);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = bounds[bucket];
+            int end = bounds[bucket + 1];
+            if (end - start > 1)
+                tasks.add(ForkJoinTask.adapt(() -> QuickSort.sort(unsorted, start, end)));
+        }
+        invokeAll(tasks);
+    }
+
+    /**
+     * Sorts an array of longs by using the Sample sort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of longs by using the Sample sort algorithm.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(long[] unsorted, int threshold) {
+        checkThreshold(threshold);
+
+        int length = unsorted.length;
+        int buckets = chunks(length, threshold);
+        if (buckets == 1) {
+            QuickSort.sort(unsorted);
+            return;
+        }
+
+        int[] bounds = partition(0, length, splitters(0, length, buckets, unsorted), buckets,
+                unsorted);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = bounds[bucket];
+            int end = bounds[bucket + 1];
+            if (end - start > 1)
+                tasks.add(ForkJoinTask.adapt(() -> QuickSort.sort(unsorted, start, end)));
+        }
+        invokeAll(tasks);
+    }
+
+    /**
+     * Sorts an array of doubles by using the Sample sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        sort(unsorted, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Sorts an array of doubles by using the Sample sort algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted  the array to be sorted.
+     * @param threshold the number of values below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    public static void sort(double[] unsorted, int threshold) {
+        checkThreshold(threshold);
+
+        int length = unsorted.length;
+        int buckets = chunks(length, threshold);
+        if (buckets == 1) {
+            QuickSort.sort(unsorted);
+            return;
+        }
+
+        int[] bounds = partition(0, length, splitters(0, length, buckets, unsorted), buckets,
+                unsorted);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int start = bounds[bucket];
+            int end = bounds[bucket + 1];
+            if (end - start > 1)
+                tasks.add(ForkJoinTask.adapt(() -> QuickSort.sort(unsorted, start, end)));
+        }
+        invokeAll(tasks);
+    }
+
+    /**
+     * Picks the splitters that divide a range of an array of objects into buckets of about the
+     * same size, from a sorted random sample of the range.
+     *
+     * @param array      the array.
+     * @param from       the index of the first element of the range, inclusive.
+     * @param to         the index of the last element of the range, exclusive.
+     * @param buckets    the number of buckets.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return the {@code buckets - 1} splitters in ascending order, or none if the range is empty.
+     * @throws IllegalArgumentException       if {@code from > to} or the number of buckets is not
+     *                                        between 1 and {@link #MAX_BUCKETS}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static <T> T[] splitters(T[] array, int from, int to, int buckets,
+                                    Comparator<? super T> comparator) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(buckets);
+        return splitters(from, to, buckets, comparator, array);
+    }
+
+    /**
+     * Picks the splitters that divide a range of an array of ints into buckets of about the same
+     * size, from a sorted random sample of the range.
+     *
+     * @param array   the array.
+     * @param from    the index of the first value of the range, inclusive.
+     * @param to      the index of the last value of the range, exclusive.
+     * @param buckets the number of buckets.
+     * @return the {@code buckets - 1} splitters in ascending order, or none if the range is empty.
+     * @throws IllegalArgumentException       if {@code from > to} or the number of buckets is not
+     *                                        between 1 and {@link #MAX_BUCKETS}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static int[] splitters(int[] array, int from, int to, int buckets) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(buckets);
+        return splitters(from, to, buckets, array);
+    }
+
+    /**
+     * Picks the splitters that divide a range of an array of longs into buckets of about the same
+     * size, from a sorted random sample of the range.
+     *
+     * @param array   the array.
+     * @param from    the index of the first value of the range, inclusive.
+     * @param to      the index of the last value of the range, exclusive.
+     * @param buckets the number of buckets.
+     * @return the {@code buckets - 1} splitters in ascending order, or none if the range is empty.
+     * @throws IllegalArgumentException       if {@code from > to} or the number of buckets is not
+     *                                        between 1 and {@link #MAX_BUCKETS}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static long[] splitters(long[] array, int from, int to, int buckets) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(buckets);
+        return splitters(from, to, buckets, array);
+    }
+
+    /**
+     * Picks the splitters that divide a range of an array of doubles into buckets of about the
+     * same size, from a sorted random sample of the range.
+     *
+     * @param array   the array.
+     * @param from    the index of the first value of the range, inclusive.
+     * @param to      the index of the last value of the range, exclusive.
+     * @param buckets the number of buckets.
+     * @return the {@code buckets - 1} splitters in ascending order, or none if the range is empty.
+     * @throws IllegalArgumentException       if {@code from > to} or the number of buckets is not
+     *                                        between 1 and {@link #MAX_BUCKETS}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static double[] splitters(double[] array, int from, int to, int buckets) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(buckets);
+        return splitters(from, to, buckets, array);
+    }
+
+    /**
+     * Moves the elements of a range of an array of objects into the buckets delimited by a list
+     * of splitters, in parallel. Bucket {@code i} holds the elements greater than splitter
+     * {@code i - 1} and not greater than splitter {@code i}, in their original relative order.
+     *
+     * @param array      the array.
+     * @param from       the index of the first element of the range, inclusive.
+     * @param to         the index of the last element of the range, exclusive.
+     * @param splitters  the splitters, in ascending order.
+     * @param comparator the comparator that determines the order of the elements.
+     * @return the bounds of the buckets: bucket {@code i} spans from {@code bounds[i]}, inclusive,
+     * to {@code bounds[i + 1]}, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}, the splitters are not in
+     *                                        ascending order or there are {@link #MAX_BUCKETS} of
+     *                                        them or more.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static <T> int[] partition(T[] array, int from, int to, T[] splitters,
+                                      Comparator<? super T> comparator) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(splitters.length + 1);
+        for (int i = 1; i < splitters.length; i++)
+            if (comparator.compare(splitters[i - 1], splitters[i]) > 0)
+                throw new IllegalArgumentException("The splitters are not in ascending order");
+        return partition(from, to, splitters, comparator, chunks(to - from, DEFAULT_THRESHOLD),
+                array);
+    }
+
+    /**
+     * Moves the values of a range of an array of ints into the buckets delimited by a list of
+     * splitters, in parallel. Bucket {@code i} holds the values greater than splitter
+     * {@code i - 1} and not greater than splitter {@code i}.
+     *
+     * @param array     the array.
+     * @param from      the index of the first value of the range, inclusive.
+     * @param to        the index of the last value of the range, exclusive.
+     * @param splitters the splitters, in ascending order.
+     * @return the bounds of the buckets: bucket {@code i} spans from {@code bounds[i]}, inclusive,
+     * to {@code bounds[i + 1]}, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}, the splitters are not in
+     *                                        ascending order or there are {@link #MAX_BUCKETS} of
+     *                                        them or more.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static int[] partition(int[] array, int from, int to, int[] splitters) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(splitters.length + 1);
+        for (int i = 1; i < splitters.length; i++)
+            if (splitters[i - 1] > splitters[i])
+                throw new IllegalArgumentException("The splitters are not in ascending order");
+        return partition(from, to, splitters, chunks(to - from, DEFAULT_THRESHOLD), array);
+    }
+
+    /**
+     * Moves the values of a range of an array of longs into the buckets delimited by a list of
+     * splitters, in parallel. Bucket {@code i} holds the values greater than splitter
+     * {@code i - 1} and not greater than splitter {@code i}.
+     *
+     * @param array     the array.
+     * @param from      the index of the first value of the range, inclusive.
+     * @param to        the index of the last value of the range, exclusive.
+     * @param splitters the splitters, in ascending order.
+     * @return the bounds of the buckets: bucket {@code i} spans from {@code bounds[i]}, inclusive,
+     * to {@code bounds[i + 1]}, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}, the splitters are not in
+     *                                        ascending order or there are {@link #MAX_BUCKETS} of
+     *                                        them or more.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static int[] partition(long[] array, int from, int to, long[] splitters) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(splitters.length + 1);
+        for (int i = 1; i < splitters.length; i++)
+            if (splitters[i - 1] > splitters[i])
+                throw new IllegalArgumentException("The splitters are not in ascending order");
+        return partition(from, to, splitters, chunks(to - from, DEFAULT_THRESHOLD), array);
+    }
+
+    /**
+     * Moves the values of a range of an array of doubles into the buckets delimited by a list of
+     * splitters, in parallel. Bucket {@code i} holds the values greater than splitter
+     * {@code i - 1} and not greater than splitter {@code i}, as by {@link Double#compare}.
+     *
+     * @param array     the array.
+     * @param from      the index of the first value of the range, inclusive.
+     * @param to        the index of the last value of the range, exclusive.
+     * @param splitters the splitters, in ascending order.
+     * @return the bounds of the buckets: bucket {@code i} spans from {@code bounds[i]}, inclusive,
+     * to {@code bounds[i + 1]}, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}, the splitters are not in
+     *                                        ascending order or there are {@link #MAX_BUCKETS} of
+     *                                        them or more.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > array.length}.
+     */
+    public static int[] partition(double[] array, int from, int to, double[] splitters) {
+        Ranges.check(array.length, from, to);
+        checkBuckets(splitters.length + 1);
+        for (int i = 1; i < splitters.length; i++)
+            if (Double.compare(splitters[i - 1], splitters[i]) > 0)
+                throw new IllegalArgumentException("The splitters are not in ascending order");
+        return partition(from, to, splitters, chunks(to - from, DEFAULT_THRESHOLD), array);
+    }
+
+    /**
+     * Checks that a sequential threshold is valid.
+     *
+     * @param threshold the number of elements below which ranges are sorted sequentially.
+     * @throws IllegalArgumentException if the threshold is not positive.
+     */
+    private static void checkThreshold(int threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("The threshold must be positive: " + threshold);
+    }
+
+    /**
+     * Checks that a number of buckets is valid.
+     *
+     * @param buckets the number of buckets.
+     * @throws IllegalArgumentException if the number is not between 1 and {@link #MAX_BUCKETS}.
+     */
+    private static void checkBuckets(int buckets) {
+        if (buckets < 1 || buckets > MAX_BUCKETS)
+            throw new IllegalArgumentException("The number of buckets must be between 1 and "
+                    + MAX_BUCKETS + ": " + buckets);
+    }
+
+    /**
+     * Splits a range in chunks of at least {@code threshold} elements, at most four per worker
+     * thread and at most {@link #MAX_BUCKETS}. The sorts use as many buckets as chunks.
+     *
+     * @param length    the number of elements in the range.
+     * @param threshold the minimum number of elements in a chunk.
+     * @return the number of chunks.
+     */
+    private static int chunks(int length, int threshold) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(1, Math.min(Math.min(4 * parallelism, MAX_BUCKETS), length / threshold));
+    }
+
+    /**
+     * Returns the index where a chunk of a range starts, spreading the elements evenly among
+     * chunks.
+     *
+     * @param min    the index of the first element of the range.
+     * @param length the number of elements in the range.
+     * @param chunk  the chunk, or the number of chunks to get the end of the range.
+     * @param chunks the number of chunks.
+     */
+    private static int bound(int min, int length, int chunk, int chunks) {
+        return min + (int) ((long) length * chunk / chunks);
+    }
+
+    /**
+     * Runs tasks in the common pool and waits for all of them to complete.
+     */
+    private static void invokeAll(List<ForkJoinTask<?>> tasks) {
+        ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    /**
+     * Turns the bucket counts of every chunk into the positions at which each chunk writes its
+     * elements of each bucket: right after the ones of the previous chunk.
+     *
+     * @param from    the index of the first element of the range.
+     * @param offsets the counts of every chunk, replaced by the positions relative to {@code from}.
+     * @return the bounds of the buckets.
+     */
+    private static int[] offsets(int from, int[][] offsets) {
+        int buckets = offsets[0].length;
+        int[] bounds = new int[buckets + 1];
+        int position = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bounds[bucket] = from + position;
+            for (int[] offset : offsets) {
+                int count = offset[bucket];
+                offset[bucket] = position;
+                position += count;
+            }
+        }
+        bounds[buckets] = from + position;
+        return bounds;
+    }
+
+    /**
+     * Picks the splitters of a range of an array of objects. The range is not checked.
+     */
+    private static <T> T[] splitters(int from, int to, int buckets,
+                                     Comparator<? super T> comparator, T[] array) {
+        if (from == to)
+            return Arrays.copyOfRange(array, from, from);
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        T[] sample = Arrays.copyOfRange(array, from, from + 1);
+        sample = Arrays.copyOf(sample, buckets * OVERSAMPLING);
+        for (int i = 0; i < sample.length; i++)
+            sample[i] = array[random.nextInt(from, to)];
+        QuickSort.sort(sample, 0, sample.length, comparator);
+
+        T[] splitters = Arrays.copyOf(sample, buckets - 1);
+        for (int i = 0; i < splitters.length; i++)
+            splitters[i] = sample[(i + 1) * OVERSAMPLING];
+        return splitters;
+    }
+
+    /**
+     * Picks the splitters of a range of an array of ints. The range is not checked.
+     */
+    private static int[] splitters(int from, int to, int buckets, int[] array) {
+        if (from == to)
+            return new int[0];
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[] sample = new int[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++)
+            sample[i] = array[random.nextInt(from, to)];
+        QuickSort.sort(sample);
+
+        int[] splitters = new int[buckets - 1];
+        for (int i = 0; i < splitters.length; i++)
+            splitters[i] = sample[(i + 1) * OVERSAMPLING];
+        return splitters;
+    }
+
+    /**
+     * Picks the splitters of a range of an array of longs. The range is not checked.
+     */
+    private static long[] splitters(int from, int to, int buckets, long[] array) {
+        if (from == to)
+            return new long[0];
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        long[] sample = new long[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++)
+            sample[i] = array[random.nextInt(from, to)];
+        QuickSort.sort(sample);
+
+        long[] splitters = new long[buckets - 1];
+        for (int i = 0; i < splitters.length; i++)
+            splitters[i] = sample[(i + 1) * OVERSAMPLING];
+        return splitters;
+    }
+
+    /**
+     * Picks the splitters of a range of an array of doubles. The range is not checked.
+     */
+    private static double[] splitters(int from, int to, int buckets, double[] array) {
+        if (from == to)
+            return new double[0];
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] sample = new double[buckets * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++)
+            sample[i] = array[random.nextInt(from, to)];
+        QuickSort.sort(sample);
+
+        double[] splitters = new double[buckets - 1];
+        for (int i = 0; i < splitters.length; i++)
+            splitters[i] = sample[(i + 1) * OVERSAMPLING];
+        return splitters;
+    }
+
+    /**
+     * Returns the bucket of an object: the number of splitters less than it.
+     */
+    private static <T> int bucket(T element, T[] splitters, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(splitters[mid], element) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the bucket of an int: the number of splitters less than it.
+     */
+    private static int bucket(int value, int[] splitters) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (splitters[mid] < value)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the bucket of a long: the number of splitters less than it.
+     */
+    private static int bucket(long value, long[] splitters) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (splitters[mid] < value)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Returns the bucket of a double: the number of splitters less than it.
+     */
+    private static int bucket(double value, double[] splitters) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(splitters[mid], value) < 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Moves the elements of a range of an array of objects into their buckets, split in chunks
+     * that are classified and scattered concurrently. The arguments are not checked.
+     *
+     * @param from       the index of the first element of the range, inclusive.
+     * @param to         the index of the last element of the range, exclusive.
+     * @param splitters  the splitters, in ascending order.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param chunks     the number of chunks.
+     * @param array      the array.
+     * @return the bounds of the buckets.
+     */
+    private static <T> int[] partition(int from, int to, T[] splitters,
+                                       Comparator<? super T> comparator, int chunks, T[] array) {
+        int length = to - from;
+        byte[] buckets = new byte[length];
+        int[][] offsets = new int[chunks][splitters.length + 1];
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] count = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++) {
+                    int bucket = bucket(array[i], splitters, comparator);
+                    buckets[i - from] = (byte) bucket;
+                    count[bucket]++;
+                }
+            }));
+        }
+        invokeAll(tasks);
+
+        int[] bounds = offsets(from, offsets);
+        T[] aux = Arrays.copyOfRange(array, from, to);
+        tasks.clear();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] offset = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++)
+                    array[from + offset[buckets[i - from] & 0xFF]++] = aux[i - from];
+            }));
+        }
+        invokeAll(tasks);
+        return bounds;
+    }
+
+    /**
+     * Moves the values of a range of an array of ints into their buckets, split in chunks that
+     * are classified and scattered concurrently. The arguments are not checked.
+     *
+     * @param from      the index of the first value of the range, inclusive.
+     * @param to        the index of the last value of the range, exclusive.
+     * @param splitters the splitters, in ascending order.
+     * @param chunks    the number of chunks.
+     * @param array     the array.
+     * @return the bounds of the buckets.
+     */
+    private static int[] partition(int from, int to, int[] splitters, int chunks, int[] array) {
+        int length = to - from;
+        byte[] buckets = new byte[length];
+        int[][] offsets = new int[chunks][splitters.length + 1];
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] count = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++) {
+                    int bucket = bucket(array[i], splitters);
+                    buckets[i - from] = (byte) bucket;
+                    count[bucket]++;
+                }
+            }));
+        }
+        invokeAll(tasks);
+
+        int[] bounds = offsets(from, offsets);
+        int[] aux = Arrays.copyOfRange(array, from, to);
+        tasks.clear();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] offset = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++)
+                    array[from + offset[buckets[i - from] & 0xFF]++] = aux[i - from];
+            }));
+        }
+        invokeAll(tasks);
+        return bounds;
+    }
+
+    /**
+     * Moves the values of a range of an array of longs into their buckets, split in chunks that
+     * are classified and scattered concurrently. The arguments are not checked.
+     *
+     * @param from      the index of the first value of the range, inclusive.
+     * @param to        the index of the last value of the range, exclusive.
+     * @param splitters the splitters, in ascending order.
+     * @param chunks    the number of chunks.
+     * @param array     the array.
+     * @return the bounds of the buckets.
+     */
+    private static int[] partition(int from, int to, long[] splitters, int chunks, long[] array) {
+        int length = to - from;
+        byte[] buckets = new byte[length];
+        int[][] offsets = new int[chunks][splitters.length + 1];
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] count = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++) {
+                    int bucket = bucket(array[i], splitters);
+                    buckets[i - from] = (byte) bucket;
+                    count[bucket]++;
+                }
+            }));
+        }
+        invokeAll(tasks);
+
+        int[] bounds = offsets(from, offsets);
+        long[] aux = Arrays.copyOfRange(array, from, to);
+        tasks.clear();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] offset = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++)
+                    array[from + offset[buckets[i - from] & 0xFF]++] = aux[i - from];
+            }));
+        }
+        invokeAll(tasks);
+        return bounds;
+    }
+
+    /**
+     * Moves the values of a range of an array of doubles into their buckets, split in chunks that
+     * are classified and scattered concurrently. The arguments are not checked.
+     *
+     * @param from      the index of the first value of the range, inclusive.
+     * @param to        the index of the last value of the range, exclusive.
+     * @param splitters the splitters, in ascending order.
+     * @param chunks    the number of chunks.
+     * @param array     the array.
+     * @return the bounds of the buckets.
+     */
+    private static int[] partition(int from, int to, double[] splitters, int chunks,
+                                   double[] array) {
+        int length = to - from;
+        byte[] buckets = new byte[length];
+        int[][] offsets = new int[chunks][splitters.length + 1];
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] count = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++) {
+                    int bucket = bucket(array[i], splitters);
+                    buckets[i - from] = (byte) bucket;
+                    count[bucket]++;
+                }
+            }));
+        }
+        invokeAll(tasks);
+
+        int[] bounds = offsets(from, offsets);
+        double[] aux = Arrays.copyOfRange(array, from, to);
+        tasks.clear();
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] offset = offsets[chunk];
+            int min = bound(from, length, chunk, chunks);
+            int max = bound(from, length, chunk + 1, chunks);
+            tasks.add(ForkJoinTask.adapt(() -> {
+                for (int i = min; i < max; i++)
+                    array[from + offset[buckets[i - from] & 0xFF]++] = aux[i - from];
+            }));
+        }
+        invokeAll(tasks);
+        return bounds;
+    }
+}
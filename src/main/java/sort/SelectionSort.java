@@ -1,5 +1,7 @@
 package sort;
 
+import java.util.Comparator;
+
 /**
  * One of the simplest sorting algorithms works as follows: First, find the smallest item in the
  * array and exchange it with the first entry. Then, find the next smallest item and exchange it
@@ -21,12 +23,79 @@ public class SelectionSort {
      * @param unsorted the array to be sorted.
      */
     public static <T extends Comparable<T>> void sort(T[] unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the Selection algorithm. Elements outside of the range are left untouched.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+
+        for (int i = from; i < to; i++) {
+            int min = i;
+            for (int j = i + 1; j < to; j++)
+                if (comparator.compare(unsorted[j], unsorted[min]) < 0)
+                    min = j;
+            swap(i, min, unsorted);
+        }
+    }
+
+    /**
+     * Sorts an array of ints using the Selection algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        int length = unsorted.length;
+
+        for (int i = 0; i < length; i++) {
+            int min = i;
+            for (int j = i + 1; j < length; j++)
+                if (unsorted[j] < unsorted[min])
+                    min = j;
+            swap(i, min, unsorted);
+        }
+    }
+
+    /**
+     * Sorts an array of longs using the Selection algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        int length = unsorted.length;
+
+        for (int i = 0; i < length; i++) {
+            int min = i;
+            for (int j = i + 1; j < length; j++)
+                if (unsorted[j] < unsorted[min])
+                    min = j;
+            swap(i, min, unsorted);
+        }
+    }
+
+    /**
+     * Sorts an array of doubles using the Selection algorithm. Values are ordered as by
+     * {@link Double#compare}: -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
         int length = unsorted.length;
 
         for (int i = 0; i < length; i++) {
             int min = i;
             for (int j = i + 1; j < length; j++)
-                if (unsorted[j].compareTo(unsorted[min]) < 0)
+                if (Double.compare(unsorted[j], unsorted[min]) < 0)
                     min = j;
             swap(i, min, unsorted);
         }
@@ -44,4 +113,43 @@ public class SelectionSort {
         array[index1] = array[index2];
         array[index2] = value;
     }
+
+    /**
+     * Interchanges the values between two ints in an array.
+     *
+     * @param index1 the index of the first int in the array.
+     * @param index2 the index of the second int in the array.
+     * @param array  the array that contains the ints.
+     */
+    private static void swap(int index1, int index2, int[] array) {
+        int value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two longs in an array.
+     *
+     * @param index1 the index of the first long in the array.
+     * @param index2 the index of the second long in the array.
+     * @param array  the array that contains the longs.
+     */
+    private static void swap(int index1, int index2, long[] array) {
+        long value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
+
+    /**
+     * Interchanges the values between two doubles in an array.
+     *
+     * @param index1 the index of the first double in the array.
+     * @param index2 the index of the second double in the array.
+     * @param array  the array that contains the doubles.
+     */
+    private static void swap(int index1, int index2, double[] array) {
+        double value = array[index1];
+        array[index1] = array[index2];
+        array[index2] = value;
+    }
 }
@@ -0,0 +1,244 @@
+package sort;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+/**
+ * Counters of the work done by a sort: comparisons, swaps, moves, recursion depth, scratch memory
+ * and wall time. Statistics are collected by running a sort through {@link #measure}, which times
+ * it and makes a fresh set of counters the current one of the calling thread while it runs:
+ * <pre>{@code
+ * SortStats stats = SortStats.measure(() -> QuickSort.sort(array));
+ * }</pre>
+ * The sorts of this package report to the current counters through package-private hooks, each of
+ * them guarded by {@link #ENABLED}. Since the JIT treats that static final flag as a constant, the
+ * hooks are removed from the compiled code when it is off, so instrumentation can stay compiled in
+ * at no cost. It is turned on by starting the JVM with {@code -Dsort.stats=true}; otherwise only
+ * the wall time is measured.
+ * <p>
+ * {@link QuickSort} and {@link MergeSort} report every counter. {@link DualPivotQuickSort}
+ * reports comparisons, swaps and recursion depth, {@link TimSort} comparisons, swaps and scratch
+ * memory, {@link HeapSort} comparisons, and the selections and partial sorts of
+ * {@link PartialSort} comparisons and swaps. The sorts of ints and longs of {@link RadixSort}
+ * report moves and scratch memory. Other sorts, and work done by other threads, such as the tasks
+ * of the parallel sorts, are not counted. Comparisons are counted for the sorts of objects only,
+ * by wrapping their comparator. Scratch memory is counted as the bytes of the
+ * auxiliary arrays allocated by a sort, with references taken as 4 bytes (compressed references).
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public final class SortStats {
+
+    /**
+     * Whether the sorts of this package report their work. Read once from the system property
+     * {@code sort.stats}.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("sort.stats");
+
+    /**
+     * Number of bytes counted for each reference of an auxiliary array of objects.
+     */
+    static final int REFERENCE_BYTES = 4;
+
+    private static final ThreadLocal<SortStats> CURRENT = new ThreadLocal<>();
+
+    private long comparisons;
+
+    private long swaps;
+
+    private long moves;
+
+    private long scratchBytes;
+
+    private long nanos;
+
+    private int depth;
+
+    private int maxDepth;
+
+    private SortStats() {
+    }
+
+    /**
+     * Runs a sort on the calling thread and returns the statistics of its work. Calls can be
+     * nested: the statistics of an inner call are not added to those of the outer one.
+     *
+     * @param sort the sort to be run.
+     * @return the statistics of the sort.
+     */
+    public static SortStats measure(Runnable sort) {
+        SortStats stats = new SortStats();
+        stats.run(sort);
+        return stats;
+    }
+
+    /**
+     * Runs a sort on the calling thread and hands the statistics of its work to a sink, such as
+     * a logger or a metrics registry, even if the sort fails.
+     *
+     * @param sort the sort to be run.
+     * @param sink the consumer of the statistics.
+     */
+    public static void measure(Runnable sort, Consumer<? super SortStats> sink) {
+        SortStats stats = new SortStats();
+        try {
+            stats.run(sort);
+        } finally {
+            sink.accept(stats);
+        }
+    }
+
+    /**
+     * Runs a sort with these statistics as the current ones of the calling thread.
+     */
+    private void run(Runnable sort) {
+        SortStats previous = CURRENT.get();
+        CURRENT.set(this);
+        long start = System.nanoTime();
+        try {
+            sort.run();
+        } finally {
+            nanos = System.nanoTime() - start;
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Returns the number of calls to the comparator.
+     */
+    public long comparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Returns the number of pairs of elements swapped.
+     */
+    public long swaps() {
+        return swaps;
+    }
+
+    /**
+     * Returns the number of elements copied from one array position to another, outside of swaps.
+     */
+    public long moves() {
+        return moves;
+    }
+
+    /**
+     * Returns the deepest level of recursion reached, zero if the sort did not recurse.
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the number of bytes of the auxiliary arrays allocated.
+     */
+    public long scratchBytes() {
+        return scratchBytes;
+    }
+
+    /**
+     * Returns the wall time of the sort, in nanoseconds.
+     */
+    public long nanos() {
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "SortStats{comparisons=" + comparisons + ", swaps=" + swaps + ", moves=" + moves
+                + ", maxDepth=" + maxDepth + ", scratchBytes=" + scratchBytes + ", nanos=" + nanos
+                + "}";
+    }
+
+    /**
+     * Returns a comparator that counts its calls in the current statistics, or the comparator
+     * itself when statistics are disabled, no sort is being measured or it already counts its
+     * calls, as when a sort falls back to another one.
+     *
+     * @param comparator the comparator of a sort.
+     */
+    static <T> Comparator<T> counting(Comparator<T> comparator) {
+        if (!ENABLED)
+            return comparator;
+        SortStats stats = CURRENT.get();
+        if (stats == null || comparator instanceof Counting)
+            return comparator;
+        return new Counting<>(comparator, stats);
+    }
+
+    /**
+     * Counts a swap in the current statistics.
+     */
+    static void swap() {
+        SortStats stats = CURRENT.get();
+        if (stats != null)
+            stats.swaps++;
+    }
+
+    /**
+     * Counts moved elements in the current statistics.
+     *
+     * @param count the number of elements moved.
+     */
+    static void moves(long count) {
+        SortStats stats = CURRENT.get();
+        if (stats != null)
+            stats.moves += count;
+    }
+
+    /**
+     * Counts an allocated auxiliary array in the current statistics.
+     *
+     * @param bytes the size of the array, in bytes.
+     */
+    static void allocate(long bytes) {
+        SortStats stats = CURRENT.get();
+        if (stats != null)
+            stats.scratchBytes += bytes;
+    }
+
+    /**
+     * Records that the sort goes one level deeper into its recursion.
+     */
+    static void enter() {
+        SortStats stats = CURRENT.get();
+        if (stats != null && ++stats.depth > stats.maxDepth)
+            stats.maxDepth = stats.depth;
+    }
+
+    /**
+     * Records that the sort comes back from one level of its recursion.
+     */
+    static void exit() {
+        SortStats stats = CURRENT.get();
+        if (stats != null)
+            stats.depth--;
+    }
+
+    /**
+     * A comparator that counts its calls.
+     */
+    private static final class Counting<T> implements Comparator<T> {
+
+        private final Comparator<T> comparator;
+
+        private final SortStats stats;
+
+        Counting(Comparator<T> comparator, SortStats stats) {
+            this.comparator = comparator;
+            this.stats = stats;
+        }
+
+        @Override
+        public int compare(T element1, T element2) {
+            stats.comparisons++;
+            return comparator.compare(element1, element2);
+        }
+    }
+}
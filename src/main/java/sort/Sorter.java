@@ -0,0 +1,318 @@
+package sort;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A single entry point that picks one of the sorts of this package for each call, from the size
+ * of the input, the type of its elements, whether equal elements must keep their order, how much
+ * of it is already sorted and how many cores the common {@link ForkJoinPool} can use. The choices
+ * follow measurements of the sorts of this package on random, sorted, reversed, nearly sorted and
+ * few-unique inputs:
+ * <ul>
+ *     <li>Arrays shorter than {@link #INSERTION_SORT_THRESHOLD} are sorted with an Insertion sort,
+ *     which beats every other sort there, and arrays of primitives of at most
+ *     {@link SortingNetwork#MAX_SIZE} elements with a {@link SortingNetwork}.</li>
+ *     <li>Arrays of primitives are first scanned for a single ascending or descending run. A
+ *     sorted array is left alone and a reversed one is reversed, both in linear time, and any
+ *     other array gives up the scan after a few elements on average.</li>
+ *     <li>Ints are sorted with the LSD {@link RadixSort} from {@link #INT_RADIX_THRESHOLD} on, and
+ *     with {@link QuickSort} below it.</li>
+ *     <li>Longs are sorted with {@link QuickSort} below {@link #LONG_RADIX_THRESHOLD}, with the
+ *     LSD {@link RadixSort} up to {@link #LONG_MSD_THRESHOLD}, and with the {@link MsdRadixSort}
+ *     beyond it, which skips the high bytes that the keys share. The MSD sort is also used from
+ *     {@link #PARALLEL_THRESHOLD} on when there is more than one core, since it sorts its buckets
+ *     in parallel.</li>
+ *     <li>Doubles are sorted with the {@link DualPivotQuickSort}, or with the
+ *     {@link ParallelQuickSort} from {@link #PARALLEL_THRESHOLD} on when there is more than one
+ *     core.</li>
+ *     <li>Objects are sorted with {@link TimSort} when a sample of adjacent pairs shows that the
+ *     array is mostly in order, in either direction. Otherwise a stable sort uses TimSort, or the
+ *     {@link ParallelMergeSort} from {@link #PARALLEL_THRESHOLD} on when there is more than one
+ *     core, and an unstable sort uses the three-way {@link QuickSort}, which is the fastest on
+ *     arrays with many equal elements, or the {@link ParallelQuickSort}.</li>
+ * </ul>
+ * Doubles are ordered as by {@link Double#compare(double, double)}: -0.0 comes before 0.0 and NaN
+ * comes after positive infinity.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(n)
+ *
+ * NOTE: ints and longs are sorted in O(n) by the Radix sorts
+ *
+ * Reference: Engineering a Sort Function by Bentley and McIlroy
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class Sorter {
+
+    /**
+     * Arrays shorter than this are sorted with an Insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 48;
+
+    /**
+     * Arrays of ints at least this long are sorted with the LSD Radix sort.
+     */
+    static final int INT_RADIX_THRESHOLD = 1 << 10;
+
+    /**
+     * Arrays of longs at least this long are sorted with the LSD Radix sort.
+     */
+    static final int LONG_RADIX_THRESHOLD = 1 << 12;
+
+    /**
+     * Arrays of longs at least this long are sorted with the MSD Radix sort.
+     */
+    static final int LONG_MSD_THRESHOLD = 1 << 19;
+
+    /**
+     * Arrays at least this long are sorted in parallel when the common pool has more than one
+     * core.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Number of adjacent pairs sampled to tell whether an array of objects is mostly in order.
+     */
+    static final int SAMPLES = 64;
+
+    /**
+     * Sorts an array of objects that implement Comparable. The sort is stable.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder(), true);
+    }
+
+    /**
+     * Sorts an array of objects according to the order induced by a comparator. The sort is
+     * stable.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param comparator the comparator that determines the order of the elements.
+     */
+    public static <T> void sort(T[] unsorted, Comparator<? super T> comparator) {
+        sort(unsorted, 0, unsorted.length, comparator, true);
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator.
+     * Elements outside of the range are left untouched. Giving up stability lets the faster
+     * unstable sorts be picked.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param stable     whether equal elements must keep their relative order.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator,
+                                boolean stable) {
+        Ranges.check(unsorted.length, from, to);
+
+        int length = to - from;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            InsertionSort.binarySort(from, to, from, comparator, unsorted);
+            return;
+        }
+
+        boolean parallel = parallel(length);
+        if (presorted(from, to, comparator, unsorted) || stable && !parallel)
+            TimSort.sort(unsorted, from, to, comparator);
+        else if (stable)
+            ParallelMergeSort.sort(unsorted, from, to, comparator);
+        else if (parallel)
+            ParallelQuickSort.sort(unsorted, from, to, comparator);
+        else
+            QuickSort.sort(unsorted, from, to, comparator);
+    }
+
+    /**
+     * Sorts an array of ints.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        int length = unsorted.length;
+        if (length <= SortingNetwork.MAX_SIZE)
+            SortingNetwork.networkSort(0, length, unsorted);
+        else if (length < INSERTION_SORT_THRESHOLD)
+            InsertionSort.pairSort(0, length, unsorted);
+        else if (ordered(unsorted))
+            return;
+        else if (length < INT_RADIX_THRESHOLD)
+            QuickSort.sort(unsorted);
+        else
+            RadixSort.sort(unsorted);
+    }
+
+    /**
+     * Sorts an array of longs.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(long[] unsorted) {
+        int length = unsorted.length;
+        if (length <= SortingNetwork.MAX_SIZE)
+            SortingNetwork.networkSort(0, length, unsorted);
+        else if (length < INSERTION_SORT_THRESHOLD)
+            InsertionSort.pairSort(0, length, unsorted);
+        else if (ordered(unsorted))
+            return;
+        else if (length < LONG_RADIX_THRESHOLD)
+            QuickSort.sort(unsorted);
+        else if (length >= LONG_MSD_THRESHOLD || parallel(length))
+            MsdRadixSort.sort(unsorted);
+        else
+            RadixSort.sort(unsorted);
+    }
+
+    /**
+     * Sorts an array of doubles. Doubles are ordered as by {@link Double#compare(double, double)}:
+     * -0.0 comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(double[] unsorted) {
+        int length = unsorted.length;
+        if (length <= SortingNetwork.MAX_SIZE)
+            SortingNetwork.networkSort(0, length, unsorted);
+        else if (length < INSERTION_SORT_THRESHOLD)
+            InsertionSort.pairSort(0, length, unsorted);
+        else if (ordered(unsorted))
+            return;
+        else if (parallel(length))
+            ParallelQuickSort.sort(unsorted);
+        else
+            DualPivotQuickSort.sort(unsorted);
+    }
+
+    /**
+     * Returns whether a range of this length is worth sorting in parallel.
+     */
+    static boolean parallel(int length) {
+        return length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Returns whether a sample of evenly spaced adjacent pairs of a range shows that it is mostly
+     * ascending or mostly descending, that is, whether all but one in sixteen pairs go the same
+     * way. A random range has about as many descents as ascents.
+     *
+     * @param from       the index of the first element of the range, inclusive.
+     * @param to         the index of the last element of the range, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array.
+     */
+    static <T> boolean presorted(int from, int to, Comparator<? super T> comparator, T[] array) {
+        int step = Math.max(1, (to - from - 1) / SAMPLES);
+        int pairs = 0;
+        int descents = 0;
+        for (int i = from + 1; i < to && pairs < SAMPLES; i += step) {
+            pairs++;
+            if (comparator.compare(array[i - 1], array[i]) > 0)
+                descents++;
+        }
+        return descents <= pairs / 16 || descents >= pairs - pairs / 16;
+    }
+
+    /**
+     * Returns whether an array is a single run: it is either already ascending, or descending, in
+     * which case it is reversed. The scan stops at the first element that breaks the run.
+     *
+     * @param array the array, with at least two elements.
+     */
+    static boolean ordered(int[] array) {
+        int i = 1;
+        if (array[0] <= array[1]) {
+            while (i < array.length && array[i - 1] <= array[i])
+                i++;
+            return i == array.length;
+        }
+
+        while (i < array.length && array[i - 1] >= array[i])
+            i++;
+        if (i < array.length)
+            return false;
+        for (int lo = 0, hi = array.length - 1; lo < hi; lo++, hi--)
+            swap(lo, hi, array);
+        return true;
+    }
+
+    /**
+     * Returns whether an array is a single run: it is either already ascending, or descending, in
+     * which case it is reversed. The scan stops at the first element that breaks the run.
+     *
+     * @param array the array, with at least two elements.
+     */
+    static boolean ordered(long[] array) {
+        int i = 1;
+        if (array[0] <= array[1]) {
+            while (i < array.length && array[i - 1] <= array[i])
+                i++;
+            return i == array.length;
+        }
+
+        while (i < array.length && array[i - 1] >= array[i])
+            i++;
+        if (i < array.length)
+            return false;
+        for (int lo = 0, hi = array.length - 1; lo < hi; lo++, hi--)
+            swap(lo, hi, array);
+        return true;
+    }
+
+    /**
+     * Returns whether an array is a single run: it is either already ascending, or descending, in
+     * which case it is reversed. The scan stops at the first element that breaks the run.
+     *
+     * @param array the array, with at least two elements.
+     */
+    static boolean ordered(double[] array) {
+        int i = 1;
+        if (Double.compare(array[0], array[1]) <= 0) {
+            while (i < array.length && Double.compare(array[i - 1], array[i]) <= 0)
+                i++;
+            return i == array.length;
+        }
+
+        while (i < array.length && Double.compare(array[i - 1], array[i]) >= 0)
+            i++;
+        if (i < array.length)
+            return false;
+        for (int lo = 0, hi = array.length - 1; lo < hi; lo++, hi--)
+            swap(lo, hi, array);
+        return true;
+    }
+
+    /**
+     * Interchanges two elements of an array of ints.
+     */
+    private static void swap(int index1, int index2, int[] array) {
+        int temp = array[index1];
+        array[index1] = array[index2];
+        array[index2] = temp;
+    }
+
+    /**
+     * Interchanges two elements of an array of longs.
+     */
+    private static void swap(int index1, int index2, long[] array) {
+        long temp = array[index1];
+        array[index1] = array[index2];
+        array[index2] = temp;
+    }
+
+    /**
+     * Interchanges two elements of an array of doubles.
+     */
+    private static void swap(int index1, int index2, double[] array) {
+        double temp = array[index1];
+        array[index1] = array[index2];
+        array[index2] = temp;
+    }
+}
@@ -0,0 +1,296 @@
+package sort;
+
+import java.util.Comparator;
+
+/**
+ * A sorting network is a fixed sequence of compare-exchange operations, each of which puts two
+ * positions of the array in order, that sorts every input of a given size. The sequence does not
+ * depend on the values being sorted, so there is no data-dependent branch to mispredict: a
+ * compare-exchange of primitives is a minimum and a maximum, which the JIT compiles to conditional
+ * moves, and the comparators of each layer of the network touch distinct positions and run in
+ * parallel in the pipeline. On small random ranges this beats Insertion sort, whose inner loop
+ * exits at an unpredictable point for every element.
+ * <p>
+ * This class holds the smallest known networks for 2 to {@link #MAX_SIZE} inputs, with 1, 3, 5,
+ * 9, 12, 16, 19, 25, 29, 35, 39, 45, 51, 56 and 60 comparators; the ones up to 10 inputs are proven
+ * optimal. They are used for the small ranges left over by {@link QuickSort} and
+ * {@link MergeSort} on primitives. A network is not stable and does not adapt to presorted input,
+ * and it makes more comparisons than a binary Insertion sort, so small ranges of objects, where
+ * comparisons are calls to a comparator, are still sorted by Insertion sort.
+ *
+ * Average case = O(1) Worst case = O(1) Best case = O(1), for inputs of at most 16 elements
+ *
+ * Reference: The Art of Computer Programming, Volume 3, section 5.3.4 by Donald Knuth, Sorting
+ * Networks: to the End and Back Again by Codish, Cruz-Filipe, Ehlers, Müller and Schneider-Kamp
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class SortingNetwork {
+
+    /**
+     * Largest number of elements that can be sorted with a network.
+     */
+    public static final int MAX_SIZE = 16;
+
+    /**
+     * Networks indexed by their number of inputs, each one a sequence of pairs of positions to be
+     * compared and exchanged, grouped in layers of comparators that touch distinct positions.
+     */
+    private static final byte[][] NETWORKS = {
+            {},
+            {},
+            {0, 1},
+            {0, 2, 0, 1, 1, 2},
+            {0, 2, 1, 3, 0, 1, 2, 3, 1, 2},
+            {0, 3, 1, 4, 0, 2, 1, 3, 0, 1, 2, 4, 1, 2, 3, 4, 2, 3},
+            {0, 5, 1, 3, 2, 4, 1, 2, 3, 4, 0, 3, 2, 5, 0, 1, 2, 3, 4, 5, 1, 2, 3, 4},
+            {0, 6, 2, 3, 4, 5, 0, 2, 1, 4, 3, 6, 0, 1, 2, 5, 3, 4, 1, 2, 4, 6, 2, 3, 4, 5, 1, 2, 3,
+                    4, 5, 6},
+            {0, 2, 1, 3, 4, 6, 5, 7, 0, 4, 1, 5, 2, 6, 3, 7, 0, 1, 2, 3, 4, 5, 6, 7, 2, 4, 3, 5, 1,
+                    4, 3, 6, 1, 2, 3, 4, 5, 6},
+            {0, 3, 1, 7, 2, 5, 4, 8, 0, 7, 2, 4, 3, 8, 5, 6, 0, 2, 1, 3, 4, 5, 7, 8, 1, 4, 3, 6, 5,
+                    7, 0, 1, 2, 4, 3, 5, 6, 8, 2, 3, 4, 5, 6, 7, 1, 2, 3, 4, 5, 6},
+            {0, 8, 1, 9, 2, 7, 3, 5, 4, 6, 0, 2, 1, 4, 5, 8, 7, 9, 0, 3, 2, 4, 5, 7, 6, 9, 0, 1, 3,
+                    6, 8, 9, 1, 5, 2, 3, 4, 8, 6, 7, 1, 2, 3, 5, 4, 6, 7, 8, 2, 3, 4, 5, 6, 7, 3, 4,
+                    5, 6},
+            {0, 9, 1, 6, 2, 4, 3, 7, 5, 8, 0, 1, 3, 5, 4, 10, 6, 9, 7, 8, 1, 3, 2, 5, 4, 7, 8, 10,
+                    0, 4, 1, 2, 3, 7, 5, 9, 6, 8, 0, 1, 2, 6, 4, 5, 7, 8, 9, 10, 2, 4, 3, 6, 5, 7,
+                    8, 9, 1, 2, 3, 4, 5, 6, 7, 8, 2, 3, 4, 5, 6, 7},
+            {0, 8, 1, 7, 2, 6, 3, 11, 4, 10, 5, 9, 0, 1, 2, 5, 3, 4, 6, 9, 7, 8, 10, 11, 0, 2, 1, 6,
+                    5, 10, 9, 11, 0, 3, 1, 2, 4, 6, 5, 7, 8, 11, 9, 10, 1, 4, 3, 5, 6, 8, 7, 10, 1,
+                    3, 2, 5, 6, 9, 8, 10, 2, 3, 4, 5, 6, 7, 8, 9, 4, 6, 5, 7, 3, 4, 5, 6, 7, 8},
+            {0, 12, 1, 10, 2, 9, 3, 7, 5, 11, 6, 8, 1, 6, 2, 3, 4, 11, 7, 9, 8, 10, 0, 4, 1, 2, 3,
+                    6, 7, 8, 9, 10, 11, 12, 4, 6, 5, 9, 8, 11, 10, 12, 0, 5, 3, 8, 4, 7, 6, 11, 9,
+                    10, 0, 1, 2, 5, 6, 9, 7, 8, 10, 11, 1, 3, 2, 4, 5, 6, 9, 10, 1, 2, 3, 4, 5, 7,
+                    6, 8, 2, 3, 4, 5, 6, 7, 8, 9, 3, 4, 5, 6},
+            {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 0, 2, 1, 3, 4, 8, 5, 9, 10, 12, 11, 13,
+                    0, 4, 1, 2, 3, 7, 5, 8, 6, 10, 9, 13, 11, 12, 0, 6, 1, 5, 3, 9, 4, 10, 7, 13, 8,
+                    12, 2, 10, 3, 11, 4, 6, 7, 9, 1, 3, 2, 8, 5, 11, 6, 7, 10, 12, 1, 4, 2, 6, 3, 5,
+                    7, 11, 8, 10, 9, 12, 2, 4, 3, 6, 5, 8, 7, 10, 9, 11, 3, 4, 5, 6, 7, 8, 9, 10, 6,
+                    7},
+            {0, 13, 1, 12, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10, 0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14,
+                    11, 12, 0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13, 0, 2, 1, 3, 4, 10, 5, 11,
+                    6, 7, 8, 9, 12, 14, 1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14, 1, 4, 2, 6,
+                    5, 8, 7, 10, 9, 13, 11, 14, 2, 4, 3, 6, 9, 12, 11, 13, 3, 5, 6, 8, 7, 9, 10, 12,
+                    3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 6, 7, 8, 9},
+            {0, 13, 1, 12, 2, 15, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10, 0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8,
+                    14, 10, 15, 11, 12, 0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13, 14, 15, 0, 2,
+                    1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14, 13, 15, 1, 2, 3, 12, 4, 6, 5, 7, 8, 10,
+                    9, 11, 13, 14, 1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14, 2, 4, 3, 6, 9, 12, 11,
+                    13, 3, 5, 6, 8, 7, 9, 10, 12, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 6, 7, 8, 9},
+    };
+
+    /**
+     * Sorts an array of at most {@link #MAX_SIZE} objects that implement Comparable using a
+     * sorting network.
+     *
+     * @param unsorted the array to be sorted.
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} elements.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of objects according to the
+     * order induced by a comparator using a sorting network. Elements outside of the range are left
+     * untouched.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to} or if the range has more than
+     *                                        {@link #MAX_SIZE} elements.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+        checkSize(to - from);
+        networkSort(from, to, comparator, unsorted);
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of objects using a sorting
+     * network. The range is not checked.
+     *
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array to be sorted.
+     */
+    static <T> void networkSort(int from, int to, Comparator<? super T> comparator, T[] array) {
+        byte[] network = NETWORKS[to - from];
+        for (int i = 0; i < network.length; i += 2) {
+            int index1 = from + network[i];
+            int index2 = from + network[i + 1];
+            T element1 = array[index1];
+            T element2 = array[index2];
+            if (comparator.compare(element1, element2) > 0) {
+                array[index1] = element2;
+                array[index2] = element1;
+            }
+        }
+    }
+
+    /**
+     * Sorts an array of ints of at most {@link #MAX_SIZE} elements using a sorting network.
+     *
+     * @param unsorted the array to be sorted.
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} elements.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of ints using a sorting
+     * network. Elements outside of the range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to} or if the range has more than
+     *                                        {@link #MAX_SIZE} elements.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(int[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        checkSize(to - from);
+        networkSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of ints using a sorting
+     * network. The range is not checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void networkSort(int from, int to, int[] array) {
+        byte[] network = NETWORKS[to - from];
+        for (int i = 0; i < network.length; i += 2) {
+            int index1 = from + network[i];
+            int index2 = from + network[i + 1];
+            int value1 = array[index1];
+            int value2 = array[index2];
+            array[index1] = Math.min(value1, value2);
+            array[index2] = Math.max(value1, value2);
+        }
+    }
+
+    /**
+     * Sorts an array of longs of at most {@link #MAX_SIZE} elements using a sorting network.
+     *
+     * @param unsorted the array to be sorted.
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} elements.
+     */
+    public static void sort(long[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of longs using a sorting
+     * network. Elements outside of the range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to} or if the range has more than
+     *                                        {@link #MAX_SIZE} elements.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(long[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        checkSize(to - from);
+        networkSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of longs using a sorting
+     * network. The range is not checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void networkSort(int from, int to, long[] array) {
+        byte[] network = NETWORKS[to - from];
+        for (int i = 0; i < network.length; i += 2) {
+            int index1 = from + network[i];
+            int index2 = from + network[i + 1];
+            long value1 = array[index1];
+            long value2 = array[index2];
+            array[index1] = Math.min(value1, value2);
+            array[index2] = Math.max(value1, value2);
+        }
+    }
+
+    /**
+     * Sorts an array of doubles of at most {@link #MAX_SIZE} elements using a sorting network.
+     * Doubles are ordered as by {@link Double#compare(double, double)}: -0.0 comes before 0.0 and
+     * NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} elements.
+     */
+    public static void sort(double[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of doubles using a sorting
+     * network. Elements outside of the range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to} or if the range has more than
+     *                                        {@link #MAX_SIZE} elements.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(double[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        checkSize(to - from);
+        networkSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts a range of at most {@link #MAX_SIZE} elements of an array of doubles using a sorting
+     * network, or by Insertion sort if the range holds a NaN. The range is not checked.
+     *
+     * @param from  the index of the first value to be sorted, inclusive.
+     * @param to    the index of the last value to be sorted, exclusive.
+     * @param array the array to be sorted.
+     */
+    static void networkSort(int from, int to, double[] array) {
+        // Math.min and Math.max order -0.0 before 0.0 but let NaN win both ways
+        for (int i = from; i < to; i++) {
+            if (Double.isNaN(array[i])) {
+                InsertionSort.pairSort(from, to, array);
+                return;
+            }
+        }
+
+        byte[] network = NETWORKS[to - from];
+        for (int i = 0; i < network.length; i += 2) {
+            int index1 = from + network[i];
+            int index2 = from + network[i + 1];
+            double value1 = array[index1];
+            double value2 = array[index2];
+            array[index1] = Math.min(value1, value2);
+            array[index2] = Math.max(value1, value2);
+        }
+    }
+
+    /**
+     * Checks that a network exists for a range of this length.
+     */
+    private static void checkSize(int length) {
+        if (length > MAX_SIZE)
+            throw new IllegalArgumentException("No sorting network for " + length
+                    + " elements, at most " + MAX_SIZE + " are supported");
+    }
+}
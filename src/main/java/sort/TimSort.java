@@ -0,0 +1,609 @@
+package sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * TimSort is an adaptive, stable merge sort that was designed by Tim Peters in 2002 for the list
+ * sort of Python. Instead of splitting the array in halves it scans it from left to right for
+ * natural runs, maximal sequences that are already ascending or strictly descending (descending
+ * runs are reversed in place). Runs shorter than a minimum length are extended with a binary
+ * insertion sort, and the runs found so far are kept in a stack whose lengths are forced to shrink
+ * at least as fast as the Fibonacci numbers, which keeps the merges balanced. Merges use a
+ * temporary array no longer than the shorter of the two runs, and switch to galloping, an
+ * exponential search followed by a binary search, when one of the runs keeps winning, so that long
+ * stretches of elements are moved with a single copy.
+ * <p>
+ * An array made of a few long runs, such as a sorted array with a small amount of disorder, is
+ * therefore sorted with close to a linear number of comparisons and moves.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(n)
+ *
+ * Reference: listsort.txt by Tim Peters, from the source distribution of CPython
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class TimSort {
+
+    /**
+     * Arrays shorter than this are sorted with a single binary insertion sort. It is also the upper
+     * bound of the minimum run length.
+     */
+    static final int MIN_MERGE = 32;
+
+    /**
+     * Initial number of consecutive wins of the same run after which a merge starts galloping.
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * Capacity of the run stack. Because the run lengths grow at least as fast as the Fibonacci
+     * numbers and no run is shorter than {@code MIN_MERGE / 2}, any array fits in this many runs.
+     */
+    private static final int MAX_RUNS = 49;
+
+    /**
+     * Sorts an array of objects that implement Comparable by using the TimSort algorithm.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static <T extends Comparable<T>> void sort(T... unsorted) {
+        sort(unsorted, 0, unsorted.length, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts a range of an array of objects according to the order induced by a comparator using
+     * the TimSort algorithm. Elements outside of the range are left untouched. The sort is stable:
+     * equal elements keep their relative order.
+     *
+     * @param unsorted   the array to be sorted.
+     * @param from       the index of the first element to be sorted, inclusive.
+     * @param to         the index of the last element to be sorted, exclusive.
+     * @param comparator the comparator that determines the order of the elements.
+     * @throws IllegalArgumentException       if {@code from > to}, or if the comparator is found
+     *                                        to violate its contract.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static <T> void sort(T[] unsorted, int from, int to, Comparator<? super T> comparator) {
+        Ranges.check(unsorted.length, from, to);
+
+        int length = to - from;
+        if (length < 2)
+            return;
+
+        Comparator<? super T> counting = SortStats.counting(comparator);
+        if (length < MIN_MERGE) {
+            int run = countRun(from, to, counting, unsorted);
+            InsertionSort.binarySort(from, to, from + run, counting, unsorted);
+            return;
+        }
+
+        Merger<T> merger = new Merger<>(unsorted, length, counting);
+        int minRun = minRunLength(length);
+        int index = from;
+        do {
+            int run = countRun(index, to, counting, unsorted);
+            if (run < minRun) {
+                int forced = Math.min(minRun, to - index);
+                InsertionSort.binarySort(index, index + forced, index + run, counting,
+                        unsorted);
+                run = forced;
+            }
+
+            merger.push(index, run);
+            merger.collapse();
+            index += run;
+        } while (index < to);
+
+        merger.forceCollapse();
+    }
+
+    /**
+     * Returns the minimum length of a run for an array of the given length. Runs shorter than this
+     * are extended with a binary insertion sort. The result is chosen so that the number of runs is
+     * a power of two, or a little less than one, which keeps the final merges balanced.
+     *
+     * @param length the number of elements to be sorted, at least {@code MIN_MERGE}.
+     */
+    static int minRunLength(int length) {
+        int remainder = 0;
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+        return length + remainder;
+    }
+
+    /**
+     * Returns the length of the run that starts at {@code from}. A descending run is reversed, so
+     * the run is ascending on return. Only strictly descending runs are reversed, which keeps the
+     * sort stable.
+     *
+     * @param from       the index of the first element of the run.
+     * @param to         the index past the last element that may belong to the run.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array that contains the run.
+     */
+    static <T> int countRun(int from, int to, Comparator<? super T> comparator, T[] array) {
+        int end = from + 1;
+        if (end == to)
+            return 1;
+
+        if (comparator.compare(array[end++], array[from]) < 0) {
+            while (end < to && comparator.compare(array[end], array[end - 1]) < 0)
+                end++;
+            reverse(from, end, array);
+        } else {
+            while (end < to && comparator.compare(array[end], array[end - 1]) >= 0)
+                end++;
+        }
+        return end - from;
+    }
+
+    /**
+     * Returns the position at which a key would be inserted into a sorted range, before any element
+     * equal to it. The search starts at {@code hint} and probes at exponentially growing distances
+     * before falling back to a binary search, so it is fast when the position is close to the hint.
+     *
+     * @param key        the key whose position is searched.
+     * @param base       the index of the first element of the range.
+     * @param length     the length of the range, greater than zero.
+     * @param hint       the offset in the range where the search starts.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array that contains the range.
+     * @return the offset {@code k} in the range such that the elements before it are smaller than
+     * the key and the elements from it on are not.
+     */
+    static <T> int gallopLeft(T key, int base, int length, int hint,
+                              Comparator<? super T> comparator, T[] array) {
+        int lastOffset = 0;
+        int offset = 1;
+        int at = base + hint;
+        if (comparator.compare(key, array[at]) > 0) {
+            // Gallops right until array[at + lastOffset] < key <= array[at + offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, array[at + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0)
+                    offset = maxOffset;
+            }
+            if (offset > maxOffset)
+                offset = maxOffset;
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            // Gallops left until array[at - offset] < key <= array[at - lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, array[at - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0)
+                    offset = maxOffset;
+            }
+            if (offset > maxOffset)
+                offset = maxOffset;
+            int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        }
+
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) > 0)
+                lastOffset = mid + 1;
+            else
+                offset = mid;
+        }
+        return offset;
+    }
+
+    /**
+     * Returns the position at which a key would be inserted into a sorted range, after any element
+     * equal to it. The search works as in {@link #gallopLeft}.
+     *
+     * @param key        the key whose position is searched.
+     * @param base       the index of the first element of the range.
+     * @param length     the length of the range, greater than zero.
+     * @param hint       the offset in the range where the search starts.
+     * @param comparator the comparator that determines the order of the elements.
+     * @param array      the array that contains the range.
+     * @return the offset {@code k} in the range such that the elements before it are not greater
+     * than the key and the elements from it on are.
+     */
+    static <T> int gallopRight(T key, int base, int length, int hint,
+                               Comparator<? super T> comparator, T[] array) {
+        int lastOffset = 0;
+        int offset = 1;
+        int at = base + hint;
+        if (comparator.compare(key, array[at]) < 0) {
+            // Gallops left until array[at - offset] <= key < array[at - lastOffset]
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, array[at - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0)
+                    offset = maxOffset;
+            }
+            if (offset > maxOffset)
+                offset = maxOffset;
+            int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        } else {
+            // Gallops right until array[at + lastOffset] <= key < array[at + offset]
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, array[at + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0)
+                    offset = maxOffset;
+            }
+            if (offset > maxOffset)
+                offset = maxOffset;
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) < 0)
+                offset = mid;
+            else
+                lastOffset = mid + 1;
+        }
+        return offset;
+    }
+
+    /**
+     * Reverses a range of an array.
+     *
+     * @param from  the index of the first element of the range, inclusive.
+     * @param to    the index of the last element of the range, exclusive.
+     * @param array the array that contains the range.
+     */
+    private static <T> void reverse(int from, int to, T[] array) {
+        for (int i = from, j = to - 1; i < j; i++, j--)
+            swap(i, j, array);
+    }
+
+    /**
+     * Swaps two elements in an array.
+     *
+     * @param index1 the index of the first element.
+     * @param index2 the index of the second element.
+     * @param array  the array.
+     */
+    private static <T> void swap(int index1, int index2, T[] array) {
+        if (SortStats.ENABLED)
+            SortStats.swap();
+        T temp = array[index1];
+        array[index1] = array[index2];
+        array[index2] = temp;
+    }
+
+    /**
+     * The state of a single sort: the stack of pending runs, the temporary array used by the
+     * merges and the current galloping threshold.
+     */
+    private static final class Merger<T> {
+
+        private final T[] array;
+
+        private final Comparator<? super T> comparator;
+
+        /**
+         * The temporary array is never longer than half of the sorted range, since only the shorter
+         * of two runs is ever copied.
+         */
+        private final int maxBuffer;
+
+        private T[] buffer;
+
+        private int minGallop = MIN_GALLOP;
+
+        private final int[] runBase = new int[MAX_RUNS];
+
+        private final int[] runLength = new int[MAX_RUNS];
+
+        private int runs;
+
+        Merger(T[] array, int length, Comparator<? super T> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+            this.maxBuffer = length >>> 1;
+            this.buffer = Arrays.copyOf(array, Math.min(256, maxBuffer));
+            if (SortStats.ENABLED)
+                SortStats.allocate((long) buffer.length * SortStats.REFERENCE_BYTES);
+        }
+
+        /**
+         * Pushes a run onto the stack.
+         */
+        void push(int base, int length) {
+            runBase[runs] = base;
+            runLength[runs] = length;
+            runs++;
+        }
+
+        /**
+         * Merges runs at the top of the stack until, for every three consecutive runs A, B and C,
+         * A is longer than B + C and B is longer than C. The invariant is checked on the top four
+         * runs, not only the top three, as a merge may break it further down the stack.
+         */
+        void collapse() {
+            while (runs > 1) {
+                int n = runs - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n - 1] + runLength[n]) {
+                    if (runLength[n - 1] < runLength[n + 1])
+                        n--;
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all the runs on the stack until only one is left.
+         */
+        void forceCollapse() {
+            while (runs > 1) {
+                int n = runs - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1])
+                    n--;
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at positions {@code i} and {@code i + 1} of the stack. Elements of the
+         * first run that are not greater than the first element of the second run, and elements of
+         * the second run that are not smaller than the last element of the first run, are already
+         * in place and are left out of the merge.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == runs - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            runs--;
+
+            int skipped = gallopRight(array[base2], base1, length1, 0, comparator, array);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0)
+                return;
+
+            length2 = gallopLeft(array[base1 + length1 - 1], base2, length2, length2 - 1,
+                    comparator, array);
+            if (length2 == 0)
+                return;
+
+            if (length1 <= length2)
+                mergeLow(base1, length1, base2, length2);
+            else
+                mergeHigh(base1, length1, base2, length2);
+        }
+
+        /**
+         * Merges two adjacent runs from left to right, copying the first, shorter run to the
+         * temporary array. The first element of the second run must be smaller than the first
+         * element of the first run, and the last element of the first run must be greater than
+         * every element of the second run.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            T[] a = array;
+            T[] temp = buffer(length1);
+            System.arraycopy(a, base1, temp, 0, length1);
+
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+
+            a[dest++] = a[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(temp, cursor1, a, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = temp[cursor1];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                // Moves one element at a time until one of the runs starts winning consistently
+                do {
+                    if (comparator.compare(a[cursor2], temp[cursor1]) < 0) {
+                        a[dest++] = a[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0)
+                            break outer;
+                    } else {
+                        a[dest++] = temp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1)
+                            break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                // Gallops while the runs keep yielding long stretches of elements
+                do {
+                    count1 = gallopRight(a[cursor2], cursor1, length1, 0, comparator, temp);
+                    if (count1 != 0) {
+                        System.arraycopy(temp, cursor1, a, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1)
+                            break outer;
+                    }
+                    a[dest++] = a[cursor2++];
+                    if (--length2 == 0)
+                        break outer;
+
+                    count2 = gallopLeft(temp[cursor1], cursor2, length2, 0, comparator, a);
+                    if (count2 != 0) {
+                        System.arraycopy(a, cursor2, a, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0)
+                            break outer;
+                    }
+                    a[dest++] = temp[cursor1++];
+                    if (--length1 == 1)
+                        break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+                if (minGallop < 0)
+                    minGallop = 0;
+                minGallop += 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = temp[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("The comparator violates its general contract");
+            } else {
+                System.arraycopy(temp, cursor1, a, dest, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from right to left, copying the second, shorter run to the
+         * temporary array. The preconditions are the same as those of {@link #mergeLow}.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            T[] a = array;
+            T[] temp = buffer(length2);
+            System.arraycopy(a, base2, temp, 0, length2);
+
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            a[dest--] = a[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(temp, 0, a, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = temp[cursor2];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                // Moves one element at a time until one of the runs starts winning consistently
+                do {
+                    if (comparator.compare(temp[cursor2], a[cursor1]) < 0) {
+                        a[dest--] = a[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0)
+                            break outer;
+                    } else {
+                        a[dest--] = temp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1)
+                            break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                // Gallops while the runs keep yielding long stretches of elements
+                do {
+                    count1 = gallopRight(temp[cursor2], base1, length1, length1 - 1, comparator, a);
+                    count1 = length1 - count1;
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                        if (length1 == 0)
+                            break outer;
+                    }
+                    a[dest--] = temp[cursor2--];
+                    if (--length2 == 1)
+                        break outer;
+
+                    count2 = gallopLeft(a[cursor1], 0, length2, length2 - 1, comparator, temp);
+                    count2 = length2 - count2;
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(temp, cursor2 + 1, a, dest + 1, count2);
+                        if (length2 <= 1)
+                            break outer;
+                    }
+                    a[dest--] = a[cursor1--];
+                    if (--length1 == 0)
+                        break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+                if (minGallop < 0)
+                    minGallop = 0;
+                minGallop += 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = temp[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("The comparator violates its general contract");
+            } else {
+                System.arraycopy(temp, 0, a, dest - (length2 - 1), length2);
+            }
+        }
+
+        /**
+         * Returns the temporary array, grown to hold at least {@code capacity} elements. It grows
+         * to the next power of two so that a sequence of merges reallocates it only a few times.
+         */
+        private T[] buffer(int capacity) {
+            if (buffer.length < capacity) {
+                int grown = Integer.highestOneBit(capacity) << 1;
+                if (grown <= 0 || grown > maxBuffer)
+                    grown = Math.max(capacity, maxBuffer);
+                buffer = Arrays.copyOf(buffer, grown);
+                if (SortStats.ENABLED)
+                    SortStats.allocate((long) grown * SortStats.REFERENCE_BYTES);
+            }
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package sort;
+
+/**
+ * Sorts ints and floats with a Quick sort that partitions and sorts small ranges in SIMD registers
+ * through the {@code jdk.incubator.vector} module, which is still incubating in Java 17 and must
+ * be added to the JVM with {@code --add-modules jdk.incubator.vector}. When the module is missing,
+ * or the hardware has no 256-bit vectors (AVX2 on x86), the sort falls back to the scalar
+ * {@link QuickSort}, so the results are the same either way. Unlike the scalar sort, it does not
+ * adapt to presorted input: a sorted array takes about as long as a random one.
+ * <p>
+ * Floats are sorted as ints: NaNs are first moved to the end, and every other float is mapped to
+ * an int whose order is that of {@link Float#compare(float, float)}, by flipping all but the sign
+ * bit of the negative ones. The mapping is undone after the sort, so the sort of floats uses an
+ * auxiliary array of ints as long as the range.
+ *
+ * Average case = O(nlogn) Worst case = O(nlogn) Best case = O(nlogn)
+ *
+ * Reference: A Novel Hybrid Quicksort Algorithm Vectorized using AVX-512 on Intel Skylake by
+ * Bramas, JEP 338: Vector API (Incubator)
+ *
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+public class VectorizedSort {
+
+    /**
+     * Whether the vector kernel is used. The class of the kernel is only loaded when the module is
+     * present.
+     */
+    private static final boolean VECTORIZED = ModuleLayer.boot()
+            .findModule("jdk.incubator.vector").isPresent() && IntVectorSort.supported();
+
+    /**
+     * Returns whether the sorts run in vector registers, rather than on the scalar fallback.
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Sorts an array of ints.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(int[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of ints. Elements outside of the range are left untouched.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(int[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+        intSort(from, to, unsorted);
+    }
+
+    /**
+     * Sorts an array of floats. Floats are ordered as by {@link Float#compare(float, float)}: -0.0
+     * comes before 0.0 and NaN comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     */
+    public static void sort(float[] unsorted) {
+        sort(unsorted, 0, unsorted.length);
+    }
+
+    /**
+     * Sorts a range of an array of floats. Elements outside of the range are left untouched.
+     * Floats are ordered as by {@link Float#compare(float, float)}: -0.0 comes before 0.0 and NaN
+     * comes after positive infinity.
+     *
+     * @param unsorted the array to be sorted.
+     * @param from     the index of the first element to be sorted, inclusive.
+     * @param to       the index of the last element to be sorted, exclusive.
+     * @throws IllegalArgumentException       if {@code from > to}.
+     * @throws ArrayIndexOutOfBoundsException if {@code from < 0} or {@code to > unsorted.length}.
+     */
+    public static void sort(float[] unsorted, int from, int to) {
+        Ranges.check(unsorted.length, from, to);
+
+        // Moves the NaNs to the end, where they belong, keeping their bits
+        int end = to;
+        for (int i = from; i < end; ) {
+            float value = unsorted[i];
+            if (Float.isNaN(value)) {
+                unsorted[i] = unsorted[--end];
+                unsorted[end] = value;
+            } else {
+                i++;
+            }
+        }
+
+        int[] keys = new int[end - from];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = key(Float.floatToRawIntBits(unsorted[from + i]));
+        intSort(0, keys.length, keys);
+        for (int i = 0; i < keys.length; i++)
+            unsorted[from + i] = Float.intBitsToFloat(key(keys[i]));
+    }
+
+    /**
+     * Sorts a range of an array of ints with the vector kernel, or with the scalar Quick sort when
+     * the kernel cannot be used. The range is not checked.
+     */
+    private static void intSort(int from, int to, int[] array) {
+        if (VECTORIZED)
+            IntVectorSort.sort(from, to, array);
+        else
+            QuickSort.sort(array, from, to);
+    }
+
+    /**
+     * Maps the bits of a float that is not NaN to an int that orders as the float does, and back:
+     * non-negative floats already do, and negative ones order backwards, so all their bits but
+     * the sign are flipped.
+     */
+    static int key(int bits) {
+        return bits ^ (bits >> 31 & Integer.MAX_VALUE);
+    }
+}
@@ -2,6 +2,8 @@ package search;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -38,4 +40,40 @@ class BinarySearchTest {
         String[] list = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
         assertTrue(BinarySearch.search("Chad", list));
     }
+
+    // Test #5: Asserts the bound methods return the range of the copies of a key
+    @Test
+    void findsBoundsWithDuplicates() {
+        int[] list = {1, 1, 3, 3, 3, 10, 10};
+        assertEquals(2, BinarySearch.lowerBound(list, 3));
+        assertEquals(5, BinarySearch.upperBound(list, 3));
+    }
+
+    // Test #6: Asserts the bound methods return the insertion index of a missing key, including
+    // before the first and after the last element
+    @Test
+    void findsInsertionIndex() {
+        long[] list = {-5, 0, 5};
+        assertEquals(0, BinarySearch.lowerBound(list, -6));
+        assertEquals(2, BinarySearch.upperBound(list, 4));
+        assertEquals(3, BinarySearch.lowerBound(list, 6));
+        assertEquals(0, BinarySearch.lowerBound(new long[0], 6));
+    }
+
+    // Test #7: Asserts the bound methods order -0.0 before 0.0 and NaN last in an array of doubles
+    @Test
+    void findsBoundsOfDoubles() {
+        double[] list = {Double.NEGATIVE_INFINITY, -0.0, 0.0, 2.2, Double.NaN};
+        assertEquals(2, BinarySearch.lowerBound(list, 0.0));
+        assertEquals(2, BinarySearch.upperBound(list, -0.0));
+        assertEquals(4, BinarySearch.lowerBound(list, Double.NaN));
+    }
+
+    // Test #8: Asserts the bound methods search an array of objects ordered by a comparator
+    @Test
+    void findsBoundsWithComparator() {
+        String[] list = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+        assertEquals(2, BinarySearch.lowerBound(list, "Luis", Comparator.reverseOrder()));
+        assertEquals(4, BinarySearch.upperBound(list, "Luis", Comparator.reverseOrder()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class ExponentialSearchTest {
+
+    // Test #1: Asserts the search method returns the index of the target when it is in the list
+    @Test
+    void findsTarget() {
+        int[] list = {1, 2, 3, 4, 5};
+        assertEquals(4, ExponentialSearch.search(list, 5));
+    }
+
+    // Test #2: Asserts the search method returns the insertion index when the target is not in the
+    // list
+    @Test
+    void doesNotFindsTarget() {
+        int[] list = {1, 2, 3, 4, 5};
+        assertEquals(5, ExponentialSearch.search(list, 6));
+        assertEquals(0, ExponentialSearch.search(list, 0));
+        assertEquals(0, ExponentialSearch.search(new int[0], 0));
+    }
+
+    // Test #3: Asserts the search method returns the first copy when there are duplicates in the
+    // list
+    @Test
+    void findsTargetWithDuplicates() {
+        long[] list = {1, 1, 3, 3, 10, 10};
+        assertEquals(2, ExponentialSearch.search(list, 3));
+    }
+
+    // Test #4: Asserts the search method returns the same index as a binary search on a large
+    // array, for keys near the front and near the back
+    @Test
+    void agreesWithBinarySearch() {
+        double[] list = new Random(4).doubles(10_000).sorted().toArray();
+        for (int i = 0; i < list.length; i += 37) {
+            assertEquals(BinarySearch.lowerBound(list, list[i]),
+                    ExponentialSearch.search(list, list[i]));
+            assertEquals(i + 1, ExponentialSearch.search(list, Math.nextUp(list[i])));
+        }
+    }
+
+    // Test #5: Asserts the search method searches an array of objects ordered by a comparator
+    @Test
+    void findsTargetWithStrings() {
+        String[] list = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        assertEquals(1, ExponentialSearch.search(list, "Luis", Comparator.naturalOrder()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class InterpolationSearchTest {
+
+    // Test #1: Asserts the search method returns the index of the target when it is in the list
+    @Test
+    void findsTarget() {
+        int[] list = new Random(1).ints(1_000, 0, 1_000_000).sorted().distinct().toArray();
+        for (int i = 0; i < list.length; i++)
+            assertEquals(i, InterpolationSearch.search(list, list[i]));
+    }
+
+    // Test #2: Asserts the search method returns the insertion index when the target is not in the
+    // list
+    @Test
+    void doesNotFindsTarget() {
+        long[] list = new long[100];
+        for (int i = 0; i < list.length; i++)
+            list[i] = 2L * i;
+        assertEquals(25, InterpolationSearch.search(list, 49));
+        assertEquals(0, InterpolationSearch.search(list, Long.MIN_VALUE));
+        assertEquals(100, InterpolationSearch.search(list, Long.MAX_VALUE));
+    }
+
+    // Test #3: Asserts the search method returns the first copy when there are duplicates in the
+    // list
+    @Test
+    void findsTargetWithDuplicates() {
+        int[] list = new int[64];
+        for (int i = 0; i < list.length; i++)
+            list[i] = i / 8;
+        assertEquals(24, InterpolationSearch.search(list, 3));
+    }
+
+    // Test #4: Asserts the search method finds keys in a heavily skewed array
+    @Test
+    void findsTargetInSkewedList() {
+        long[] list = new long[1_000];
+        for (int i = 0; i < list.length; i++)
+            list[i] = i < 999 ? i : Long.MAX_VALUE;
+        for (int i = 0; i < list.length; i++)
+            assertEquals(i, InterpolationSearch.search(list, list[i]));
+    }
+
+    // Test #5: Asserts the search method orders -0.0 before 0.0 and NaN last in an array of
+    // doubles
+    @Test
+    void findsTargetWithDoubles() {
+        double[] list = new double[40];
+        for (int i = 0; i < list.length; i++)
+            list[i] = i - 20;
+        list[0] = Double.NEGATIVE_INFINITY;
+        list[20] = -0.0;
+        list[21] = 0.0;
+        list[39] = Double.NaN;
+        assertEquals(21, InterpolationSearch.search(list, 0.0));
+        assertEquals(20, InterpolationSearch.search(list, -0.0));
+        assertEquals(39, InterpolationSearch.search(list, Double.NaN));
+    }
+}
\ No newline at end of file
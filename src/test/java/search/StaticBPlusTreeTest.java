@@ -0,0 +1,68 @@
+package search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class StaticBPlusTreeTest {
+
+    // Test #1: Asserts the lower bound is the index of the key when it is in the index
+    @Test
+    void findsKey() {
+        StaticBPlusTree tree = new StaticBPlusTree(new int[]{1, 2, 3, 4, 5});
+        assertEquals(4, tree.lowerBound(5));
+        assertTrue(tree.contains(5));
+    }
+
+    // Test #2: Asserts the lower bound is the insertion index when the key is not in the index
+    @Test
+    void doesNotFindKey() {
+        StaticBPlusTree tree = new StaticBPlusTree(new int[]{1, 3, 5});
+        assertEquals(1, tree.lowerBound(2));
+        assertEquals(3, tree.lowerBound(6));
+        assertEquals(0, tree.lowerBound(0));
+        assertFalse(tree.contains(2));
+        assertEquals(0, new StaticBPlusTree(new int[0]).lowerBound(0));
+    }
+
+    // Test #3: Asserts the lower bound is the first copy of a key with duplicates that span
+    // several nodes, and that the extreme ints are not confused with the padding
+    @Test
+    void findsKeyWithDuplicates() {
+        int[] array = new int[100];
+        for (int i = 0; i < array.length; i++)
+            array[i] = i < 10 ? Integer.MIN_VALUE : i < 60 ? 7 : Integer.MAX_VALUE;
+        StaticBPlusTree tree = new StaticBPlusTree(array);
+        assertEquals(0, tree.lowerBound(Integer.MIN_VALUE));
+        assertEquals(10, tree.lowerBound(7));
+        assertEquals(60, tree.lowerBound(8));
+        assertEquals(60, tree.lowerBound(Integer.MAX_VALUE));
+        assertTrue(tree.contains(Integer.MAX_VALUE));
+    }
+
+    // Test #4: Asserts the lower bound agrees with a binary search on arrays of many lengths,
+    // including ones that fill several layers
+    @Test
+    void agreesWithBinarySearch() {
+        Random random = new Random(4);
+        for (int length : new int[]{15, 16, 17, 272, 273, 4913, 100_000}) {
+            int[] array = random.ints(length, -1000, 1000).sorted().toArray();
+            StaticBPlusTree tree = new StaticBPlusTree(array);
+            assertEquals(length, tree.size());
+            for (int key = -1001; key <= 1001; key++)
+                assertEquals(BinarySearch.lowerBound(array, key), tree.lowerBound(key));
+        }
+    }
+
+    // Test #5: Asserts building an index of an array that is not sorted throws an exception
+    @Test
+    void rejectsUnsortedArray() {
+        assertThrows(IllegalArgumentException.class, () -> new StaticBPlusTree(new int[]{2, 1}));
+    }
+}
\ No newline at end of file
@@ -2,6 +2,8 @@ package sort;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+
 /*
   @author Samuel Yanez <samuelyanez94@gmail.com>
  */
@@ -75,4 +77,60 @@ class BubbleSortTest {
 
         assertArrayEquals(expected, actual);
     }
+
+    // Test #7: Asserts the sort method sorts an array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] expected = {Integer.MIN_VALUE, -10, -5, 0, 3, 3, 7, Integer.MAX_VALUE};
+        int[] actual = {3, Integer.MAX_VALUE, 0, -5, 3, Integer.MIN_VALUE, -10, 7};
+
+        BubbleSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method sorts an array of primitive longs
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] expected = {Long.MIN_VALUE, -10L, 0L, 2L, 2L, 45L, Long.MAX_VALUE};
+        long[] actual = {45L, Long.MAX_VALUE, 2L, -10L, Long.MIN_VALUE, 2L, 0L};
+
+        BubbleSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #9: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.POSITIVE_INFINITY, Double.NaN};
+        double[] actual = {0.0, Double.NaN, 2.2, Double.POSITIVE_INFINITY, -0.0, -0.48, Double.NEGATIVE_INFINITY};
+
+        BubbleSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #10: Asserts the sort method only sorts the given range, in the order of the comparator
+    @Test
+    void sortsRangeWithComparator() {
+        String[] expected = {"Samuel", "Nicolas", "Luis", "Luis", "Chad", "Ana"};
+        String[] actual = {"Samuel", "Chad", "Luis", "Nicolas", "Luis", "Ana"};
+
+        BubbleSort.sort(actual, 1, 5, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #11: Asserts the sort method rejects a range outside of the array
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BubbleSort.sort(actual, 3, 2, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> BubbleSort.sort(actual, 0, 6, Comparator.naturalOrder()));
+    }
 }
\ No newline at end of file
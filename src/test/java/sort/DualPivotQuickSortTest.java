@@ -0,0 +1,100 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class DualPivotQuickSortTest {
+
+    // Test #1: Asserts the sort method sorts and array of integers
+    @Test
+    void sorts() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        DualPivotQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        Integer[] expected = {};
+        Integer[] actual = {};
+
+        DualPivotQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts and array of Strings
+    @Test
+    void sortsStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        String[] actual = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+
+        DualPivotQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the sort method sorts a large array with many duplicates
+    @Test
+    void sortsManyDuplicates() {
+        int[] actual = new Random(4).ints(100_000, 0, 5).toArray();
+        int[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        DualPivotQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #5: Asserts the sort method sorts a large already sorted array of primitive longs
+    @Test
+    void sortsSortedPrimitiveLongs() {
+        long[] actual = new long[100_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = i;
+        long[] expected = actual.clone();
+
+        DualPivotQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.NaN};
+        double[] actual = {0.0, Double.NaN, 2.2, -0.0, -0.48, Double.NEGATIVE_INFINITY};
+
+        DualPivotQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #7: Asserts the sort method only sorts the given range, in the order of the comparator
+    @Test
+    void sortsRangeWithComparator() {
+        Integer[] actual = new Integer[1_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = i % 37;
+        Integer[] expected = actual.clone();
+        Arrays.sort(expected, 100, 900, Comparator.reverseOrder());
+
+        DualPivotQuickSort.sort(actual, 100, 900, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+}
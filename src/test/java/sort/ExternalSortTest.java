@@ -0,0 +1,142 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class ExternalSortTest {
+
+    // Test #1: Asserts the sort method sorts a sequence that fits in memory
+    @Test
+    void sortsInMemory() throws IOException {
+        List<String> actual = new ArrayList<>();
+
+        ExternalSort.sort(List.of("Samuel", "Nicolas", "Luis", "Luis", "Chad").iterator(),
+                actual::add, Comparator.naturalOrder(), ExternalSort.STRINGS, 1 << 20);
+
+        assertEquals(List.of("Chad", "Luis", "Luis", "Nicolas", "Samuel"), actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the sequence is empty
+    @Test
+    void sortsEmptySequence() throws IOException {
+        List<Long> actual = new ArrayList<>();
+
+        ExternalSort.sort(new ArrayList<Long>().iterator(), actual::add, Comparator.naturalOrder(),
+                ExternalSort.LONGS, 1 << 20);
+
+        assertEquals(List.of(), actual);
+    }
+
+    // Test #3: Asserts the sort method sorts a sequence spilled to many runs, merged in several
+    // passes, and deletes its temporary files
+    @Test
+    void sortsThroughTemporaryFiles() throws IOException {
+        Random random = new Random(3);
+        Long[] values = new Long[20_000];
+        for (int i = 0; i < values.length; i++)
+            values[i] = random.nextLong();
+        Long[] expected = values.clone();
+        Arrays.sort(expected);
+        List<Long> actual = new ArrayList<>();
+        Path directory = Files.createTempDirectory("external-sort");
+
+        try {
+            ExternalSort.sort(Arrays.asList(values).iterator(), actual::add,
+                    Comparator.naturalOrder(), ExternalSort.LONGS, 4_096, directory);
+
+            assertArrayEquals(expected, actual.toArray(new Long[0]));
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(0, files.count());
+            }
+        } finally {
+            Files.delete(directory);
+        }
+    }
+
+    // Test #4: Asserts the sort method keeps equal records in their original order across runs
+    @Test
+    void sortsStably() throws IOException {
+        ExternalSort.Serializer<int[]> pairs = new ExternalSort.Serializer<>() {
+            @Override
+            public int size(int[] record) {
+                return 2 * Integer.BYTES;
+            }
+
+            @Override
+            public void write(int[] record, ByteBuffer buffer) {
+                buffer.putInt(record[0]).putInt(record[1]);
+            }
+
+            @Override
+            public int[] read(ByteBuffer buffer) {
+                return new int[]{buffer.getInt(), buffer.getInt()};
+            }
+        };
+        Random random = new Random(4);
+        List<int[]> records = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++)
+            records.add(new int[]{random.nextInt(10), i});
+        List<int[]> actual = new ArrayList<>();
+
+        ExternalSort.sort(records.iterator(), actual::add, Comparator.comparingInt(pair -> pair[0]),
+                pairs, 8_192);
+
+        assertEquals(records.size(), actual.size());
+        for (int i = 1; i < actual.size(); i++) {
+            int[] previous = actual.get(i - 1);
+            int[] current = actual.get(i);
+            assertTrue(previous[0] < current[0]
+                    || previous[0] == current[0] && previous[1] < current[1]);
+        }
+    }
+
+    // Test #5: Asserts the sort method sorts records longer than the buffers of the runs
+    @Test
+    void sortsLongRecords() throws IOException {
+        List<String> records = new ArrayList<>();
+        for (char c = 'z'; c >= 'a'; c--)
+            records.add(String.valueOf(c).repeat(3_000));
+        List<String> expected = new ArrayList<>(records);
+        expected.sort(Comparator.naturalOrder());
+        List<String> actual = new ArrayList<>();
+
+        ExternalSort.sort(records.iterator(), actual::add, Comparator.naturalOrder(),
+                ExternalSort.STRINGS, 10_000);
+
+        assertEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method rejects a memory budget that is not positive
+    @Test
+    void throwsExceptionWithInvalidBudget() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ExternalSort.sort(List.of(1L).iterator(), value -> {
+                }, Comparator.naturalOrder(), ExternalSort.LONGS, 0));
+    }
+
+    // Test #7: Asserts the number of runs merged at a time grows with the memory budget but stays
+    // below the limit of open files
+    @Test
+    void capsFanIn() {
+        assertEquals(2, ExternalSort.fanIn(1));
+        assertEquals(3, ExternalSort.fanIn(4_096));
+        assertEquals(ExternalSort.MAX_FAN_IN, ExternalSort.fanIn(1L << 30));
+        assertEquals(ExternalSort.MAX_FAN_IN, ExternalSort.fanIn(Long.MAX_VALUE));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class HeapSortTest {
+
+    // Test #1: Asserts the sort method sorts and array of integers
+    @Test
+    void sorts() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        HeapSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        Integer[] expected = {};
+        Integer[] actual = {};
+
+        HeapSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts and array of Strings
+    @Test
+    void sortsStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        String[] actual = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+
+        HeapSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the sort method sorts an array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] expected = {-7, -1, 0, 2, 2, 3, 9};
+        int[] actual = {3, 2, -1, 9, 0, -7, 2};
+
+        HeapSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #5: Asserts the sort method sorts an array of primitive longs
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] expected = {Long.MIN_VALUE, -1L, 0L, 5L, Long.MAX_VALUE};
+        long[] actual = {5L, Long.MAX_VALUE, -1L, Long.MIN_VALUE, 0L};
+
+        HeapSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 2.5, Double.NaN};
+        double[] actual = {Double.NaN, 0.0, 2.5, -0.0, Double.NEGATIVE_INFINITY, -1.5};
+
+        HeapSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #7: Asserts the sort method only sorts the given range, in the order of the comparator
+    @Test
+    void sortsRange() {
+        Integer[] expected = {9, 5, 4, 3, 2, 1, 0};
+        Integer[] actual = {9, 2, 3, 4, 1, 5, 0};
+
+        HeapSort.sort(actual, 1, 6, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method sorts large arrays of primitive ints with many duplicates
+    @Test
+    void sortsLargePrimitiveIntegers() {
+        Random random = new Random(8);
+        for (int length = 1_000; length <= 1_003; length++) {
+            int[] actual = new int[length];
+            for (int i = 0; i < length; i++)
+                actual[i] = random.nextInt(100);
+            int[] expected = actual.clone();
+            Arrays.sort(expected);
+
+            HeapSort.sort(actual);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    // Test #9: Asserts the sort method rejects a range outside of the array
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        int[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class, () -> HeapSort.sort(actual, 3, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> HeapSort.sort(actual, -1, 2));
+    }
+}
\ No newline at end of file
@@ -2,6 +2,10 @@ package sort;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /*
@@ -75,4 +79,106 @@ class InsertionSortTest {
 
         assertArrayEquals(expected, actual);
     }
+
+    // Test #7: Asserts the sort method sorts an array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] expected = {Integer.MIN_VALUE, -10, -5, 0, 3, 3, 7, Integer.MAX_VALUE};
+        int[] actual = {3, Integer.MAX_VALUE, 0, -5, 3, Integer.MIN_VALUE, -10, 7};
+
+        InsertionSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method sorts an array of primitive longs
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] expected = {Long.MIN_VALUE, -10L, 0L, 2L, 2L, 45L, Long.MAX_VALUE};
+        long[] actual = {45L, Long.MAX_VALUE, 2L, -10L, Long.MIN_VALUE, 2L, 0L};
+
+        InsertionSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #9: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.POSITIVE_INFINITY, Double.NaN};
+        double[] actual = {0.0, Double.NaN, 2.2, Double.POSITIVE_INFINITY, -0.0, -0.48, Double.NEGATIVE_INFINITY};
+
+        InsertionSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #10: Asserts the sort method only sorts the given range, in the order of the comparator
+    @Test
+    void sortsRangeWithComparator() {
+        String[] expected = {"Samuel", "Nicolas", "Luis", "Luis", "Chad", "Ana"};
+        String[] actual = {"Samuel", "Chad", "Luis", "Nicolas", "Luis", "Ana"};
+
+        InsertionSort.sort(actual, 1, 5, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #11: Asserts the sort method rejects a range outside of the array
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> InsertionSort.sort(actual, 3, 2, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> InsertionSort.sort(actual, 0, 6, Comparator.naturalOrder()));
+    }
+
+    // Test #12: Asserts the sort method keeps equal elements in their original order
+    @Test
+    void sortsStably() {
+        String[] expected = {"b", "d", "aa", "cc", "ee", "bbb", "ddd"};
+        String[] actual = {"aa", "bbb", "b", "cc", "ddd", "d", "ee"};
+
+        InsertionSort.sort(actual, 0, actual.length, Comparator.comparingInt(String::length));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #13: Asserts the sort method sorts ranges of primitive ints of odd and even lengths
+    @Test
+    void sortsPrimitiveIntegersInPairs() {
+        Random random = new Random(13);
+        for (int length = 0; length < 40; length++) {
+            int[] actual = new int[length + 2];
+            for (int i = 0; i < actual.length; i++)
+                actual[i] = random.nextInt(10) - 5;
+            int[] expected = actual.clone();
+            Arrays.sort(expected, 1, length + 1);
+
+            InsertionSort.sort(actual, 1, length + 1);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    // Test #14: Asserts the sort method makes a single comparison per element on sorted objects
+    @Test
+    void sortsSortedObjectsInLinearTime() {
+        Integer[] actual = new Integer[1_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = i / 3;
+        Integer[] expected = actual.clone();
+        int[] comparisons = new int[1];
+
+        InsertionSort.sort(actual, 0, actual.length, (a, b) -> {
+            comparisons[0]++;
+            return a.compareTo(b);
+        });
+
+        assertArrayEquals(expected, actual);
+        assertEquals(actual.length - 1, comparisons[0]);
+    }
 }
\ No newline at end of file
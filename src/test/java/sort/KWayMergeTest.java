@@ -0,0 +1,136 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class KWayMergeTest {
+
+    // Test #1: Asserts the merge method merges sorted arrays of integers
+    @Test
+    void merges() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Iterator<Integer> merged = KWayMerge.merge(Comparator.naturalOrder(),
+                new Integer[]{2, 4}, new Integer[]{1, 3, 5});
+
+        assertArrayEquals(expected, toList(merged).toArray());
+    }
+
+    // Test #2: Asserts the merge method does not crash when there are no inputs or the inputs are
+    // empty
+    @Test
+    void mergesEmptyInputs() {
+        assertFalse(KWayMerge.merge(new int[0][]).hasNext());
+        assertFalse(KWayMerge.merge(new int[0], new int[0]).hasNext());
+        assertFalse(KWayMerge.<Integer>merge(List.of()).hasNext());
+    }
+
+    // Test #3: Asserts the merge method merges sorted iterators of Strings
+    @Test
+    void mergesStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        Iterator<String> merged = KWayMerge.merge(List.of(List.of("Luis", "Samuel").iterator(),
+                List.of("Chad", "Luis", "Nicolas").iterator()));
+
+        assertArrayEquals(expected, toList(merged).toArray());
+    }
+
+    // Test #4: Asserts the merge method merges many sorted arrays of primitive ints
+    @Test
+    void mergesManyPrimitiveIntegers() {
+        Random random = new Random(4);
+        int[][] arrays = new int[37][];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = random.ints(random.nextInt(200), -50, 50).toArray();
+            Arrays.sort(arrays[i]);
+        }
+        int[] expected = Arrays.stream(arrays).flatMapToInt(Arrays::stream).sorted().toArray();
+
+        PrimitiveIterator.OfInt merged = KWayMerge.merge(arrays);
+        int[] actual = new int[expected.length];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = merged.nextInt();
+
+        assertArrayEquals(expected, actual);
+        assertFalse(merged.hasNext());
+    }
+
+    // Test #5: Asserts the merge method takes equal elements from the earlier input first
+    @Test
+    void mergesStably() {
+        Comparator<int[]> byKey = Comparator.comparingInt(pair -> pair[0]);
+        List<Iterator<int[]>> inputs = new ArrayList<>();
+        for (int input = 0; input < 5; input++) {
+            int[][] pairs = new int[20][];
+            for (int i = 0; i < pairs.length; i++)
+                pairs[i] = new int[]{i / 4, input};
+            inputs.add(Arrays.asList(pairs).iterator());
+        }
+
+        int[] previous = {-1, 0};
+        for (Iterator<int[]> merged = KWayMerge.merge(inputs, byKey); merged.hasNext(); ) {
+            int[] pair = merged.next();
+            assertTrue(pair[0] > previous[0] || pair[0] == previous[0] && pair[1] >= previous[1]);
+            previous = pair;
+        }
+    }
+
+    // Test #6: Asserts the merge method yields elements on demand from unbounded inputs
+    @Test
+    void mergesLazily() {
+        Iterator<Integer> evens = Stream.iterate(0, i -> i + 2).iterator();
+        Iterator<Integer> odds = Stream.iterate(1, i -> i + 2).iterator();
+
+        Iterator<Integer> merged = KWayMerge.merge(List.of(evens, odds));
+
+        for (int i = 0; i < 1_000; i++)
+            assertEquals(i, merged.next());
+    }
+
+    // Test #7: Asserts the merge method orders -0.0 before 0.0 and NaN last in arrays of primitive
+    // doubles and merges longs
+    @Test
+    void mergesPrimitiveDoublesAndLongs() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.NaN};
+        PrimitiveIterator.OfDouble doubles = KWayMerge.merge(new double[]{-0.48, 0.0, Double.NaN},
+                new double[]{Double.NEGATIVE_INFINITY, -0.0, 2.2});
+        PrimitiveIterator.OfLong longs = KWayMerge.merge(new long[]{Long.MIN_VALUE, 3},
+                new long[]{-1, Long.MAX_VALUE});
+
+        for (double value : expected)
+            assertEquals(Double.doubleToLongBits(value),
+                    Double.doubleToLongBits(doubles.nextDouble()));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, -1, 3, Long.MAX_VALUE},
+                IntStream.range(0, 4).mapToLong(i -> longs.nextLong()).toArray());
+    }
+
+    // Test #8: Asserts the next method throws an exception once every input is exhausted
+    @Test
+    void throwsExceptionWhenExhausted() {
+        PrimitiveIterator.OfInt merged = KWayMerge.merge(new int[]{1}, new int[0]);
+
+        assertEquals(1, merged.nextInt());
+        assertThrows(NoSuchElementException.class, merged::nextInt);
+    }
+
+    private static <T> List<T> toList(Iterator<T> iterator) {
+        List<T> list = new ArrayList<>();
+        iterator.forEachRemaining(list::add);
+        return list;
+    }
+}
\ No newline at end of file
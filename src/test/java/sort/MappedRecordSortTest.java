@@ -0,0 +1,106 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class MappedRecordSortTest {
+
+    // Test #1: Asserts the sort method sorts records of a buffer by an unsigned key and moves the
+    // rest of each record with its key
+    @Test
+    void sortsBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(4 * 3);
+        buffer.put(new byte[]{'c', (byte) 0xF0, 1, 'a', 0x10, 2, 'b', (byte) 0x80, 3, 'd', 0, 4});
+        buffer.flip();
+
+        MappedRecordSort.sort(buffer, 3, 1, 1);
+
+        byte[] expected = {'d', 0, 4, 'a', 0x10, 2, 'b', (byte) 0x80, 3, 'c', (byte) 0xF0, 1};
+        assertArrayEquals(expected, buffer.array());
+    }
+
+    // Test #2: Asserts the sort method does not crash when the buffer is empty
+    @Test
+    void sortsEmptyBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(0);
+
+        MappedRecordSort.sort(buffer, 16, 0, 8);
+
+        assertEquals(0, buffer.remaining());
+    }
+
+    // Test #3: Asserts the sort method sorts a large buffer of 16 byte records by their first 8
+    // bytes, with many shared prefixes
+    @Test
+    void sortsLargeBuffer() {
+        Random random = new Random(3);
+        long[] keys = new long[20_000];
+        ByteBuffer buffer = ByteBuffer.allocateDirect(keys.length * 16);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(5_000);
+            buffer.putLong(keys[i]).putLong(keys[i] * 31);
+        }
+        buffer.flip();
+        Long[] expected = Arrays.stream(keys).boxed().toArray(Long[]::new);
+        Arrays.sort(expected, Long::compareUnsigned);
+
+        MappedRecordSort.sort(buffer, 16, 0, 8);
+
+        for (int i = 0; i < keys.length; i++) {
+            long key = expected[i];
+            assertEquals(key, buffer.getLong(16 * i));
+            assertEquals(key * 31, buffer.getLong(16 * i + 8));
+        }
+    }
+
+    // Test #4: Asserts the sort method sorts a file mapped in several segments
+    @Test
+    void sortsFile() throws IOException {
+        Random random = new Random(4);
+        int[] keys = new int[5_000];
+        ByteBuffer content = ByteBuffer.allocate(keys.length * 12);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+            content.putLong(i).putInt(keys[i]);
+        }
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        Path file = Files.createTempFile("records", ".bin");
+
+        try {
+            Files.write(file, content.array());
+
+            MappedRecordSort.sort(file, 12, 8, 4, 1_000);
+
+            ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(file));
+            for (int i = 0; i < keys.length; i++) {
+                long index = sorted.getLong(12 * i);
+                assertEquals(expected[i], sorted.getInt(12 * i + 8));
+                assertEquals(keys[(int) index], expected[i]);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    // Test #5: Asserts the sort method rejects a key outside of the record and a partial record
+    @Test
+    void throwsExceptionWithInvalidLayout() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedRecordSort.sort(ByteBuffer.allocate(16), 16, 12, 8));
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedRecordSort.sort(ByteBuffer.allocate(20), 16, 0, 8));
+    }
+}
\ No newline at end of file
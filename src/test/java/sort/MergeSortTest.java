@@ -2,6 +2,9 @@ package sort;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /*
@@ -75,4 +78,155 @@ class MergeSortTest {
 
         assertArrayEquals(expected, actual);
     }
+
+    // Test #7: Asserts the sort method sorts an array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] expected = {Integer.MIN_VALUE, -10, -5, 0, 3, 3, 7, Integer.MAX_VALUE};
+        int[] actual = {3, Integer.MAX_VALUE, 0, -5, 3, Integer.MIN_VALUE, -10, 7};
+
+        MergeSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method sorts an array of primitive longs
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] expected = {Long.MIN_VALUE, -10L, 0L, 2L, 2L, 45L, Long.MAX_VALUE};
+        long[] actual = {45L, Long.MAX_VALUE, 2L, -10L, Long.MIN_VALUE, 2L, 0L};
+
+        MergeSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #9: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.POSITIVE_INFINITY, Double.NaN};
+        double[] actual = {0.0, Double.NaN, 2.2, Double.POSITIVE_INFINITY, -0.0, -0.48, Double.NEGATIVE_INFINITY};
+
+        MergeSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #10: Asserts the sort method only sorts the given range, in the order of the comparator
+    @Test
+    void sortsRangeWithComparator() {
+        String[] expected = {"Samuel", "Nicolas", "Luis", "Luis", "Chad", "Ana"};
+        String[] actual = {"Samuel", "Chad", "Luis", "Nicolas", "Luis", "Ana"};
+
+        MergeSort.sort(actual, 1, 5, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #11: Asserts the sort method rejects a range outside of the array
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MergeSort.sort(actual, 3, 2, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> MergeSort.sort(actual, 0, 6, Comparator.naturalOrder()));
+    }
+
+    // Test #12: Asserts the sort method keeps the relative order of equal elements
+    @Test
+    void sortsStably() {
+        String[] expected = {"b", "d", "a", "c", "abc", "bcd"};
+        String[] actual = {"abc", "b", "bcd", "d", "a", "c"};
+
+        MergeSort.sort(actual, 0, actual.length, Comparator.comparingInt(String::length));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #13: Asserts the sort method sorts using a caller supplied buffer larger than the range
+    @Test
+    void sortsWithBuffer() {
+        Integer[] expected = {9, 1, 2, 3, 4, 5, 0};
+        Integer[] actual = {9, 2, 3, 4, 1, 5, 0};
+        Integer[] buffer = new Integer[10];
+
+        MergeSort.sort(actual, 1, 6, Comparator.naturalOrder(), buffer);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #14: Asserts the same buffer can be reused to sort several arrays of primitive ints
+    @Test
+    void sortsPrimitiveIntegersWithReusedBuffer() {
+        int[] buffer = new int[8];
+        int[] first = {5, 3, 8, 1, 1, 0, -4, 2};
+        int[] second = {7, 6, 5};
+
+        MergeSort.sort(first, buffer);
+        MergeSort.sort(second, buffer);
+
+        assertArrayEquals(new int[]{-4, 0, 1, 1, 2, 3, 5, 8}, first);
+        assertArrayEquals(new int[]{5, 6, 7}, second);
+    }
+
+    // Test #15: Asserts the sort method rejects a buffer shorter than the range being sorted
+    @Test
+    void throwsExceptionWithShortBuffer() {
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MergeSort.sort(actual, 0, 5, Comparator.naturalOrder(), new Integer[4]));
+    }
+
+    // Test #16: Asserts the argsort method returns the stable sorting permutation of objects and
+    // leaves the keys untouched
+    @Test
+    void argsortsStably() {
+        String[] keys = {"Samuel", "Luis", "Chad", "Luis", "Nicolas"};
+
+        int[] actual = MergeSort.argsort(keys, Comparator.naturalOrder());
+
+        assertArrayEquals(new int[]{2, 1, 3, 4, 0}, actual);
+        assertArrayEquals(new String[]{"Samuel", "Luis", "Chad", "Luis", "Nicolas"}, keys);
+    }
+
+    // Test #17: Asserts the coSort method sorts a large array of doubles and moves the companion
+    // columns with it
+    @Test
+    void coSortsPrimitiveDoubles() {
+        Random random = new Random(17);
+        double[] keys = new double[5_000];
+        long[] ids = new long[keys.length];
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(50) / 4.0;
+            ids[i] = i;
+            boxed[i] = i;
+        }
+        double[] original = keys.clone();
+
+        MergeSort.coSort(keys, new Object[]{ids, boxed});
+
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(original[(int) ids[i]], keys[i]);
+            assertEquals((int) ids[i], boxed[i]);
+            assertTrue(i == 0 || keys[i - 1] < keys[i]
+                    || keys[i - 1] == keys[i] && ids[i - 1] < ids[i]);
+        }
+    }
+
+    // Test #18: Asserts the coSort method moves a single column of objects with the keys
+    @Test
+    void coSortsSingleObjectColumn() {
+        String[] keys = {"c", "a", "b", "a"};
+        Integer[] ranks = {0, 1, 2, 3};
+
+        MergeSort.coSort(keys, Comparator.naturalOrder(), new Object[]{ranks});
+
+        assertArrayEquals(new String[]{"a", "a", "b", "c"}, keys);
+        assertArrayEquals(new Integer[]{1, 3, 2, 0}, ranks);
+    }
 }
\ No newline at end of file
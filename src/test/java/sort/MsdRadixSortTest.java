@@ -0,0 +1,87 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class MsdRadixSortTest {
+
+    // Test #1: Asserts the sort method sorts an array of longs, including negative ones
+    @Test
+    void sortsLongs() {
+        long[] expected = {Long.MIN_VALUE, -300L, -1L, 0L, 2L, 2L, 1L << 40, Long.MAX_VALUE};
+        long[] actual = {2L, 1L << 40, -1L, Long.MAX_VALUE, 0L, Long.MIN_VALUE, 2L, -300L};
+
+        MsdRadixSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        long[] actual = {};
+        byte[][] keys = {};
+
+        MsdRadixSort.sort(actual);
+        MsdRadixSort.sort(keys);
+
+        assertArrayEquals(new long[]{}, actual);
+        assertArrayEquals(new byte[][]{}, keys);
+    }
+
+    // Test #3: Asserts the sort method sorts a large array of longs split across many tasks
+    @Test
+    void sortsLargeArrayInParallel() {
+        long[] actual = new Random(3).longs(100_000).toArray();
+        long[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        MsdRadixSort.sort(actual, 64);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the sort method orders byte arrays of different lengths as unsigned bytes,
+    // with prefixes first
+    @Test
+    void sortsByteArrays() {
+        byte[][] expected = {{}, {1}, {1}, {1, 0}, {1, 2, 3}, {2}, {(byte) 0x80}, {(byte) 0xFF, 0}};
+        byte[][] actual = {{(byte) 0xFF, 0}, {1, 2, 3}, {1}, {}, {(byte) 0x80}, {1, 0}, {2}, {1}};
+
+        MsdRadixSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #5: Asserts the sort method sorts a large array of byte arrays that share long prefixes
+    @Test
+    void sortsByteArraysWithCommonPrefixes() {
+        Random random = new Random(5);
+        byte[][] actual = new byte[20_000][];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = new byte[20 + random.nextInt(4)];
+            Arrays.fill(actual[i], (byte) 'a');
+            actual[i][actual[i].length - 1] = (byte) random.nextInt(256);
+        }
+        byte[][] expected = actual.clone();
+        Arrays.sort(expected, Arrays::compareUnsigned);
+
+        MsdRadixSort.sort(actual, 100);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method rejects a threshold that is not positive
+    @Test
+    void throwsExceptionWithInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> MsdRadixSort.sort(new long[4], 0));
+    }
+}
@@ -0,0 +1,106 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class ParallelQuickSortTest {
+
+    // Test #1: Asserts the sort method sorts and array of integers
+    @Test
+    void sorts() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        ParallelQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        Integer[] expected = {};
+        Integer[] actual = {};
+
+        ParallelQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts and array of Strings
+    @Test
+    void sortsStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        String[] actual = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+
+        ParallelQuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the sort method sorts a large array split across many tasks
+    @Test
+    void sortsLargeArrayInParallel() {
+        Random random = new Random(4);
+        Integer[] actual = new Integer[10_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = random.nextInt(1_000);
+        Integer[] expected = actual.clone();
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        ParallelQuickSort.sort(actual, 0, actual.length, Comparator.reverseOrder(), 16);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #5: Asserts the sort method sorts a large array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] actual = new Random(5).ints(100_000).toArray();
+        int[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        ParallelQuickSort.sort(actual, 64);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method sorts a large array of primitive longs with duplicates
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] actual = new Random(6).longs(100_000, -3, 3).toArray();
+        long[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        ParallelQuickSort.sort(actual, 64);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #7: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.NaN};
+        double[] actual = {0.0, Double.NaN, 2.2, -0.0, -0.48, Double.NEGATIVE_INFINITY};
+
+        ParallelQuickSort.sort(actual, 1);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method rejects a threshold that is not positive
+    @Test
+    void throwsExceptionWithInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelQuickSort.sort(new int[4], 0));
+    }
+}
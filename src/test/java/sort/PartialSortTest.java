@@ -0,0 +1,112 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class PartialSortTest {
+
+    // Test #1: Asserts the select method returns the element of the given rank
+    @Test
+    void selects() {
+        Integer[] actual = {5, 1, 4, 2, 3};
+
+        assertEquals(3, PartialSort.select(actual, 2));
+        assertEquals(3, actual[2]);
+    }
+
+    // Test #2: Asserts the select method leaves no greater element before the selected one and no
+    // smaller element after it
+    @Test
+    void selectsInLargeArray() {
+        Random random = new Random(2);
+        int[] actual = new int[10_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = random.nextInt(1_000);
+        int[] sorted = actual.clone();
+        Arrays.sort(sorted);
+
+        int selected = PartialSort.select(actual, 7_500);
+
+        assertEquals(sorted[7_500], selected);
+        for (int i = 0; i < 7_500; i++)
+            assertTrue(actual[i] <= selected);
+        for (int i = 7_501; i < actual.length; i++)
+            assertTrue(actual[i] >= selected);
+    }
+
+    // Test #3: Asserts the select method only rearranges the given range
+    @Test
+    void selectsInRange() {
+        Integer[] expected = {9, 5, 4, 3, 0};
+        Integer[] actual = {9, 3, 5, 4, 0};
+
+        assertEquals(4, PartialSort.select(actual, 1, 4, 2, Comparator.reverseOrder()));
+        assertEquals(9, actual[0]);
+        assertEquals(0, actual[4]);
+        Arrays.sort(actual, 1, 4, Comparator.reverseOrder());
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the partial sort method sorts the smallest elements
+    @Test
+    void sortsPartially() {
+        long[] actual = {7, 3, 9, 1, 8, 2, 6};
+
+        PartialSort.partialSort(actual, 3);
+
+        assertArrayEquals(new long[]{1, 2, 3}, Arrays.copyOf(actual, 3));
+    }
+
+    // Test #5: Asserts the partial sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoublesPartially() {
+        double[] actual = {Double.NaN, 0.0, 2.5, -0.0, Double.NEGATIVE_INFINITY, -1.5};
+
+        PartialSort.partialSort(actual, actual.length);
+
+        assertArrayEquals(new double[]{Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 2.5, Double.NaN},
+                actual);
+    }
+
+    // Test #6: Asserts the top-k method returns the greatest elements from the greatest down
+    @Test
+    void selectsTopK() {
+        List<String> names = List.of("Samuel", "Nicolas", "Luis", "Chad", "Luis", "Zoe");
+
+        List<String> actual = PartialSort.topK(names.iterator(), 3, Comparator.naturalOrder());
+
+        assertEquals(List.of("Zoe", "Samuel", "Nicolas"), actual);
+    }
+
+    // Test #7: Asserts the top-k method returns every element when there are fewer than k
+    @Test
+    void selectsTopKOfShortSequence() {
+        List<Integer> numbers = List.of(2, 9, 4);
+
+        List<Integer> actual = PartialSort.topK(numbers.iterator(), 5, Comparator.naturalOrder());
+
+        assertEquals(List.of(9, 4, 2), actual);
+    }
+
+    // Test #8: Asserts the methods reject ranks and counts outside of the array
+    @Test
+    void throwsExceptionWithInvalidRank() {
+        int[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class, () -> PartialSort.select(actual, 5));
+        assertThrows(IllegalArgumentException.class, () -> PartialSort.partialSort(actual, 6));
+        assertThrows(IllegalArgumentException.class,
+                () -> PartialSort.topK(List.of(1).iterator(), -1, Comparator.naturalOrder()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class PermutationsTest {
+
+    // Test #1: Asserts the apply method gathers the elements of an array by a permutation
+    @Test
+    void applies() {
+        String[] array = {"Chad", "Luis", "Nicolas", "Samuel"};
+
+        Permutations.apply(new int[]{3, 0, 2, 1}, array);
+
+        assertArrayEquals(new String[]{"Samuel", "Chad", "Nicolas", "Luis"}, array);
+    }
+
+    // Test #2: Asserts the inverse of a permutation puts every element back in place
+    @Test
+    void invertsPermutation() {
+        int[] permutation = {3, 0, 2, 4, 1};
+        long[] array = {10, 11, 12, 13, 14};
+
+        Permutations.apply(permutation, array);
+        Permutations.apply(Permutations.inverse(permutation), array);
+
+        assertArrayEquals(new long[]{10, 11, 12, 13, 14}, array);
+    }
+
+    // Test #3: Asserts the identity permutation leaves an array untouched
+    @Test
+    void appliesIdentity() {
+        double[] array = {2.5, -1.0, 0.0};
+
+        Permutations.apply(Permutations.identity(3), array);
+
+        assertArrayEquals(new double[]{2.5, -1.0, 0.0}, array);
+    }
+
+    // Test #4: Asserts the apply method rejects an array and a permutation of different lengths
+    @Test
+    void throwsExceptionWithDifferentLengths() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Permutations.apply(new int[]{0, 1}, new int[3]));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,10 @@
 package sort;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
 import static org.junit.jupiter.api.Assertions.*;
 
 /*
@@ -74,4 +78,111 @@ class QuickSortTest {
 
         assertArrayEquals(expected, actual);
     }
+
+    // Test #7: Asserts the sort method sorts an array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] expected = {Integer.MIN_VALUE, -10, -5, 0, 3, 3, 7, Integer.MAX_VALUE};
+        int[] actual = {3, Integer.MAX_VALUE, 0, -5, 3, Integer.MIN_VALUE, -10, 7};
+
+        QuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method sorts an array of primitive longs
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] expected = {Long.MIN_VALUE, -10L, 0L, 2L, 2L, 45L, Long.MAX_VALUE};
+        long[] actual = {45L, Long.MAX_VALUE, 2L, -10L, Long.MIN_VALUE, 2L, 0L};
+
+        QuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #9: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.POSITIVE_INFINITY, Double.NaN};
+        double[] actual = {0.0, Double.NaN, 2.2, Double.POSITIVE_INFINITY, -0.0, -0.48, Double.NEGATIVE_INFINITY};
+
+        QuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #10: Asserts the sort method only sorts the given range, in the order of the comparator
+    @Test
+    void sortsRangeWithComparator() {
+        String[] expected = {"Samuel", "Nicolas", "Luis", "Luis", "Chad", "Ana"};
+        String[] actual = {"Samuel", "Chad", "Luis", "Nicolas", "Luis", "Ana"};
+
+        QuickSort.sort(actual, 1, 5, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #11: Asserts the sort method rejects a range outside of the array
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> QuickSort.sort(actual, 3, 2, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> QuickSort.sort(actual, 0, 6, Comparator.naturalOrder()));
+    }
+
+    // Test #12: Asserts the sort method sorts a large already sorted array without overflowing
+    // the stack
+    @Test
+    void sortsLargeSortedArray() {
+        Integer[] actual = new Integer[100_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = i;
+        Integer[] expected = actual.clone();
+
+        QuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #13: Asserts the sort method sorts a large array with very few distinct values
+    @Test
+    void sortsManyDuplicates() {
+        int[] actual = new Random(13).ints(100_000, 0, 3).toArray();
+        int[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        QuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #14: Asserts the sort method sorts an organ pipe shaped array of primitive longs
+    @Test
+    void sortsOrganPipe() {
+        long[] actual = new long[50_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = Math.min(i, actual.length - i);
+        long[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        QuickSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #15: Asserts the sort method only sorts the given range of an array of primitive ints
+    @Test
+    void sortsPrimitiveRange() {
+        int[] expected = {9, 1, 2, 3, 4, 5, 0};
+        int[] actual = {9, 5, 4, 3, 2, 1, 0};
+
+        QuickSort.sort(actual, 1, 6);
+
+        assertArrayEquals(expected, actual);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package sort;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /*
@@ -49,4 +53,134 @@ class RadixSortTest {
 
         assertArrayEquals(expected, actual);
     }
+
+    // Test #5: Asserts the sort method sorts an array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] expected = {0, 1, 2, 2, 15, 300, 70_000, Integer.MAX_VALUE};
+        int[] actual = {300, 2, Integer.MAX_VALUE, 0, 70_000, 15, 2, 1};
+
+        RadixSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method sorts an array of primitive longs
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] expected = {Long.MIN_VALUE, -10_000_000_000L, -1L, 0L, 7L, 7L, 99L, Long.MAX_VALUE};
+        long[] actual = {Long.MAX_VALUE, 99L, -1L, 7L, Long.MIN_VALUE, 0L, -10_000_000_000L, 7L};
+
+        RadixSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #7: Asserts the sort method sorts an array of negative primitive ints
+    @Test
+    void sortsNegativePrimitiveIntegers() {
+        int[] expected = {Integer.MIN_VALUE, -10, -5, 0, 3, 7, 45};
+        int[] actual = {45, 0, 3, -5, Integer.MIN_VALUE, -10, 7};
+
+        RadixSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method sorts a large array of primitive ints whose high bytes are
+    // all the same
+    @Test
+    void sortsPrimitiveIntegersWithConstantDigits() {
+        int[] actual = new Random(8).ints(10_000, 0, 1 << 12).toArray();
+        int[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #9: Asserts the sort method orders objects by an extracted key, keeping the relative
+    // order of objects with equal keys
+    @Test
+    void sortsObjectsByKey() {
+        String[] expected = {"b", "d", "a", "c", "abc", "bcd", "abcdefghij"};
+        String[] actual = {"abcdefghij", "abc", "b", "bcd", "d", "a", "c"};
+
+        RadixSort.sort(actual, String::length);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #10: Asserts the sort method orders objects by negative and positive long keys
+    @Test
+    void sortsObjectsByLongKey() {
+        Random random = new Random(10);
+        long[][] actual = new long[5_000][];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = new long[]{random.nextLong() >> random.nextInt(64), i};
+        long[][] expected = actual.clone();
+        Arrays.sort(expected, (a, b) -> Long.compare(a[0], b[0]));
+
+        RadixSort.sort(actual, pair -> pair[0]);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #11: Asserts the argsort method returns the stable sorting permutation of ints with
+    // negative keys and leaves the keys untouched
+    @Test
+    void argsortsPrimitiveIntegers() {
+        int[] keys = new Random(11).ints(5_000, -100, 100).toArray();
+        int[] copy = keys.clone();
+        Integer[] expected = new Integer[keys.length];
+        for (int i = 0; i < expected.length; i++)
+            expected[i] = i;
+        Arrays.sort(expected, (a, b) -> Integer.compare(keys[a], keys[b]));
+
+        int[] actual = RadixSort.argsort(keys);
+
+        assertArrayEquals(Arrays.stream(expected).mapToInt(i -> i).toArray(), actual);
+        assertArrayEquals(copy, keys);
+    }
+
+    // Test #12: Asserts the coSort method sorts long keys and moves the companion columns with
+    // them
+    @Test
+    void coSortsPrimitiveLongs() {
+        long[] keys = {30, -10, 20, -10};
+        int[] ids = {0, 1, 2, 3};
+        String[] names = {"Samuel", "Chad", "Luis", "Nicolas"};
+
+        RadixSort.coSort(keys, new Object[]{ids, names});
+
+        assertArrayEquals(new long[]{-10, -10, 20, 30}, keys);
+        assertArrayEquals(new int[]{1, 3, 2, 0}, ids);
+        assertArrayEquals(new String[]{"Chad", "Nicolas", "Luis", "Samuel"}, names);
+    }
+
+    // Test #13: Asserts the coSort method rejects a column shorter than the keys and leaves
+    // every array untouched
+    @Test
+    void throwsExceptionWithShortColumn() {
+        int[] keys = {3, 2, 1};
+        int[] ids = {0, 1, 2};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RadixSort.coSort(keys, new Object[]{ids, new double[2]}));
+        assertArrayEquals(new int[]{3, 2, 1}, keys);
+        assertArrayEquals(new int[]{0, 1, 2}, ids);
+    }
+
+    // Test #14: Asserts the coSort method moves a single column of objects with the keys
+    @Test
+    void coSortsSingleObjectColumn() {
+        int[] keys = {3, 1, 2};
+        String[] names = {"c", "a", "b"};
+
+        RadixSort.coSort(keys, new Object[]{names});
+
+        assertArrayEquals(new int[]{1, 2, 3}, keys);
+        assertArrayEquals(new String[]{"a", "b", "c"}, names);
+    }
 }
\ No newline at end of file
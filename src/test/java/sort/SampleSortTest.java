@@ -0,0 +1,135 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class SampleSortTest {
+
+    // Test #1: Asserts the sort method sorts and array of integers
+    @Test
+    void sorts() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        SampleSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        Integer[] expected = {};
+        Integer[] actual = {};
+
+        SampleSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts and array of Strings
+    @Test
+    void sortsStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        String[] actual = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+
+        SampleSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the sort method keeps equal elements of a large range in their original
+    // order and leaves the elements outside of the range untouched
+    @Test
+    void sortsLargeRangeStably() {
+        Random random = new Random(4);
+        int[][] actual = new int[10_000][];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = new int[]{random.nextInt(100), i};
+        int[][] expected = actual.clone();
+        Arrays.sort(expected, 10, 9_990, Comparator.comparingInt(pair -> pair[0]));
+
+        SampleSort.sort(actual, 10, 9_990, Comparator.comparingInt(pair -> pair[0]), 16);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #5: Asserts the sort method sorts a large array of primitive ints
+    @Test
+    void sortsPrimitiveIntegers() {
+        int[] actual = new Random(5).ints(100_000).toArray();
+        int[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        SampleSort.sort(actual, 64);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method sorts a large array of primitive longs with duplicates
+    @Test
+    void sortsPrimitiveLongs() {
+        long[] actual = new Random(6).longs(100_000, -3, 3).toArray();
+        long[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        SampleSort.sort(actual, 64);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #7: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -0.48, -0.0, 0.0, 2.2, Double.NaN};
+        double[] actual = {0.0, Double.NaN, 2.2, -0.0, -0.48, Double.NEGATIVE_INFINITY};
+
+        SampleSort.sort(actual, 1);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the partition method moves every value into the bucket delimited by its
+    // splitters
+    @Test
+    void partitionsIntoBuckets() {
+        int[] array = new Random(8).ints(50_000, 0, 1_000).toArray();
+        int[] splitters = SampleSort.splitters(array, 0, array.length, 8);
+
+        int[] bounds = SampleSort.partition(array, 0, array.length, splitters);
+
+        assertEquals(7, splitters.length);
+        assertEquals(9, bounds.length);
+        assertEquals(0, bounds[0]);
+        assertEquals(array.length, bounds[8]);
+        for (int bucket = 0; bucket < 8; bucket++) {
+            for (int i = bounds[bucket]; i < bounds[bucket + 1]; i++) {
+                assertTrue(bucket == 0 || array[i] > splitters[bucket - 1]);
+                assertTrue(bucket == 7 || array[i] <= splitters[bucket]);
+            }
+        }
+    }
+
+    // Test #9: Asserts the partition method rejects splitters that are not in ascending order
+    @Test
+    void throwsExceptionWithUnsortedSplitters() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SampleSort.partition(new long[4], 0, 4, new long[]{2, 1}));
+    }
+
+    // Test #10: Asserts the sort method rejects a threshold that is not positive
+    @Test
+    void throwsExceptionWithInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> SampleSort.sort(new int[4], 0));
+    }
+}
\ No newline at end of file
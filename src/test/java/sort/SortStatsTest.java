@@ -0,0 +1,185 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class SortStatsTest {
+
+    // Test #1: Asserts the measure method times the sort and counts the work of a Quick sort of
+    // objects when statistics are enabled
+    @Test
+    void measuresQuickSort() {
+        Integer[] actual = randomIntegers(1_000);
+
+        SortStats stats = SortStats.measure(() -> QuickSort.sort(actual));
+
+        assertTrue(stats.nanos() > 0);
+        if (SortStats.ENABLED) {
+            assertTrue(stats.comparisons() >= actual.length - 1);
+            assertTrue(stats.swaps() > 0);
+            assertTrue(stats.maxDepth() > 0);
+            assertEquals(0, stats.scratchBytes());
+        } else {
+            assertEquals(0, stats.comparisons() + stats.swaps() + stats.maxDepth());
+        }
+    }
+
+    // Test #2: Asserts the measure method counts the moves, the depth and the scratch memory of a
+    // Merge sort of primitive ints when statistics are enabled
+    @Test
+    void measuresMergeSort() {
+        int[] actual = new int[1_024];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = actual.length - i;
+
+        SortStats stats = SortStats.measure(() -> MergeSort.sort(actual));
+
+        if (SortStats.ENABLED) {
+            assertEquals(4L * actual.length, stats.scratchBytes());
+            assertEquals(7, stats.maxDepth());
+            assertTrue(stats.moves() > 0);
+            assertEquals(0, stats.comparisons());
+        } else {
+            assertEquals(0, stats.scratchBytes() + stats.moves() + stats.maxDepth());
+        }
+    }
+
+    // Test #3: Asserts nested measurements are kept apart and the sink receives the statistics
+    @Test
+    void measuresNestedSorts() {
+        Integer[] outer = randomIntegers(100);
+        Integer[] inner = randomIntegers(100);
+        List<SortStats> sink = new ArrayList<>();
+
+        SortStats stats = SortStats.measure(() -> {
+            SortStats.measure(() -> MergeSort.sort(inner, 0, inner.length,
+                    Comparator.naturalOrder()), sink::add);
+            MergeSort.sort(outer, 0, 50, Comparator.naturalOrder());
+        });
+
+        assertEquals(1, sink.size());
+        if (SortStats.ENABLED) {
+            assertEquals(100L * SortStats.REFERENCE_BYTES, sink.get(0).scratchBytes());
+            assertEquals(50L * SortStats.REFERENCE_BYTES, stats.scratchBytes());
+        }
+    }
+
+    // Test #4: Asserts the sink receives the statistics of a sort that fails
+    @Test
+    void measuresFailingSort() {
+        List<SortStats> sink = new ArrayList<>();
+
+        assertThrows(IllegalArgumentException.class, () -> SortStats.measure(
+                () -> QuickSort.sort(new int[4], 3, 2), sink::add));
+        assertEquals(1, sink.size());
+    }
+
+    // Test #5: Asserts the sorts of objects that report to the statistics count every call to
+    // their comparator exactly once
+    @Test
+    void countsComparisonsOfEverySort() {
+        List<Consumer<Comparator<Integer>>> sorts = new ArrayList<>();
+        Integer[] actual = randomIntegers(2_000);
+        sorts.add(comparator -> TimSort.sort(actual.clone(), 0, actual.length, comparator));
+        sorts.add(comparator -> HeapSort.sort(actual.clone(), 0, actual.length, comparator));
+        sorts.add(comparator -> DualPivotQuickSort.sort(actual.clone(), 0, actual.length,
+                comparator));
+        sorts.add(comparator -> PartialSort.select(actual.clone(), 0, actual.length, 1_000,
+                comparator));
+        sorts.add(comparator -> PartialSort.partialSort(actual.clone(), 100, comparator));
+
+        for (Consumer<Comparator<Integer>> sort : sorts) {
+            long[] calls = new long[1];
+            SortStats stats = SortStats.measure(() -> sort.accept((integer1, integer2) -> {
+                calls[0]++;
+                return integer1.compareTo(integer2);
+            }));
+
+            assertEquals(SortStats.ENABLED ? calls[0] : 0, stats.comparisons());
+        }
+    }
+
+    // Test #6: Asserts the measure method counts the moves and the scratch memory of a Radix sort
+    // of primitive ints when statistics are enabled
+    @Test
+    void measuresRadixSort() {
+        int[] actual = new int[1_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = (actual.length - i) << 8;
+
+        SortStats stats = SortStats.measure(() -> RadixSort.sort(actual));
+
+        if (SortStats.ENABLED) {
+            // Only the second and third digits differ between the keys
+            assertEquals(4L * actual.length, stats.scratchBytes());
+            assertEquals(2L * actual.length, stats.moves());
+        } else {
+            assertEquals(0, stats.scratchBytes() + stats.moves());
+        }
+    }
+
+    // Test #7: Asserts the sorts of Comparable objects that report to the statistics count every
+    // call to compareTo exactly once
+    @Test
+    void countsComparisonsOfNaturalOrderSorts() {
+        List<Consumer<Counted[]>> sorts = new ArrayList<>();
+        sorts.add(QuickSort::sort);
+        sorts.add(MergeSort::sort);
+        sorts.add(TimSort::sort);
+        sorts.add(HeapSort::sort);
+        sorts.add(DualPivotQuickSort::sort);
+
+        for (Consumer<Counted[]> sort : sorts) {
+            Counted[] actual = new Counted[2_000];
+            Integer[] integers = randomIntegers(actual.length);
+            long[] calls = new long[1];
+            for (int i = 0; i < actual.length; i++)
+                actual[i] = new Counted(integers[i], calls);
+
+            SortStats stats = SortStats.measure(() -> sort.accept(actual));
+
+            assertTrue(calls[0] > 0);
+            assertEquals(SortStats.ENABLED ? calls[0] : 0, stats.comparisons());
+        }
+    }
+
+    /**
+     * An integer that counts the calls to its compareTo method.
+     */
+    private static final class Counted implements Comparable<Counted> {
+
+        private final int value;
+
+        private final long[] calls;
+
+        Counted(int value, long[] calls) {
+            this.value = value;
+            this.calls = calls;
+        }
+
+        @Override
+        public int compareTo(Counted other) {
+            calls[0]++;
+            return Integer.compare(value, other.value);
+        }
+    }
+
+    private static Integer[] randomIntegers(int length) {
+        Random random = new Random(length);
+        Integer[] integers = new Integer[length];
+        for (int i = 0; i < length; i++)
+            integers[i] = random.nextInt();
+        return integers;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class SorterTest {
+
+    // Test #1: Asserts the sort method sorts and array of integers
+    @Test
+    void sorts() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        Sorter.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        Integer[] expected = {};
+        Integer[] actual = {};
+
+        Sorter.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts and array of Strings
+    @Test
+    void sortsStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        String[] actual = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+
+        Sorter.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the sort method sorts arrays of primitive ints of every size and order it
+    // tells apart
+    @Test
+    void sortsPrimitiveIntegers() {
+        Random random = new Random(4);
+        for (int length : new int[]{0, 1, 2, 47, 48, 1_023, 1_024, 5_000}) {
+            for (int order = 0; order < 4; order++) {
+                int[] actual = new int[length];
+                for (int i = 0; i < length; i++) {
+                    if (order == 0)
+                        actual[i] = random.nextInt();
+                    else if (order == 1)
+                        actual[i] = i;
+                    else if (order == 2)
+                        actual[i] = length - i;
+                    else
+                        actual[i] = random.nextInt(10) - 5;
+                }
+                int[] expected = actual.clone();
+                Arrays.sort(expected);
+
+                Sorter.sort(actual);
+
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    // Test #5: Asserts the sort method sorts arrays of primitive longs with every sort it picks
+    @Test
+    void sortsPrimitiveLongs() {
+        Random random = new Random(5);
+        for (int length : new int[]{0, 1, 47, 1_000, Sorter.LONG_RADIX_THRESHOLD,
+                Sorter.LONG_MSD_THRESHOLD}) {
+            long[] actual = random.longs(length).toArray();
+            long[] expected = actual.clone();
+            Arrays.sort(expected);
+
+            Sorter.sort(actual);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    // Test #6: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 2.5, Double.NaN};
+        double[] actual = {Double.NaN, 0.0, 2.5, -0.0, Double.NEGATIVE_INFINITY, -1.5};
+
+        Sorter.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #7: Asserts the sort method sorts large arrays of primitive doubles, including reversed
+    // ones with zeros of both signs
+    @Test
+    void sortsLargePrimitiveDoubles() {
+        Random random = new Random(7);
+        double[] actual = new double[2_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = random.nextInt(20) == 0 ? -0.0 : random.nextGaussian();
+        double[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        Sorter.sort(actual);
+        assertArrayEquals(expected, actual);
+
+        double[] reversedExpected = new double[60];
+        for (int i = 0; i < reversedExpected.length; i++)
+            reversedExpected[i] = i - 30;
+        reversedExpected[29] = -0.0;
+        double[] reversed = new double[60];
+        for (int i = 0; i < reversed.length; i++)
+            reversed[i] = reversedExpected[reversed.length - 1 - i];
+
+        Sorter.sort(reversed);
+
+        assertArrayEquals(reversedExpected, reversed);
+    }
+
+    // Test #8: Asserts the sort method keeps equal elements in their original order on random and
+    // on nearly sorted arrays
+    @Test
+    void keepsEqualElementsInOrder() {
+        Random random = new Random(8);
+        for (int length : new int[]{40, 3_000}) {
+            int[][] random1 = new int[length][];
+            int[][] nearly = new int[length][];
+            for (int i = 0; i < length; i++) {
+                random1[i] = new int[]{random.nextInt(10), i};
+                nearly[i] = new int[]{i / 7, i};
+            }
+            nearly[length / 2][0] = 0;
+
+            for (int[][] actual : new int[][][]{random1, nearly}) {
+                Sorter.sort(actual, Comparator.comparingInt((int[] pair) -> pair[0]));
+
+                for (int i = 1; i < length; i++) {
+                    assertTrue(actual[i - 1][0] <= actual[i][0]);
+                    if (actual[i - 1][0] == actual[i][0])
+                        assertTrue(actual[i - 1][1] < actual[i][1]);
+                }
+            }
+        }
+    }
+
+    // Test #9: Asserts the sort method only sorts the given range when stability is not required
+    @Test
+    void sortsRangeWithoutStability() {
+        Random random = new Random(9);
+        Integer[] actual = new Integer[1_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = random.nextInt(50);
+        Integer[] expected = actual.clone();
+        Arrays.sort(expected, 100, 900, Comparator.reverseOrder());
+
+        Sorter.sort(actual, 100, 900, Comparator.reverseOrder(), false);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #10: Asserts a sample tells mostly ordered arrays apart from random ones
+    @Test
+    void detectsPresortedArrays() {
+        Integer[] ascending = new Integer[1_000];
+        Integer[] descending = new Integer[1_000];
+        Integer[] shuffled = new Integer[1_000];
+        Random random = new Random(10);
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = i;
+            descending[i] = -i;
+            shuffled[i] = random.nextInt();
+        }
+        ascending[500] = -1;
+        Comparator<Integer> order = Comparator.naturalOrder();
+
+        assertTrue(Sorter.presorted(0, 1_000, order, ascending));
+        assertTrue(Sorter.presorted(0, 1_000, order, descending));
+        assertFalse(Sorter.presorted(0, 1_000, order, shuffled));
+    }
+
+    // Test #11: Asserts the sort method rejects a range outside of the array
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        Integer[] actual = {2, 3, 4, 1, 5};
+        Comparator<Integer> order = Comparator.naturalOrder();
+
+        assertThrows(IllegalArgumentException.class, () -> Sorter.sort(actual, 3, 2, order, true));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> Sorter.sort(actual, -1, 2, order, true));
+    }
+}
\ No newline at end of file
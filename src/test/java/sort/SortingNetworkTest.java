@@ -0,0 +1,121 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class SortingNetworkTest {
+
+    // Test #1: Asserts the sort method sorts and array of integers
+    @Test
+    void sorts() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        SortingNetwork.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        Integer[] expected = {};
+        Integer[] actual = {};
+
+        SortingNetwork.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts and array of Strings
+    @Test
+    void sortsStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        String[] actual = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+
+        SortingNetwork.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts every network sorts all of its inputs of zeros and ones, which by the 0-1
+    // principle means it sorts any input of its size
+    @Test
+    void sortsEveryInputOfZerosAndOnes() {
+        for (int length = 0; length <= SortingNetwork.MAX_SIZE; length++) {
+            for (int bits = 0; bits < 1 << length; bits++) {
+                int[] actual = new int[length];
+                for (int i = 0; i < length; i++)
+                    actual[i] = bits >>> i & 1;
+                int[] expected = actual.clone();
+                Arrays.sort(expected);
+
+                SortingNetwork.sort(actual);
+
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    // Test #5: Asserts the sort method sorts arrays of primitive longs of every supported size
+    @Test
+    void sortsPrimitiveLongs() {
+        Random random = new Random(5);
+        for (int length = 0; length <= SortingNetwork.MAX_SIZE; length++) {
+            long[] actual = random.longs(length).toArray();
+            long[] expected = actual.clone();
+            Arrays.sort(expected);
+
+            SortingNetwork.sort(actual);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    // Test #6: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive doubles
+    @Test
+    void sortsPrimitiveDoubles() {
+        double[] expected = {Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 2.5, Double.NaN};
+        double[] actual = {Double.NaN, 0.0, 2.5, -0.0, Double.NEGATIVE_INFINITY, -1.5};
+        double[] zeros = {0.0, -0.0, 0.0, -0.0, 0.0, -0.0, 0.0, -0.0};
+
+        SortingNetwork.sort(actual);
+        SortingNetwork.sort(zeros);
+
+        assertArrayEquals(expected, actual);
+        assertArrayEquals(new double[]{-0.0, -0.0, -0.0, -0.0, 0.0, 0.0, 0.0, 0.0}, zeros);
+    }
+
+    // Test #7: Asserts the sort method only sorts the given range, in the order of the comparator
+    @Test
+    void sortsRange() {
+        Integer[] expected = {9, 5, 4, 3, 2, 1, 0};
+        Integer[] actual = {9, 2, 3, 4, 1, 5, 0};
+
+        SortingNetwork.sort(actual, 1, 6, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method rejects ranges that are invalid or longer than the largest
+    // network
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        int[] actual = new int[SortingNetwork.MAX_SIZE + 1];
+
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.sort(actual));
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.sort(actual, 3, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> SortingNetwork.sort(actual, -1, 2));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class TimSortTest {
+
+    // Test #1: Asserts the sort method sorts and array of integers
+    @Test
+    void sorts() {
+        Integer[] expected = {1, 2, 3, 4, 5};
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        TimSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        Integer[] expected = {};
+        Integer[] actual = {};
+
+        TimSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts and array of Strings
+    @Test
+    void sortsStrings() {
+        String[] expected = {"Chad", "Luis", "Luis", "Nicolas", "Samuel"};
+        String[] actual = {"Samuel", "Nicolas", "Luis", "Luis", "Chad"};
+
+        TimSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #4: Asserts the sort method keeps equal elements in their original order
+    @Test
+    void sortsStably() {
+        String[] expected = {"b", "d", "aa", "cc", "ee", "bbb", "ddd"};
+        String[] actual = {"aa", "bbb", "b", "cc", "ddd", "d", "ee"};
+
+        TimSort.sort(actual, 0, actual.length, Comparator.comparingInt(String::length));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #5: Asserts the sort method only sorts the given range
+    @Test
+    void sortsRange() {
+        Integer[] expected = {9, 1, 2, 3, 4, 5, 0};
+        Integer[] actual = {9, 2, 3, 4, 1, 5, 0};
+
+        TimSort.sort(actual, 1, 6, Comparator.naturalOrder());
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method sorts a large array of ascending and descending runs
+    @Test
+    void sortsNaturalRuns() {
+        Random random = new Random(6);
+        Integer[] actual = new Integer[20_000];
+        for (int i = 0; i < actual.length; ) {
+            int run = Math.min(1 + random.nextInt(2_000), actual.length - i);
+            boolean descending = random.nextBoolean();
+            int start = random.nextInt(1_000);
+            for (int j = 0; j < run; j++)
+                actual[i + j] = descending ? start - j : start + j;
+            i += run;
+        }
+        Integer[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        TimSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #7: Asserts the sort method sorts a large sorted array with a few misplaced elements
+    @Test
+    void sortsNearlySortedArray() {
+        Random random = new Random(7);
+        Integer[] actual = new Integer[50_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = random.nextInt(100) == 0 ? random.nextInt(actual.length) : i;
+        Integer[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        TimSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method keeps a large array with many duplicates stable
+    @Test
+    void sortsLargeArrayStably() {
+        Random random = new Random(8);
+        int[][] actual = new int[30_000][];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = new int[]{random.nextInt(50), i};
+        int[][] expected = actual.clone();
+        Arrays.sort(expected, Comparator.comparingInt(pair -> pair[0]));
+
+        TimSort.sort(actual, 0, actual.length, Comparator.comparingInt(pair -> pair[0]));
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #9: Asserts the sort method throws an exception when the range is invalid
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        Integer[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class,
+                () -> TimSort.sort(actual, 3, 2, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> TimSort.sort(actual, 0, 6, Comparator.naturalOrder()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ @author Samuel Yanez <samuelyanez94@gmail.com>
+ */
+
+class VectorizedSortTest {
+
+    // Test #1: Asserts the sort method sorts an array of primitive ints
+    @Test
+    void sorts() {
+        int[] expected = {-7, -1, 0, 2, 2, 3, 9};
+        int[] actual = {3, 2, -1, 9, 0, -7, 2};
+
+        VectorizedSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #2: Asserts the sort method does not crash when the array is empty
+    @Test
+    void sortsEmptyArray() {
+        int[] expected = {};
+        int[] actual = {};
+
+        VectorizedSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #3: Asserts the sort method sorts arrays of every length around the vector sizes,
+    // including the extreme values
+    @Test
+    void sortsEveryLength() {
+        Random random = new Random(3);
+        for (int length = 0; length <= 100; length++) {
+            int[] actual = new int[length];
+            for (int i = 0; i < length; i++)
+                actual[i] = random.nextInt(4) == 0 ? Integer.MAX_VALUE : random.nextInt();
+            if (length > 0)
+                actual[random.nextInt(length)] = Integer.MIN_VALUE;
+            int[] expected = actual.clone();
+            Arrays.sort(expected);
+
+            VectorizedSort.sort(actual);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    // Test #4: Asserts the sort method sorts large arrays of primitive ints that are random,
+    // sorted, reversed or made of a few repeated values
+    @Test
+    void sortsLargePrimitiveIntegers() {
+        Random random = new Random(4);
+        for (int order = 0; order < 4; order++) {
+            int[] actual = new int[100_003];
+            for (int i = 0; i < actual.length; i++) {
+                if (order == 0)
+                    actual[i] = random.nextInt();
+                else if (order == 1)
+                    actual[i] = i;
+                else if (order == 2)
+                    actual[i] = -i;
+                else
+                    actual[i] = random.nextInt(3);
+            }
+            int[] expected = actual.clone();
+            Arrays.sort(expected);
+
+            VectorizedSort.sort(actual);
+
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    // Test #5: Asserts the sort method only sorts the given range
+    @Test
+    void sortsRange() {
+        Random random = new Random(5);
+        int[] actual = random.ints(1_000).toArray();
+        int[] expected = actual.clone();
+        Arrays.sort(expected, 3, 997);
+
+        VectorizedSort.sort(actual, 3, 997);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #6: Asserts the sort method orders -0.0 before 0.0 and NaN last in an array of
+    // primitive floats, keeping the bits of every NaN
+    @Test
+    void sortsPrimitiveFloats() {
+        float negativeNaN = Float.intBitsToFloat(0xFFC00001);
+        float[] expected = {Float.NEGATIVE_INFINITY, -1.5f, -0.0f, 0.0f, 2.5f,
+                Float.POSITIVE_INFINITY, Float.NaN, negativeNaN};
+        float[] actual = {Float.NaN, 0.0f, negativeNaN, 2.5f, -0.0f, Float.POSITIVE_INFINITY,
+                Float.NEGATIVE_INFINITY, -1.5f};
+
+        VectorizedSort.sort(actual);
+
+        assertArrayEquals(Arrays.copyOf(expected, 6), Arrays.copyOf(actual, 6));
+        int[] nans = {Float.floatToRawIntBits(actual[6]), Float.floatToRawIntBits(actual[7])};
+        Arrays.sort(nans);
+        assertArrayEquals(new int[]{Float.floatToRawIntBits(negativeNaN),
+                Float.floatToRawIntBits(Float.NaN)}, nans);
+    }
+
+    // Test #7: Asserts the sort method sorts large arrays of primitive floats
+    @Test
+    void sortsLargePrimitiveFloats() {
+        Random random = new Random(7);
+        float[] actual = new float[10_000];
+        for (int i = 0; i < actual.length; i++)
+            actual[i] = random.nextInt(10) == 0 ? -0.0f : (float) random.nextGaussian();
+        float[] expected = actual.clone();
+        Arrays.sort(expected);
+
+        VectorizedSort.sort(actual);
+
+        assertArrayEquals(expected, actual);
+    }
+
+    // Test #8: Asserts the sort method rejects a range outside of the array
+    @Test
+    void throwsExceptionWithInvalidRange() {
+        int[] actual = {2, 3, 4, 1, 5};
+
+        assertThrows(IllegalArgumentException.class, () -> VectorizedSort.sort(actual, 3, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> VectorizedSort.sort(actual, -1, 2));
+    }
+}
\ No newline at end of file